@@ -0,0 +1,157 @@
+package io.github.kgress.scaffold.benchmarks;
+
+import io.github.kgress.scaffold.BaseComponent;
+import io.github.kgress.scaffold.BasePage;
+import io.github.kgress.scaffold.ElementFactory;
+import io.github.kgress.scaffold.webelements.ButtonWebElement;
+import io.github.kgress.scaffold.webelements.DivWebElement;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.Getter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openqa.selenium.By;
+
+/**
+ * Measures creating the components and elements of a 500 row component list. No browser is used,
+ * since creating elements and components doesn't call WebDriver.
+ * <p>
+ * {@link #buildComponentList()} builds the list with {@link BaseComponent}, the same way a page
+ * object does. The other benchmarks create the same instances, a component and three elements for
+ * every row, in different ways:
+ * <ul>
+ *   <li>{@link #elementFactory(Blackhole)} with the {@link MethodHandle}s kept by
+ *   {@link ElementFactory}, which are looked up by class and parameter types for every
+ *   instance</li>
+ *   <li>{@link #cachedConstructor(Blackhole)} with {@link Constructor}s held in fields</li>
+ *   <li>{@link #methodHandle(Blackhole)} with {@link MethodHandle}s held in fields, adapted the
+ *   same way {@link ElementFactory} adapts them</li>
+ *   <li>{@link #getConstructor(Blackhole)} by looking up the constructor for every instance, which
+ *   is what Scaffold did before {@link ElementFactory}</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComponentListBenchmark {
+
+  private static final int ROWS = 500;
+
+  private final InventoryPage inventoryPage = new InventoryPage();
+  private List<DivWebElement> rows;
+  private List<By> rowBys;
+  private Constructor<InventoryItem> componentConstructor;
+  private Constructor<DivWebElement> divConstructor;
+  private Constructor<ButtonWebElement> buttonConstructor;
+  private MethodHandle componentHandle;
+  private MethodHandle divHandle;
+  private MethodHandle buttonHandle;
+
+  @Setup
+  public void setup() throws ReflectiveOperationException {
+    rowBys = IntStream.rangeClosed(1, ROWS)
+        .mapToObj(row -> By.cssSelector(String.format(".inventory_item:nth-child(%s)", row)))
+        .collect(Collectors.toList());
+    rows = rowBys.stream()
+        .map(DivWebElement::new)
+        .collect(Collectors.toList());
+    componentConstructor = InventoryItem.class.getConstructor();
+    divConstructor = DivWebElement.class.getConstructor(By.class);
+    buttonConstructor = ButtonWebElement.class.getConstructor(By.class);
+    componentHandle = spreadConstructor(InventoryItem.class);
+    divHandle = spreadConstructor(DivWebElement.class, By.class);
+    buttonHandle = spreadConstructor(ButtonWebElement.class, By.class);
+  }
+
+  @Benchmark
+  public List<InventoryItem> buildComponentList() {
+    return inventoryPage.getInventoryItems(rows);
+  }
+
+  @Benchmark
+  public void elementFactory(Blackhole blackhole) throws ReflectiveOperationException {
+    for (var rowBy : rowBys) {
+      blackhole.consume(ElementFactory.newComponent(InventoryItem.class));
+      blackhole.consume(ElementFactory.newElement(DivWebElement.class, rowBy));
+      blackhole.consume(ElementFactory.newElement(DivWebElement.class, rowBy));
+      blackhole.consume(ElementFactory.newElement(ButtonWebElement.class, rowBy));
+    }
+  }
+
+  @Benchmark
+  public void cachedConstructor(Blackhole blackhole) throws ReflectiveOperationException {
+    for (var rowBy : rowBys) {
+      blackhole.consume(componentConstructor.newInstance());
+      blackhole.consume(divConstructor.newInstance(rowBy));
+      blackhole.consume(divConstructor.newInstance(rowBy));
+      blackhole.consume(buttonConstructor.newInstance(rowBy));
+    }
+  }
+
+  @Benchmark
+  public void methodHandle(Blackhole blackhole) throws Throwable {
+    for (var rowBy : rowBys) {
+      blackhole.consume(componentHandle.invokeExact(new Object[0]));
+      blackhole.consume(divHandle.invokeExact(new Object[]{rowBy}));
+      blackhole.consume(divHandle.invokeExact(new Object[]{rowBy}));
+      blackhole.consume(buttonHandle.invokeExact(new Object[]{rowBy}));
+    }
+  }
+
+  @Benchmark
+  public void getConstructor(Blackhole blackhole) throws ReflectiveOperationException {
+    for (var rowBy : rowBys) {
+      blackhole.consume(InventoryItem.class.getConstructor().newInstance());
+      blackhole.consume(DivWebElement.class.getConstructor(By.class).newInstance(rowBy));
+      blackhole.consume(DivWebElement.class.getConstructor(By.class).newInstance(rowBy));
+      blackhole.consume(ButtonWebElement.class.getConstructor(By.class).newInstance(rowBy));
+    }
+  }
+
+  private static MethodHandle spreadConstructor(Class<?> type, Class<?>... parameterTypes)
+      throws ReflectiveOperationException {
+    return MethodHandles.lookup()
+        .unreflectConstructor(type.getConstructor(parameterTypes))
+        .asType(MethodType.genericMethodType(parameterTypes.length))
+        .asSpreader(Object[].class, parameterTypes.length);
+  }
+
+  /**
+   * A row of the inventory list, with the elements the benchmarks create for every row.
+   */
+  @Getter
+  public static class InventoryItem extends BaseComponent {
+
+    private final DivWebElement itemName = new DivWebElement(".inventory_item_name");
+    private final DivWebElement itemPrice = new DivWebElement(".inventory_item_price");
+    private final ButtonWebElement addToCart = new ButtonWebElement(".btn_primary");
+  }
+
+  /**
+   * The page the inventory list is built on.
+   */
+  public static class InventoryPage extends BasePage {
+
+    List<InventoryItem> getInventoryItems(List<DivWebElement> rows) {
+      return buildComponentList(rows, InventoryItem.class);
+    }
+  }
+}
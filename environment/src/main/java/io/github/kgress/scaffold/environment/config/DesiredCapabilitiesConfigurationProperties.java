@@ -4,10 +4,13 @@ import io.github.kgress.scaffold.models.enums.desktop.BrowserType;
 import io.github.kgress.scaffold.models.enums.desktop.Platform;
 import io.github.kgress.scaffold.models.enums.desktop.RunType;
 import io.github.kgress.scaffold.models.enums.desktop.ScreenResolution;
+import io.github.kgress.scaffold.models.enums.driver.DriverStartupType;
+import io.github.kgress.scaffold.models.enums.driver.ElementLocateStrategy;
 import io.github.kgress.scaffold.models.enums.mobileemulator.*;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
+import org.openqa.selenium.PageLoadStrategy;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
@@ -94,6 +97,54 @@ public class DesiredCapabilitiesConfigurationProperties {
    */
   private Long waitTimeoutInSeconds = 5L;
 
+  /**
+   * Optional. Keeps the browser open at the end of a test and reuses it for the next test on the
+   * same thread instead of quitting it. Between tests, the browser is reset by closing extra
+   * windows, clearing cookies and web storage, and navigating to a blank page. If the reset fails,
+   * the browser is quit and a new one is started for the next test.
+   * <p>
+   * Defaults to false. When {@link DriverPool#isEnabled()} is also true, the driver pool takes
+   * precedence.
+   */
+  private boolean reuseSessions = false;
+
+  /**
+   * Optional. Sets when the browser for a test is started, depicted by {@link DriverStartupType}.
+   * Defaults to {@link DriverStartupType#SYNCHRONOUS}, which starts the browser during test setup
+   * and waits for it.
+   * <p>
+   * {@link DriverStartupType#ASYNCHRONOUS} starts the browser on a background thread so that the
+   * rest of your test setup, such as API calls for test data, can run while the browser boots. The
+   * test only waits for the browser when it first uses it.
+   * <p>
+   * {@link DriverStartupType#LAZY} only starts the browser when the test first uses it. Tests that
+   * are skipped by an assumption or only make API calls never start a browser.
+   */
+  private DriverStartupType driverStartupType = DriverStartupType.SYNCHRONOUS;
+
+  /**
+   * Optional. Sets how elements are found when they're interacted with, depicted by
+   * {@link ElementLocateStrategy}. Defaults to {@link ElementLocateStrategy#WEBDRIVER}, which waits
+   * for the element to be displayed and finds it with separate WebDriver commands.
+   * <p>
+   * {@link ElementLocateStrategy#SCRIPT} finds the element and waits for it to be displayed with a
+   * single script that polls inside the browser. This saves round trips on remote run types.
+   * Elements whose locators can't be run in a script, such as link text, are still found with
+   * WebDriver commands.
+   */
+  private ElementLocateStrategy elementLocateStrategy = ElementLocateStrategy.WEBDRIVER;
+
+  /**
+   * Optional. Sets the page load strategy of the browser, depicted by {@link PageLoadStrategy}.
+   * Defaults to {@link PageLoadStrategy#NORMAL}, which waits for the page and all of its assets to
+   * load on navigation.
+   * <p>
+   * {@link PageLoadStrategy#EAGER} returns from navigation once the DOM is ready, without waiting
+   * for images, stylesheets and third party assets. Use it along with {@link PageReadiness} so that
+   * page verification waits for the page's own requests rather than every asset on it.
+   */
+  private PageLoadStrategy pageLoadStrategy = PageLoadStrategy.NORMAL;
+
   /**
    * Not currently in use.
    * <p>
@@ -119,6 +170,60 @@ public class DesiredCapabilitiesConfigurationProperties {
    */
   private final AWSLambda awsLambda = new AWSLambda();
 
+  /**
+   * Creates a new {@link DriverPool} in the event the test execution should lease pre-started
+   * browsers from a pool instead of starting a new browser for every test.
+   */
+  private final DriverPool driverPool = new DriverPool();
+
+  /**
+   * Creates a new {@link DriverTeardown} in the event browsers should be quit in the background
+   * instead of on the test thread.
+   */
+  private final DriverTeardown driverTeardown = new DriverTeardown();
+
+  /**
+   * Creates a new {@link SharedDriverService} in the event local browsers should share long lived
+   * driver processes instead of starting a new one for every test.
+   */
+  private final SharedDriverService sharedDriverService = new SharedDriverService();
+
+  /**
+   * Creates a new {@link BrowserProfile} in the event local Chrome sessions should start from a
+   * cloned profile template and share a disk cache.
+   */
+  private final BrowserProfile browserProfile = new BrowserProfile();
+
+  /**
+   * Creates a new {@link SessionAdmission} in the event remote session requests should be limited
+   * and retried.
+   */
+  private final SessionAdmission sessionAdmission = new SessionAdmission();
+
+  /**
+   * Creates a new {@link CircuitBreaker} in the event remote session requests should fail right
+   * away while the remote endpoint is down.
+   */
+  private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+  /**
+   * Creates a new {@link PageSnapshot} in the event element reads on page objects should be served
+   * from a snapshot of the page.
+   */
+  private final PageSnapshot pageSnapshot = new PageSnapshot();
+
+  /**
+   * Creates a new {@link PageReadiness} in the event page load waits should track the page's
+   * requests and animations instead of polling the document ready state.
+   */
+  private final PageReadiness pageReadiness = new PageReadiness();
+
+  /**
+   * Creates a new {@link ObservedWait} in the event element condition waits should run in the
+   * browser instead of polling from the test.
+   */
+  private final ObservedWait observedWait = new ObservedWait();
+
   /**
    * SauceAuthentication configuration properties are used for setting Sauce credentials up in your
    * Spring profile.
@@ -270,4 +375,322 @@ public class DesiredCapabilitiesConfigurationProperties {
      */
     private String userDataDir;
   }
+
+  /**
+   * DriverPool configuration properties are used for keeping a pool of warm browsers that tests
+   * lease during setup and return during tear down. Browser startup is usually the slowest part of
+   * a test, especially against a Grid or Sauce, so reusing a started browser across tests can cut
+   * a large amount of time from a test run.
+   * <p>
+   * Pools are keyed by the browser configuration, so every test sharing the same configuration
+   * shares the same pool.
+   */
+  @Getter
+  @Setter
+  public static class DriverPool {
+
+    /**
+     * Optional. Enables the driver pool. Defaults to false, which starts and quits a new browser
+     * for every test.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Optional. The amount of idle browsers the pool will try to keep started in the background.
+     * Defaults to 0, which only starts browsers when a test asks for one.
+     */
+    private int minSize = 0;
+
+    /**
+     * Optional. The maximum amount of browsers, idle and leased, the pool will allow at once.
+     * Defaults to 20 to match the default parallelism.
+     */
+    private int maxSize = 20;
+
+    /**
+     * Optional. The amount of seconds a browser can live before it's quit and replaced. Defaults to
+     * 0, which disables the age check.
+     */
+    private long maxAgeInSeconds = 0L;
+
+    /**
+     * Optional. The amount of tests a browser can serve before it's quit and replaced. Defaults to
+     * 0, which disables the use count check.
+     */
+    private int maxUses = 0;
+
+    /**
+     * Optional. The amount of seconds a test will wait for a browser when the pool is at its
+     * maximum size. Defaults to 120 seconds.
+     */
+    private long leaseTimeoutInSeconds = 120L;
+
+    /**
+     * Optional. How often, in milliseconds, the pool checks if it needs to start new browsers to
+     * meet the {@link #minSize}. Defaults to 500 milliseconds.
+     */
+    private long refillIntervalInMillis = 500L;
+  }
+
+  /**
+   * DriverTeardown configuration properties are used for quitting browsers on a background
+   * executor at the end of a test. Quitting a remote browser can take several seconds, and without
+   * this the test thread waits on it before moving on to the next test.
+   * <p>
+   * The executor is bounded. When {@link #maxPendingQuits} is reached, the test thread quits its
+   * own browser, which keeps a slow remote from building up an unbounded amount of open browsers.
+   */
+  @Getter
+  @Setter
+  public static class DriverTeardown {
+
+    /**
+     * Optional. Quits browsers on a background executor. Defaults to false, which quits the browser
+     * on the test thread.
+     */
+    private boolean asynchronous = false;
+
+    /**
+     * Optional. The amount of browsers that can be quitting at once. Defaults to 4.
+     */
+    private int maxConcurrentQuits = 4;
+
+    /**
+     * Optional. The amount of browsers that can be waiting to be quit. Once reached, the test
+     * thread quits its own browser. Defaults to 50.
+     */
+    private int maxPendingQuits = 50;
+
+    /**
+     * Optional. The amount of seconds the JVM will wait for pending quits to finish when it shuts
+     * down. Defaults to 60 seconds.
+     */
+    private long shutdownTimeoutInSeconds = 60L;
+  }
+
+  /**
+   * SharedDriverService configuration properties are used for sharing chromedriver processes across
+   * {@link RunType#LOCAL} and {@link RunType#HEADLESS} sessions. Without this, every test starts its
+   * own driver process on a new port and stops it when the browser is quit.
+   * <p>
+   * Only Chrome is supported. geckodriver allows one session per process, so Firefox and other
+   * browser types start their own driver process as usual.
+   */
+  @Getter
+  @Setter
+  public static class SharedDriverService {
+
+    /**
+     * Optional. Enables shared driver processes. Defaults to false.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Optional. The amount of driver processes sessions are spread across. A single chromedriver
+     * process can serve many sessions at once, so this defaults to 1.
+     */
+    private int poolSize = 1;
+  }
+
+  /**
+   * BrowserProfile configuration properties are used for starting {@link RunType#LOCAL} and
+   * {@link RunType#HEADLESS} Chrome sessions from a warm profile instead of an empty one. Every
+   * session gets its own copy of a profile template, and sessions can share a disk cache so static
+   * assets are downloaded once per run instead of once per test.
+   * <p>
+   * This is not applied when a remote URL is configured, since the profile would need to exist on
+   * the remote machine. {@link AWSLambda} has its own profile settings.
+   */
+  @Getter
+  @Setter
+  public static class BrowserProfile {
+
+    /**
+     * Optional. Enables profile cloning and the shared disk cache. Defaults to false.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Optional. The user data directory of a prepared Chrome profile to clone for every session.
+     * When not set, the HTTP cache and code cache of the first session of the run become the
+     * template once its browser is quit. The rest of that profile is never cloned.
+     */
+    private String templateDir;
+
+    /**
+     * Optional. The directory the cloned profiles are written to. Defaults to /dev/shm when
+     * available so that clones are kept in memory, and the temp directory otherwise.
+     */
+    private String cloneDir;
+
+    /**
+     * Optional. A disk cache directory shared by every session. For example, /dev/shm/scaffold-cache
+     */
+    private String sharedDiskCacheDir;
+  }
+
+  /**
+   * SessionAdmission configuration properties are used for limiting the amount of new remote
+   * session requests sent to a Grid or Sauce at once. Without this, every test thread asks for a
+   * session at the same moment at the start of a run, and some of those requests time out in the
+   * hub's queue.
+   * <p>
+   * The limit starts at {@link #initialLimit} and adapts between {@link #minLimit} and
+   * {@link #maxLimit} based on how quickly sessions are created and how often they fail. Failed
+   * session requests are retried with a jittered backoff.
+   */
+  @Getter
+  @Setter
+  public static class SessionAdmission {
+
+    /**
+     * Optional. Enables session admission control. Defaults to false.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Optional. The amount of session requests allowed at once when the run starts. Defaults to 5.
+     */
+    private int initialLimit = 5;
+
+    /**
+     * Optional. The lowest the limit will go after failures or slow sessions. Defaults to 1.
+     */
+    private int minLimit = 1;
+
+    /**
+     * Optional. The highest the limit will go after fast sessions. Defaults to 20 to match the
+     * default parallelism.
+     */
+    private int maxLimit = 20;
+
+    /**
+     * Optional. Sessions created slower than this lower the limit. Defaults to 30 seconds.
+     */
+    private long targetLatencyInSeconds = 30L;
+
+    /**
+     * Optional. The amount of times a session request is attempted before failing the test.
+     * Defaults to 3.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * Optional. The backoff before the first retry. Each retry doubles it, and the actual wait is a
+     * random time up to the backoff. Defaults to 1000 milliseconds.
+     */
+    private long initialBackoffInMillis = 1000L;
+
+    /**
+     * Optional. The most a backoff can grow to. Defaults to 30000 milliseconds.
+     */
+    private long maxBackoffInMillis = 30000L;
+  }
+
+  /**
+   * CircuitBreaker configuration properties are used for failing remote session requests right
+   * away when the Grid or Sauce endpoint is down. Without this, every remaining test waits on the
+   * full connect timeout before failing.
+   * <p>
+   * After {@link #failureThreshold} failed session requests in a row, every session request fails
+   * right away for {@link #openDurationInSeconds}. After that, a single session request is sent to
+   * check if the endpoint has recovered.
+   */
+  @Getter
+  @Setter
+  public static class CircuitBreaker {
+
+    /**
+     * Optional. Enables the circuit breaker. Defaults to false.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Optional. The amount of failed session requests in a row that opens the circuit breaker.
+     * Defaults to 3.
+     */
+    private int failureThreshold = 3;
+
+    /**
+     * Optional. How long session requests fail right away before a single session request is sent
+     * to check for recovery. Defaults to 60 seconds.
+     */
+    private long openDurationInSeconds = 60L;
+  }
+
+  /**
+   * PageSnapshot configuration properties are used for serving element reads on page objects from
+   * a snapshot of the page, instead of a WebDriver command for every read.
+   * <p>
+   * Once a page is verified, the elements declared on it are read with a single script, and a
+   * MutationObserver is added to the page to count changes to the DOM. Reads such as getText and
+   * isDisplayed are served from the snapshot. The snapshot is checked against the DOM again after
+   * the page is navigated, after an element is interacted with, or once it's older than
+   * {@link #maxAgeInMillis}. It's only read again when the DOM has changed.
+   */
+  @Getter
+  @Setter
+  public static class PageSnapshot {
+
+    /**
+     * Optional. Enables page snapshots. Defaults to false.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Optional. How long reads are served from the snapshot before checking the DOM for changes
+     * made by the page itself, such as a response to a request. Defaults to 500 milliseconds.
+     */
+    private long maxAgeInMillis = 500L;
+  }
+
+  /**
+   * PageReadiness configuration properties are used for waiting on the page to go quiet, instead of
+   * polling the document ready state, whenever Scaffold waits for a page to load.
+   * <p>
+   * A tracker is added to the page that counts in-flight fetch and XMLHttpRequest requests and
+   * notes route changes made through the history API. A page load wait is then a single script that
+   * resolves once the DOM is ready, no requests are in flight, no finite animations are running, and
+   * nothing has happened for {@link #quietPeriodInMillis}. Requests started before the tracker is
+   * added to a page aren't counted.
+   */
+  @Getter
+  @Setter
+  public static class PageReadiness {
+
+    /**
+     * Optional. Enables the page readiness tracker. Defaults to false.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Optional. How long the page has to be quiet before it's considered ready. Defaults to 100
+     * milliseconds.
+     */
+    private long quietPeriodInMillis = 100L;
+
+    /**
+     * Optional. Whether running animations with an end, such as transitions, keep the page from
+     * being ready. Animations that repeat forever, such as spinners, are never waited on. Defaults
+     * to true.
+     */
+    private boolean trackAnimations = true;
+  }
+
+  /**
+   * ObservedWait configuration properties are used for waiting on element conditions in the
+   * browser, instead of polling them from the test.
+   * <p>
+   * Waits for an element's text, class or enabled state are a single script that checks the
+   * condition whenever the DOM changes, using a MutationObserver, and resolves as soon as it's met.
+   */
+  @Getter
+  @Setter
+  public static class ObservedWait {
+
+    /**
+     * Optional. Enables waiting on element conditions in the browser. Defaults to false.
+     */
+    private boolean enabled = false;
+  }
 }
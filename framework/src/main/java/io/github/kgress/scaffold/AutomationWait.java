@@ -30,12 +30,14 @@ import org.openqa.selenium.support.ui.WebDriverWait;
  * could be an area of improvement required with Scaffold (e.g., perhaps a missing feature). Be sure to take advantage
  * of {@link BasePage#verifyIsOnPage(BaseWebElement...)} for all of your page objects to ensure the page is loaded
  * and verified prior to interacting with it.
+ *
+ * The waits on an element's text, class and enabled state are checked in the browser with {@link ObservedWait} when
+ * observed waits are enabled, instead of being polled from the test.
  */
 @Slf4j
 @Getter
 public class AutomationWait {
 
-    private final static String CLASS_ATTRIBUTE = "class";
 
     @Getter
     private final WebDriverWrapper webDriverWrapper;
@@ -130,6 +132,9 @@ public class AutomationWait {
      * @return                      as {@link Boolean}
      */
     public Boolean waitForTextToContain(BaseWebElement element, String text, Long setTempTimeout) {
+        if (ObservedWait.isEnabled(getWebDriverWrapper())) {
+            return waitInBrowser(element, ObservedWait.Condition.TEXT_CONTAINS, text, setTempTimeout);
+        }
         return waitForCustomCondition(input -> element.getText().contains(text), setTempTimeout);
     }
 
@@ -153,6 +158,9 @@ public class AutomationWait {
      * @return                      as {@link Boolean}
      */
     public Boolean waitUntilElementIsEnabled(BaseWebElement element, Long setTempTimeout) {
+        if (ObservedWait.isEnabled(getWebDriverWrapper())) {
+            return waitInBrowser(element, ObservedWait.Condition.ENABLED, null, setTempTimeout);
+        }
         return waitForCustomCondition(input -> element.isEnabled(), setTempTimeout);
     }
 
@@ -177,9 +185,10 @@ public class AutomationWait {
      * @return                      as {@link Boolean}
      */
     public Boolean waitForElementToHaveClass(BaseWebElement element, String className, Long setTempTimeout) {
-        return waitForCustomCondition(ExpectedConditions.attributeContains(
-                element.getRawWebElement(), CLASS_ATTRIBUTE, className), setTempTimeout
-        );
+        if (ObservedWait.isEnabled(getWebDriverWrapper())) {
+            return waitInBrowser(element, ObservedWait.Condition.HAS_CLASS, className, setTempTimeout);
+        }
+        return waitForCustomCondition(input -> element.hasClass(className), setTempTimeout);
     }
 
     /**
@@ -205,9 +214,10 @@ public class AutomationWait {
      * @return                      as {@link Boolean}
      */
     public Boolean waitForElementToNotHaveClass(BaseWebElement element, String className, Long setTempTimeout) {
-        return waitForCustomCondition(ExpectedConditions.not(
-                        ExpectedConditions.attributeContains(element.getRawWebElement(), CLASS_ATTRIBUTE, className)
-                ), setTempTimeout);
+        if (ObservedWait.isEnabled(getWebDriverWrapper())) {
+            return waitInBrowser(element, ObservedWait.Condition.NOT_HAS_CLASS, className, setTempTimeout);
+        }
+        return waitForCustomCondition(input -> !element.hasClass(className), setTempTimeout);
     }
 
     /**
@@ -231,6 +241,9 @@ public class AutomationWait {
      * It is unnecessary to call this again after a page has loaded. However, this might come in handy when
      * interactions on your web page change the state of the dom.
      *
+     * When page readiness is enabled, this waits with {@link PageReadinessWait} instead, which also waits for
+     * in-flight requests, running animations and route changes to settle.
+     *
      * @param setTempTimeout        an option to temporarily set the timeout to a value other than what's set
      *                              in the spring profile
      * @return                      as {@link Boolean}
@@ -252,6 +265,10 @@ public class AutomationWait {
      * @return                      as {@link Boolean}
      */
     Boolean waitUntilPageIsLoaded(Long setTempTimeout, int retryCount) {
+        if (PageReadinessWait.isEnabled(getWebDriverWrapper())) {
+            return PageReadinessWait.waitUntilReady(getWebDriverWrapper(),
+                    setTempTimeout != null ? setTempTimeout : getTimeoutInSeconds());
+        }
         var domReadyStateScript = "return document.readyState";
         try {
             return waitForCustomCondition(page -> getWebDriverWrapper()
@@ -309,6 +326,22 @@ public class AutomationWait {
         return waitUntilDisplayed(element, null);
     }
 
+    /**
+     * Waits for a condition on an element in the browser with {@link ObservedWait}.
+     *
+     * @param element               the {@link BaseWebElement} we are waiting on
+     * @param condition             the {@link ObservedWait.Condition} to wait for
+     * @param value                 the value of the condition
+     * @param setTempTimeout        an option to temporarily set the timeout to a value other than what's set
+     *                              in the spring profile
+     * @return                      as {@link Boolean}
+     */
+    private Boolean waitInBrowser(BaseWebElement element, ObservedWait.Condition condition, String value,
+                                  Long setTempTimeout) {
+        return ObservedWait.waitFor(getWebDriverWrapper(), element, condition, value,
+                setTempTimeout != null ? setTempTimeout : getTimeoutInSeconds());
+    }
+
     /**
      * Creates a new {@link WebDriverWait} using the defined timeout in seconds
      *
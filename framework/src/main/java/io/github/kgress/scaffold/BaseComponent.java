@@ -2,12 +2,11 @@ package io.github.kgress.scaffold;
 
 import io.github.kgress.scaffold.exception.ComponentException;
 import io.github.kgress.scaffold.exception.WebDriverWrapperException;
-import io.github.kgress.scaffold.util.AutomationUtils;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.IntStream;
 import lombok.extern.slf4j.Slf4j;
@@ -76,6 +75,18 @@ import org.openqa.selenium.interactions.Actions;
 @Slf4j
 public class BaseComponent {
 
+  /*
+   The generated ComponentRebase for each component class, or empty when the component doesn't
+   have one. Looked up once per class.
+   */
+  private static final ClassValue<Optional<ComponentRebase<?>>> COMPONENT_REBASES =
+      new ClassValue<>() {
+        @Override
+        protected Optional<ComponentRebase<?>> computeValue(Class<?> component) {
+          return findComponentRebase(component);
+        }
+      };
+
   /**
    * Builds a list of a {@link BaseComponent}'s using an already found list of elements from a
    * web page by converting the {@link BaseComponent}'s fields to accessible and then mapping a
@@ -200,6 +211,10 @@ public class BaseComponent {
    * }
    * }
    * </pre>
+   * <p>
+   * When the component is marked with {@link GenerateRebase} and the Scaffold processor has
+   * generated a {@link ComponentRebase} for it, the generated class is used to convert the fields
+   * instead of reflection.
    *
    * @param listOfElements the list of elements to iterate through and convert to components
    * @param component      the {@link BaseComponent} class of the component we are converting the
@@ -237,42 +252,172 @@ public class BaseComponent {
 
             /*
              Check to make sure the By locator for the parent is a type of CSS selector, where
-             type is anything other than XPATH. Then, get the underlying locator as string.
+             type is anything other than XPATH. Then, get the locator as a CSS selector.
              */
             if (elementBy instanceof By.ByXPath || elementParentBy instanceof By.ByXPath) {
               throw new ComponentException("Scaffold currently cannot build component lists using "
                   + "XPATH. Please use By locators that are a type of Css selector.");
             }
-            var underlyingSelector = AutomationUtils.getUnderlyingLocatorByString(elementBy);
-
-            /*
-             Create a new instance of the component passed in by the caller. The class
-             extending off of BaseComponent should not have a non-empty constructor, otherwise
-             this new instance will fail to init.
-             */
-            var componentInstance = component.getConstructor().newInstance();
-
-            /*
-             Iterate through the list of fields on the new instance of the component.
-             We should only convert strong typed Scaffold elements but allow for
-             additional fields, such as Strings (e.g. if Strings are being used as
-             locators).
-             */
-            convertFieldsWithNewLocator(componentInstance, underlyingSelector);
+            var underlyingSelector = listOfElements.get(index).getLocator().getCss();
 
             /*
              After the fields have been converted on the new instance of the component,
              add it to the list that we will return to the caller.
              */
-            listOfComponents.add(componentInstance);
-          } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-              NoSuchMethodException e) {
+            listOfComponents.add(createComponent(component, underlyingSelector));
+          } catch (ReflectiveOperationException e) {
             throw new ComponentException(e);
           }
         });
     return listOfComponents;
   }
 
+  /**
+   * Builds a lazy list of components from the rows under a container element. Unlike
+   * {@link #buildComponentList(List, Class)}, the rows don't have to be found first. The number of
+   * rows is read with a single script the first time the list is used, and a component is only
+   * created when its row is accessed. See {@link ComponentList} for how the rows are indexed.
+   * <p>
+   * Example Page Object:
+   * <pre>{@code
+   * &#64;Getter
+   * public class SearchResultsPage extends BasePage {
+   *    private final DivWebElement inventoryListContainer = new DivWebElement(".inventory_list");
+   *
+   *    public ComponentList<SearchResultItem> getSearchResultsList() {
+   *      return buildComponentList(getInventoryListContainer(), By.cssSelector(".inventory_item"),
+   *          SearchResultItem.class);
+   *    }
+   * }
+   * }
+   * </pre>
+   *
+   * @param container the element the rows are under
+   * @param rowBy     the {@link By} locator of the rows, relative to the container
+   * @param component the {@link BaseComponent} class of the rows
+   * @param <T>       the type reference for the components must extend {@link BaseComponent}
+   * @return as a lazy {@link ComponentList}
+   */
+  protected <T extends BaseComponent> ComponentList<T> buildComponentList(
+      BaseWebElement container, By rowBy, Class<T> component) {
+    return new ComponentList<>(container, rowBy, component, false);
+  }
+
+  /**
+   * Builds a lazy list of components from the rows under an infinite scroll container. This is the
+   * same as {@link #buildComponentList(BaseWebElement, By, Class)}, except that iterating past the
+   * last loaded row scrolls the container to load more rows. See
+   * {@link ComponentList#loadMore()}.
+   *
+   * @param container the element the rows are under
+   * @param rowBy     the {@link By} locator of the rows, relative to the container
+   * @param component the {@link BaseComponent} class of the rows
+   * @param <T>       the type reference for the components must extend {@link BaseComponent}
+   * @return as a lazy {@link ComponentList}
+   */
+  protected <T extends BaseComponent> ComponentList<T> buildScrollingComponentList(
+      BaseWebElement container, By rowBy, Class<T> component) {
+    return new ComponentList<>(container, rowBy, component, true);
+  }
+
+  /**
+   * Builds a lazy list of components from the rows under an infinite scroll container, with the
+   * time the page has to be quiet after scrolling before the end of the list is reached. Use a
+   * longer settle time for lists that show nothing for a while before loading more rows. See
+   * {@link #buildScrollingComponentList(BaseWebElement, By, Class)}.
+   *
+   * @param container          the element the rows are under
+   * @param rowBy              the {@link By} locator of the rows, relative to the container
+   * @param component          the {@link BaseComponent} class of the rows
+   * @param settleTimeInMillis how long the page has to be quiet after scrolling before there are
+   *                           no more rows, instead of
+   *                           {@link ComponentList#DEFAULT_SETTLE_TIME_IN_MILLIS}
+   * @param <T>                the type reference for the components must extend
+   *                           {@link BaseComponent}
+   * @return as a lazy {@link ComponentList}
+   */
+  protected <T extends BaseComponent> ComponentList<T> buildScrollingComponentList(
+      BaseWebElement container, By rowBy, Class<T> component, long settleTimeInMillis) {
+    return new ComponentList<>(container, rowBy, component, true, settleTimeInMillis);
+  }
+
+  /**
+   * Creates a new instance of a component with every element on it rebased under a parent
+   * selector.
+   *
+   * @param component      the {@link BaseComponent} class
+   * @param parentSelector the CSS selector every element on the component is rebased under
+   * @param <T>            the type reference of {@link BaseComponent}
+   * @return as the new component
+   * @throws ReflectiveOperationException when the component can't be created or rebased
+   */
+  static <T extends BaseComponent> T createComponent(Class<T> component, String parentSelector)
+      throws ReflectiveOperationException {
+    /*
+     Create a new instance of the component passed in by the caller. The class
+     extending off of BaseComponent should not have a non-empty constructor, otherwise
+     this new instance will fail to init.
+     */
+    var componentInstance = ElementFactory.newComponent(component);
+
+    /*
+     Iterate through the list of fields on the new instance of the component.
+     We should only convert strong typed Scaffold elements but allow for
+     additional fields, such as Strings (e.g. if Strings are being used as
+     locators). A generated ComponentRebase does this without reflection.
+     */
+    var componentRebase = getComponentRebase(component);
+    if (componentRebase.isPresent()) {
+      componentRebase.get().rebase(componentInstance, parentSelector);
+    } else {
+      convertFieldsWithNewLocator(componentInstance, parentSelector);
+    }
+    return componentInstance;
+  }
+
+  /**
+   * Gets the {@link ComponentRebase} generated for a component.
+   *
+   * @param component the {@link BaseComponent} class
+   * @param <T>       the type reference of {@link BaseComponent}
+   * @return as {@link Optional} of {@link ComponentRebase}, empty when one wasn't generated
+   */
+  @SuppressWarnings("unchecked")
+  static <T extends BaseComponent> Optional<ComponentRebase<T>> getComponentRebase(
+      Class<T> component) {
+    return COMPONENT_REBASES.get(component).map(rebase -> (ComponentRebase<T>) rebase);
+  }
+
+  /**
+   * Loads the {@link ComponentRebase} generated for a component. The generated class is in the same
+   * package as the component, and is named after the component and any classes it's nested in.
+   *
+   * @param component the {@link BaseComponent} class
+   * @return as {@link Optional} of {@link ComponentRebase}, empty when one wasn't generated
+   */
+  private static Optional<ComponentRebase<?>> findComponentRebase(Class<?> component) {
+    var packagePrefix = component.getPackageName().isEmpty()
+        ? ""
+        : component.getPackageName() + ".";
+    var rebaseName = packagePrefix + component.getName().substring(packagePrefix.length())
+        .replace('$', '_') + ComponentRebase.SUFFIX;
+    try {
+      var rebaseClass = Class.forName(rebaseName, true, component.getClassLoader());
+      if (!ComponentRebase.class.isAssignableFrom(rebaseClass)) {
+        return Optional.empty();
+      }
+      log.debug(String.format("Using generated [%s] to build lists of component [%s]", rebaseName,
+          component.getName()));
+      return Optional.of((ComponentRebase<?>) rebaseClass.getConstructor().newInstance());
+    } catch (ClassNotFoundException e) {
+      return Optional.empty();
+    } catch (ReflectiveOperationException e) {
+      throw new ComponentException(String.format(
+          "Could not create the generated [%s] for component [%s]", rebaseName,
+          component.getName()), e);
+    }
+  }
+
   /**
    * Converts {@link Field}'s from a class that extends off of {@link BaseComponent} from an
    * "inaccessible" state to "accessible." We will only convert Scaffold elements. Access is still
@@ -283,7 +428,7 @@ public class BaseComponent {
    * @param fullParentSelector the parent selector being used as the prefix
    * @param <T>                the type reference of {@link BaseComponent}
    */
-  private <T extends BaseComponent> void convertFieldsWithNewLocator(T componentInstance,
+  private static <T extends BaseComponent> void convertFieldsWithNewLocator(T componentInstance,
       String fullParentSelector) {
     var classFields = componentInstance.getClass().getDeclaredFields();
 
@@ -300,8 +445,7 @@ public class BaseComponent {
               field));
         }
         field.setAccessible(false);
-      } catch (InvocationTargetException | IllegalAccessException | NoSuchMethodException |
-          InstantiationException e) {
+      } catch (ReflectiveOperationException e) {
         throw new ComponentException(e);
       }
     });
@@ -319,17 +463,34 @@ public class BaseComponent {
    * @param <T>                the type reference {@link BaseComponent}
    * @param <X>                the type referece {@link BaseWebElement}
    */
-  private <T extends BaseComponent, X extends BaseWebElement> void convertField(T componentInstance,
-      X convertedElement, Field field, String fullParentSelector)
-      throws IllegalAccessException, NoSuchMethodException, InvocationTargetException,
-      InstantiationException {
-    var convertedElementUnderlyingLocator = AutomationUtils.getUnderlyingLocatorByString(
-        convertedElement.getBy());
-    var newByLocator = By.cssSelector(
-        String.format("%s %s", fullParentSelector, convertedElementUnderlyingLocator));
-    var constructor = convertedElement.getClass().getConstructor(By.class);
-    var newElement = constructor.newInstance(newByLocator);
-    field.set(componentInstance, newElement);
+  private static <T extends BaseComponent, X extends BaseWebElement> void convertField(
+      T componentInstance, X convertedElement, Field field, String fullParentSelector)
+      throws IllegalAccessException {
+    field.set(componentInstance, ComponentRebase.rebase(convertedElement, fullParentSelector));
+  }
+
+  /**
+   * Reads the properties of many elements with a single script. See {@link ElementBatchRead} for
+   * the properties that are read.
+   *
+   * @param batchRead the {@link ElementBatchRead} with the elements and attributes to read
+   * @return as a {@link Map} of each element to its {@link ElementSnapshot}
+   */
+  protected Map<BaseWebElement, ElementSnapshot> readElements(ElementBatchRead batchRead) {
+    return batchRead.read(getWebDriverWrapper());
+  }
+
+  /**
+   * Reads the properties of many elements with a single script, without any attributes. See
+   * {@link ElementBatchRead} for the properties that are read.
+   *
+   * @param elements the elements to read
+   * @return as a {@link Map} of each element to its {@link ElementSnapshot}
+   */
+  protected Map<BaseWebElement, ElementSnapshot> readElements(BaseWebElement... elements) {
+    var batchRead = new ElementBatchRead();
+    Arrays.stream(elements).forEach(batchRead::add);
+    return readElements(batchRead);
   }
 
   /**
@@ -367,7 +528,7 @@ public class BaseComponent {
    *
    * @return {@link WebDriverWrapper}
    */
-  private WebDriverWrapper getWebDriverWrapper() {
+  WebDriverWrapper getWebDriverWrapper() {
     var webDriverWrapper = TestContext.baseContext().getWebDriverContext().getWebDriverManager().getWebDriverWrapper();
     if (webDriverWrapper != null) {
       return webDriverWrapper;
@@ -46,6 +46,10 @@ public class BasePage extends BaseComponent {
    * For example, a login page will have an email and password input and would pass in those
    * elements as parameters. Don't use elements from headers or a logo that might appear across
    * every page on your website.
+   * <p>
+   * When {@link io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties.PageSnapshot}
+   * is enabled, every element declared on the page is then read into a {@link PageSnapshotCache}
+   * with a single script, and later reads on those elements are served from it.
    *
    * @param element the element(s) that will be checked if displayed
    * @return the {@link Boolean} value to determine if the page is correctly loaded
@@ -77,6 +81,11 @@ public class BasePage extends BaseComponent {
           .format("The intended page failed to load %s", getClass().getSimpleName())
       );
     }
+
+    var webDriverWrapper = getAutomationWait().getWebDriverWrapper();
+    if (PageSnapshotCache.isEnabled(webDriverWrapper)) {
+      PageSnapshotCache.attach(this, webDriverWrapper);
+    }
     return true;
   }
 }
@@ -1,11 +1,10 @@
 package io.github.kgress.scaffold;
 
-import static io.github.kgress.scaffold.util.AutomationUtils.getUnderlyingLocatorByString;
 import static java.util.logging.Level.SEVERE;
 import static java.util.logging.Level.WARNING;
 
 import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
-import io.github.kgress.scaffold.util.AutomationUtils;
+import io.github.kgress.scaffold.models.enums.driver.ElementLocateStrategy;
 import io.github.kgress.scaffold.webelements.BaseClickableWebElement;
 import io.github.kgress.scaffold.webelements.ButtonWebElement;
 import io.github.kgress.scaffold.webelements.CheckBoxWebElement;
@@ -16,20 +15,23 @@ import io.github.kgress.scaffold.webelements.ImageWebElement;
 import io.github.kgress.scaffold.webelements.InputWebElement;
 import io.github.kgress.scaffold.webelements.LinkWebElement;
 import io.github.kgress.scaffold.webelements.StaticTextWebElement;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
 import org.openqa.selenium.By;
 import org.openqa.selenium.Dimension;
 import org.openqa.selenium.NoSuchElementException;
@@ -58,6 +60,10 @@ import org.openqa.selenium.logging.LogEntry;
  * typed element is interacted with. This means it's ideal for use as class variables in a page
  * object to increase the performance of page object instantiation.
  * <p>
+ * Elements don't hold on to a browser when they're created. The {@link WebDriverWrapper} for the
+ * current thread is resolved on every interaction, and the {@link WebElementWait} is created on
+ * first use, so a page object's elements can be defined once and shared across tests and threads.
+ * <p>
  * Example scenario:
  * <pre>{@code
  *      &#64;Getter
@@ -105,6 +111,99 @@ import org.openqa.selenium.logging.LogEntry;
 @Slf4j
 public abstract class BaseWebElement {
 
+  /*
+   Arguments: the parent element, the CSS selector of the children, and the attribute name and value
+   the children are matched on. Returns how many elements under the parent match the selector, how
+   many immediate children the parent has and, when those differ, the indexes of the immediate
+   children whose attribute contains the value.
+   */
+  private static final String IMMEDIATE_CHILDREN_SCRIPT = ""
+      + "var parent = arguments[0], selector = arguments[1], attribute = arguments[2], "
+      + "value = arguments[3];"
+      + "var matchCount = parent.querySelectorAll(selector).length;"
+      + "var children = parent.children;"
+      + "var indexes = [];"
+      + "if (matchCount > 0 && matchCount !== children.length && attribute !== null) {"
+      + "  for (var i = 0; i < children.length; i++) {"
+      + "    var attributeValue = children[i].getAttribute(attribute);"
+      + "    if (attributeValue !== null && attributeValue.indexOf(value) !== -1) {"
+      + "      indexes.push(i);"
+      + "    }"
+      + "  }"
+      + "}"
+      + "return {matchCount: matchCount, childCount: children.length, indexes: indexes};";
+
+  /*
+   Arguments: the parent element, the CSS selector of the children, the sibling index to start from,
+   and the most indexes to return. Siblings are the elements with the same tag as the first match
+   under the first match's parent, the same as getAllSiblingElementsOfElement. Returns the sibling
+   indexes of the matches from the start index, the index to start the next chunk from, and whether
+   this is the last chunk.
+   */
+  private static final String ELEMENT_CHUNK_SCRIPT = ""
+      + "var parent = arguments[0], selector = arguments[1], offset = arguments[2], "
+      + "limit = arguments[3];"
+      + "var matches = parent.querySelectorAll(selector);"
+      + "if (matches.length === 0) {"
+      + "  return {indexes: [], nextOffset: 0, last: true};"
+      + "}"
+      + "var matched = new Set(matches);"
+      + "var siblings = matches[0].parentNode.getElementsByTagName(matches[0].tagName);"
+      + "var indexes = [];"
+      + "var i = offset;"
+      + "for (; i < siblings.length && indexes.length < limit; i++) {"
+      + "  if (matched.has(siblings[i])) {"
+      + "    indexes.push(i);"
+      + "  }"
+      + "}"
+      + "return {indexes: indexes, nextOffset: i, last: i >= siblings.length};";
+
+  /*
+   Arguments: the element, or null to find it, then the parent locator type and value, the locator
+   type and value, and whether the element has to be displayed. Scrolls the element into view only
+   when it isn't fully in the viewport. Returns null when the element to find isn't found or
+   displayed, otherwise the element and a marker set on the document. The marker is cleared when the
+   page starts to unload, and is gone from the new document once it has, so it's only still there
+   when the click didn't navigate.
+   */
+  private static final String PREPARE_CLICK_SCRIPT = ""
+      + ScriptElementLocator.FIND_FUNCTION
+      + ScriptElementLocator.IS_DISPLAYED_FUNCTION
+      + "var element = arguments[0];"
+      + "if (!element) {"
+      + "  var root = arguments[2] ? find(arguments[1], arguments[2], document) : document;"
+      + "  element = root ? find(arguments[3], arguments[4], root) : null;"
+      + "  if (!element || (arguments[5] && !isDisplayed(element))) {"
+      + "    return null;"
+      + "  }"
+      + "}"
+      + "var bounds = element.getBoundingClientRect();"
+      + "if (bounds.top < 0 || bounds.left < 0 || bounds.bottom > window.innerHeight"
+      + "    || bounds.right > window.innerWidth) {"
+      + "  element.scrollIntoView({block: 'nearest', inline: 'nearest'});"
+      + "}"
+      + "var marker = Date.now() + ':' + Math.random();"
+      + "document.__scaffoldClickMarker = marker;"
+      + "if (!window.__scaffoldClickUnload) {"
+      + "  window.__scaffoldClickUnload = true;"
+      + "  window.addEventListener('beforeunload', function () {"
+      + "    document.__scaffoldClickMarker = null;"
+      + "  });"
+      + "}"
+      + "return {element: element, marker: marker};";
+
+  /*
+   Arguments: the marker returned by the prepare click script. Returns true when the marker is still
+   on the document, meaning the page hasn't navigated or started to.
+   */
+  private static final String CLICK_MARKER_SCRIPT = ""
+      + "return document.__scaffoldClickMarker === arguments[0];";
+
+  /*
+   The number of elements streamElements reads at a time, unless another chunk size is given.
+   */
+  static final int DEFAULT_STREAM_CHUNK_SIZE = 500;
+
   @Getter
   private boolean isHidden = false;
 
@@ -131,17 +230,38 @@ public abstract class BaseWebElement {
   @Deprecated
   protected WebElement baseElement;
 
-  /**
-   * Gets the {@link WebElementWait} for the current {@link BaseWebElement} being interacted with.
+  /*
+   The parsed locators for by and parentBy, created on first use by getLocator and getParentLocator.
    */
-  @Getter
-  private WebElementWait webElementWait;
+  private volatile Locator locator;
+  private volatile Locator parentLocator;
+
+  /*
+   Created on first use by getWebElementWait, so that defining an element doesn't allocate anything
+   it may never need.
+   */
+  private volatile WebElementWait webElementWait;
+
+  /*
+   The element last found by getRawWebElement, along with the wrapper and navigation count it was
+   found with. It's reused until the wrapper navigates or the element goes stale. It's replaced as a
+   whole, so an element shared across threads never mixes one thread's element with another's
+   wrapper.
+   */
+  private volatile CachedElement cachedElement;
+
+  /*
+   The snapshot of the page this element is declared on, set by BasePage#verifyIsOnPage when
+   page snapshots are enabled. Reads are served from it when it has the element.
+   */
+  @Setter(AccessLevel.PACKAGE)
+  private volatile PageSnapshotCache pageSnapshotCache;
 
   /**
    * Create a new element using the supplied {@link By#cssSelector(String)}. This does not call or
    * invoke WebDriver in any way, nor does it try to find the element on a page. The element is used
-   * as a reference for use later. Once the element is set, we create a new {@link WebElementWait}
-   * for it.
+   * as a reference for use later. The {@link WebElementWait} for it is created on
+   * first use.
    * <p>
    * The advantage of using this constructor is to reduce code count when using
    * {@link By#cssSelector(String)} to instantiate your elements. It is highly recommended using
@@ -157,8 +277,8 @@ public abstract class BaseWebElement {
   /**
    * Create a new element using the supplied {@link By#cssSelector(String)} and mark whether it is
    * hidden. This does not call or invoke WebDriver in any way, nor does it try to find the element
-   * on a page. The element is used as a reference for use later. Once the element is set, we create
-   * a new {@link WebElementWait} for it.
+   * on a page. The element is used as a reference for use later. The {@link WebElementWait} for it
+   * is created on first use.
    * <p>
    * The advantage of using this constructor is to reduce code count when using
    * {@link By#cssSelector(String)} to instantiate your elements. It is highly recommended using
@@ -175,8 +295,8 @@ public abstract class BaseWebElement {
   /**
    * Create a new element using the supplied {@link By} locator. This does not call or invoke
    * WebDriver in any way, nor does it try to find the element on a page. The element is used as a
-   * reference for use later. Once the element is set, we create a new {@link WebElementWait} for
-   * it.
+   * reference for use later. The {@link WebElementWait} for it is created on first
+   * use.
    * <p>
    * Use this constructor when you'd like to locate an element with a {@link By} method different
    * from {@link By#cssSelector(String)}. We strongly recommend using
@@ -191,8 +311,8 @@ public abstract class BaseWebElement {
   /**
    * Create a new element using the supplied {@link By} locator and mark whether it is hidden. This
    * does not call or invoke WebDriver in any way, nor does it try to find the element on a page.
-   * The element is used as a reference for use later. Once the element is set, we create a new
-   * {@link WebElementWait} for it.
+   * The element is used as a reference for use later. The {@link WebElementWait} for it is created
+   * on first use.
    * <p>
    * Use this constructor when you'd like to locate an element with a {@link By} method different
    * from {@link By#cssSelector(String)}. We strongly recommend using
@@ -208,8 +328,8 @@ public abstract class BaseWebElement {
   /**
    * Creates a new element with a parent element using the supplied {@link By} locators for both
    * elements. Useful when you want a more verbose element definition in context of your websites'
-   * DOM. The element is used as a reference for use later. Once the element is set, we create a new
-   * {@link WebElementWait} for it.
+   * DOM. The element is used as a reference for use later. The {@link WebElementWait} for it is
+   * created on first use.
    * <p>
    * For example, perhaps you have a modal on your website:
    * <pre>{@code
@@ -239,8 +359,8 @@ public abstract class BaseWebElement {
   /**
    * Creates a new element with a parent element using the supplied {@link By} locators for both
    * elements. Useful when you want a more verbose element definition in context of your websites'
-   * DOM. The element is used as a reference for use later. Once the element is set, we create a new
-   * {@link WebElementWait} for it.
+   * DOM. The element is used as a reference for use later. The {@link WebElementWait} for it is
+   * created on first use.
    *
    * @param by       the {@link By} locator to be used by this element
    * @param parentBy the {@link By} locator for the parent element
@@ -256,7 +376,6 @@ public abstract class BaseWebElement {
     this.by = by;
     this.parentBy = parentBy;
     this.isHidden = isHidden;
-    setWebElementWait();
   }
 
   /**
@@ -285,7 +404,6 @@ public abstract class BaseWebElement {
             + "does not have a WebElement.",
         webElement));
     this.setBaseElement(webElement);
-    setWebElementWait();
   }
 
   /**
@@ -316,7 +434,6 @@ public abstract class BaseWebElement {
         webElement));
     this.setBy(by);
     this.setBaseElement(webElement);
-    setWebElementWait();
   }
 
   /**
@@ -349,7 +466,6 @@ public abstract class BaseWebElement {
     this.setBy(by);
     this.setParentBy(parentBy);
     this.setBaseElement(webElement);
-    setWebElementWait();
   }
 
   /**
@@ -359,9 +475,12 @@ public abstract class BaseWebElement {
    * @see WebElement#isEnabled()
    */
   public boolean isEnabled() {
+    var snapshot = getPageSnapshot();
+    if (snapshot.isPresent()) {
+      return snapshot.get().isEnabled();
+    }
     try {
-      var element = getRawWebElement();
-      return element != null && element.isEnabled();
+      return readRawWebElement(WebElement::isEnabled);
     } catch (WebDriverException e) {
       return false;
     }
@@ -374,9 +493,12 @@ public abstract class BaseWebElement {
    * @see WebElement#isDisplayed()
    */
   public boolean isDisplayed() {
+    var snapshot = getPageSnapshot();
+    if (snapshot.isPresent()) {
+      return snapshot.get().isDisplayed();
+    }
     try {
-      var element = getRawWebElement();
-      return element != null && element.isDisplayed();
+      return readRawWebElement(WebElement::isDisplayed);
     } catch (WebDriverException e) {
       return false;
     }
@@ -388,9 +510,12 @@ public abstract class BaseWebElement {
    * @return the response as true or false
    */
   public boolean isActive() {
+    var snapshotClass = getPageSnapshotAttribute("class");
+    if (snapshotClass.isPresent()) {
+      return snapshotClass.get().contains("active");
+    }
     try {
-      var element = getRawWebElement();
-      return element != null && element.getAttribute("class").contains("active");
+      return readRawWebElement(element -> element.getAttribute("class").contains("active"));
     } catch (WebDriverException e) {
       return false;
     }
@@ -403,9 +528,12 @@ public abstract class BaseWebElement {
    * @return as true or false
    */
   public boolean hasClass(String text) {
+    var snapshotClass = getPageSnapshotAttribute("class");
+    if (snapshotClass.isPresent()) {
+      return snapshotClass.get().contains(text);
+    }
     try {
-      var element = getRawWebElement();
-      return element != null && element.getAttribute("class").contains(text);
+      return readRawWebElement(element -> element.getAttribute("class").contains(text));
     } catch (WebDriverException e) {
       return false;
     }
@@ -419,7 +547,11 @@ public abstract class BaseWebElement {
    * @see WebElement#getAttribute(String)
    */
   public String getAttribute(String name) {
-    return getRawWebElement().getAttribute(name);
+    var snapshot = getPageSnapshot();
+    if (snapshot.isPresent() && snapshot.get().getAttributes().containsKey(name)) {
+      return snapshot.get().getAttribute(name);
+    }
+    return readRawWebElement(element -> element.getAttribute(name));
   }
 
   /**
@@ -429,7 +561,11 @@ public abstract class BaseWebElement {
    * @see WebElement#getText()
    */
   public String getText() {
-    return getRawWebElement().getText();
+    var snapshot = getPageSnapshot();
+    if (snapshot.isPresent()) {
+      return snapshot.get().getText();
+    }
+    return readRawWebElement(WebElement::getText);
   }
 
   /**
@@ -439,7 +575,11 @@ public abstract class BaseWebElement {
    * @see WebElement#getTagName()
    */
   public String getTagName() {
-    return getRawWebElement().getTagName();
+    var snapshot = getPageSnapshot();
+    if (snapshot.isPresent()) {
+      return snapshot.get().getTagName();
+    }
+    return readRawWebElement(WebElement::getTagName);
   }
 
   /**
@@ -449,7 +589,11 @@ public abstract class BaseWebElement {
    * @see WebElement#getLocation()
    */
   public Point getLocation() {
-    return getRawWebElement().getLocation();
+    var snapshot = getPageSnapshot();
+    if (snapshot.isPresent()) {
+      return snapshot.get().getRect().getPoint();
+    }
+    return readRawWebElement(WebElement::getLocation);
   }
 
   /**
@@ -459,7 +603,11 @@ public abstract class BaseWebElement {
    * @see WebElement#getSize()
    */
   public Dimension getSize() {
-    return getRawWebElement().getSize();
+    var snapshot = getPageSnapshot();
+    if (snapshot.isPresent()) {
+      return snapshot.get().getRect().getDimension();
+    }
+    return readRawWebElement(WebElement::getSize);
   }
 
   /**
@@ -469,7 +617,11 @@ public abstract class BaseWebElement {
    * @see WebElement#getRect()
    */
   public Rectangle getRect() {
-    return getRawWebElement().getRect();
+    var snapshot = getPageSnapshot();
+    if (snapshot.isPresent()) {
+      return snapshot.get().getRect();
+    }
+    return readRawWebElement(WebElement::getRect);
   }
 
   /**
@@ -479,7 +631,7 @@ public abstract class BaseWebElement {
    * @return the property as {@link String}
    */
   public String getCssValue(String propertyName) {
-    return getRawWebElement().getCssValue(propertyName);
+    return readRawWebElement(element -> element.getCssValue(propertyName));
   }
 
   /**
@@ -497,6 +649,15 @@ public abstract class BaseWebElement {
    * <p>
    * In addition to finding the raw element, if an exception is encountered, we log errors from the
    * console. Useful for debugging.
+   * <p>
+   * The element returned is never cached, so a caller holding on to it risks a
+   * {@link StaleElementReferenceException}. Scaffold's own interactions go through
+   * {@link #readRawWebElement(Function)} and {@link #actOnRawWebElement(Consumer)} instead, which
+   * reuse the element until the {@link WebDriverWrapper} navigates or switches windows or frames,
+   * and find it again when it has gone stale.
+   * <p>
+   * With {@link ElementLocateStrategy#SCRIPT}, the wait and the finds are done in a single script
+   * by {@link ScriptElementLocator}.
    *
    * @return as   {@link WebElement}
    */
@@ -511,18 +672,24 @@ public abstract class BaseWebElement {
         return getBaseElement();
       }
 
-      if (!isHidden) {
-        getWebElementWait().waitUntilDisplayed();
-      }
-
-      if (getParentBy() != null) {
+      var webDriverWrapper = getWebDriverWrapper();
+      if (webDriverWrapper.getElementLocateStrategy() == ElementLocateStrategy.SCRIPT
+          && ScriptElementLocator.isSupported(getBy(), getParentBy())) {
+        return ScriptElementLocator.locate(webDriverWrapper, getBy(), getParentBy(), !isHidden);
+      } else if (getParentBy() != null) {
+        if (!isHidden) {
+          getWebElementWait().waitUntilDisplayed();
+        }
         log.debug(String.format("Locating element [%s] relative to parent element [%s]",
             getBy(), getParentBy()));
-        var parentElement = getWebDriverWrapper().findElement(getParentBy());
+        var parentElement = webDriverWrapper.findElement(getParentBy());
         return parentElement.findElement(getBy());
       } else {
+        if (!isHidden) {
+          getWebElementWait().waitUntilDisplayed();
+        }
         log.debug(String.format("Locating element [%s]", getBy()));
-        return getWebDriverWrapper().findElement(getBy());
+        return webDriverWrapper.findElement(getBy());
       }
     } catch (NoSuchElementException | TimeoutException e) {
       reportBrowserLogs();
@@ -530,15 +697,205 @@ public abstract class BaseWebElement {
     }
   }
 
+  /**
+   * Gets the raw {@link WebElement} for an interaction. The element found by the last interaction
+   * is reused until the {@link WebDriverWrapper} navigates or switches windows or frames. Otherwise,
+   * the element is found with {@link #getRawWebElement()} and cached.
+   *
+   * @return as {@link WebElement}
+   */
+  private WebElement getCachedRawWebElement() {
+    if (!isFoundByLocator()) {
+      return getRawWebElement();
+    }
+
+    var webDriverWrapper = getWebDriverWrapper();
+    var navigationCount = webDriverWrapper.getNavigationCount();
+    var cached = getCachedElement(webDriverWrapper);
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+
+    var element = getRawWebElement();
+    if (element != null) {
+      cachedElement = new CachedElement(element, webDriverWrapper, navigationCount);
+    }
+    return element;
+  }
+
+  /**
+   * Gets the element cached for interactions, if it was found with the same
+   * {@link WebDriverWrapper} and the wrapper hasn't navigated since.
+   *
+   * @param webDriverWrapper the {@link WebDriverWrapper} for the current thread
+   * @return as {@link Optional} of {@link WebElement}
+   */
+  private Optional<WebElement> getCachedElement(WebDriverWrapper webDriverWrapper) {
+    var cached = cachedElement;
+    if (cached != null && cached.getWebDriverWrapper() == webDriverWrapper
+        && cached.getNavigationCount() == webDriverWrapper.getNavigationCount()) {
+      return Optional.of(cached.getElement());
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Checks if this element is found with its locators, rather than created around a raw
+   * {@link WebElement} with one of the deprecated constructors.
+   *
+   * @return true if the element has no {@link #baseElement}
+   */
+  boolean isFoundByLocator() {
+    return baseElement == null;
+  }
+
+  /**
+   * Clears the element cached for interactions, so the next interaction waits for and
+   * finds the element again.
+   */
+  public void invalidateCachedElement() {
+    cachedElement = null;
+  }
+
+  /**
+   * Reads a value from the raw {@link WebElement}. If the cached element has gone stale, the
+   * element is found again and the read is retried once.
+   *
+   * @param read the read to perform on the element
+   * @param <R>  the type of the value
+   * @return the value read from the element
+   */
+  protected <R> R readRawWebElement(Function<WebElement, R> read) {
+    try {
+      return read.apply(getCachedRawWebElement());
+    } catch (StaleElementReferenceException e) {
+      if (getBaseElement() != null) {
+        throw e;
+      }
+      log.debug(String.format("Element [%s] went stale, locating it again", getBy()));
+      invalidateCachedElement();
+      return read.apply(getCachedRawWebElement());
+    }
+  }
+
+  /**
+   * Performs an action on the raw {@link WebElement}. If the cached element has gone stale, the
+   * element is found again and the action is retried once. The action is recorded on the
+   * {@link WebDriverWrapper}, so any {@link PageSnapshotCache} checks the page for changes before
+   * its next read.
+   *
+   * @param action the action to perform on the element
+   */
+  protected void actOnRawWebElement(Consumer<WebElement> action) {
+    getWebDriverWrapper().recordInteraction();
+    readRawWebElement(element -> {
+      action.accept(element);
+      return null;
+    });
+  }
+
+  /**
+   * Gets the snapshot of this element from the {@link PageSnapshotCache} of its page. The snapshot
+   * is only used when it has the element in the same state a read through WebDriver would wait for:
+   * on the page, and displayed unless the element is hidden. Otherwise, the read falls back to
+   * WebDriver.
+   *
+   * @return as {@link Optional} of {@link ElementSnapshot}
+   */
+  private Optional<ElementSnapshot> getPageSnapshot() {
+    if (pageSnapshotCache == null || getBaseElement() != null
+        || pageSnapshotCache.getWebDriverWrapper() != getWebDriverWrapper()) {
+      return Optional.empty();
+    }
+    return pageSnapshotCache.get(this)
+        .filter(snapshot -> snapshot.isPresent() && (snapshot.isDisplayed() || isHidden));
+  }
+
+  /**
+   * Gets an attribute of this element from the {@link PageSnapshotCache} of its page.
+   *
+   * @param name the name of the attribute
+   * @return as {@link Optional} of {@link String}, empty when the snapshot isn't used or the
+   * attribute is null
+   */
+  private Optional<String> getPageSnapshotAttribute(String name) {
+    return getPageSnapshot().map(snapshot -> snapshot.getAttribute(name));
+  }
+
   /**
    * Gets the parent element as a raw {@link WebElement}.
    *
    * @return as {@link WebElement}
    */
   public WebElement getRawParentWebElement() {
-    return (WebElement) getWebDriverWrapper()
+    return readRawWebElement(element -> (WebElement) getWebDriverWrapper()
         .getJavascriptExecutor()
-        .executeScript("return arguments[0].parentNode;", getRawWebElement());
+        .executeScript("return arguments[0].parentNode;", element));
+  }
+
+  /**
+   * Gets the element ready to be clicked with a single script, and returns a marker for
+   * {@link #hasNavigatedSince(String)} to check after the click. The script scrolls the element into
+   * view only when it isn't already fully in the viewport.
+   * <p>
+   * When the element isn't cached yet, {@link ElementLocateStrategy#SCRIPT} is used, and its
+   * locators can be run in a script, the same script also finds the element and checks that it's
+   * displayed. The element is then cached for the click. If it isn't found or displayed yet, the
+   * element is waited for and found with {@link #getRawWebElement()} as usual.
+   *
+   * @return the marker set on the document, or null if it couldn't be set
+   */
+  @SuppressWarnings("unchecked")
+  protected String prepareClick() {
+    var webDriverWrapper = getWebDriverWrapper();
+    Object result = null;
+    if (getBaseElement() == null && getCachedElement(webDriverWrapper).isEmpty()
+        && webDriverWrapper.getElementLocateStrategy() == ElementLocateStrategy.SCRIPT
+        && ScriptElementLocator.isSupported(getBy(), getParentBy())) {
+      var navigationCount = webDriverWrapper.getNavigationCount();
+      var locator = ScriptElementLocator.toScriptLocator(getBy()).orElseThrow();
+      var parentLocator = Optional.ofNullable(getParentBy())
+          .flatMap(ScriptElementLocator::toScriptLocator);
+      result = webDriverWrapper.getJavascriptExecutor().executeScript(PREPARE_CLICK_SCRIPT, null,
+          parentLocator.map(ScriptElementLocator.ScriptLocator::getType).orElse(null),
+          parentLocator.map(ScriptElementLocator.ScriptLocator::getValue).orElse(null),
+          locator.getType(), locator.getValue(), !isHidden);
+      if (result instanceof Map
+          && ((Map<String, Object>) result).get("element") instanceof WebElement) {
+        cachedElement = new CachedElement(
+            (WebElement) ((Map<String, Object>) result).get("element"), webDriverWrapper,
+            navigationCount);
+      }
+    }
+    if (!(result instanceof Map)) {
+      result = readRawWebElement(element -> webDriverWrapper.getJavascriptExecutor()
+          .executeScript(PREPARE_CLICK_SCRIPT, element, null, null, null, null, !isHidden));
+    }
+    if (result instanceof Map && ((Map<String, Object>) result).get("marker") instanceof String) {
+      return (String) ((Map<String, Object>) result).get("marker");
+    }
+    return null;
+  }
+
+  /**
+   * Checks if the page has navigated, or started to, since {@link #prepareClick()}, with a single
+   * script. Navigation is detected after the fact, so clicks that navigate from a script, such as an
+   * onclick handler changing the location, are caught as well as links and form submits.
+   *
+   * @param clickMarker the marker returned by {@link #prepareClick()}
+   * @return true if the page navigated, or if that couldn't be determined
+   */
+  protected boolean hasNavigatedSince(String clickMarker) {
+    if (clickMarker == null) {
+      return true;
+    }
+    try {
+      return !Boolean.TRUE.equals(getWebDriverWrapper().getJavascriptExecutor()
+          .executeScript(CLICK_MARKER_SCRIPT, clickMarker));
+    } catch (WebDriverException e) {
+      // The document being replaced can fail the script, which means the page is navigating
+      return true;
+    }
   }
 
   /**
@@ -549,10 +906,10 @@ public abstract class BaseWebElement {
    * @return as {@link WebElement}
    */
   public WebElement scrollIntoView() {
-    return (WebElement) getWebDriverWrapper()
+    return readRawWebElement(element -> (WebElement) getWebDriverWrapper()
         .getJavascriptExecutor()
         .executeScript("arguments[0].scrollIntoView({block: 'nearest', inline: 'nearest'});",
-            getRawWebElement());
+            element));
   }
 
   /**
@@ -676,18 +1033,14 @@ public abstract class BaseWebElement {
 
     try {
       if (combinedBy != null) {
-        var constructor = elementClass.getConstructor(By.class);
-        returnElement = constructor.newInstance(combinedBy);
+        returnElement = ElementFactory.newElement(elementClass, combinedBy);
       } else if (updatedParentBy != null) {
-        var constructor = elementClass.getConstructor(By.class, By.class);
-        returnElement = constructor.newInstance(by, updatedParentBy);
+        returnElement = ElementFactory.newElement(elementClass, by, updatedParentBy);
       } else {
-        var constructor = elementClass.getConstructor(WebElement.class);
-        var element = getRawWebElement().findElement(by);
-        returnElement = constructor.newInstance(element);
+        var element = readRawWebElement(parent -> parent.findElement(by));
+        returnElement = ElementFactory.newElement(elementClass, element);
       }
-    } catch (NoSuchMethodException | InvocationTargetException | InstantiationException |
-             IllegalAccessException e) {
+    } catch (ReflectiveOperationException e) {
       throw new RuntimeException("Could not instantiate Element properly: " + e);
     }
     return returnElement;
@@ -701,6 +1054,10 @@ public abstract class BaseWebElement {
    * deterministically return a list of appended {@link By} locators based on a xpath or CSS
    * format.
    * <p>
+   * When searching for immediate children with a locator that can be run in a script, the children
+   * are matched with a single script, rather than a WebDriver command for every child of the
+   * parent.
+   * <p>
    * It is advised to not invoke this method on the declaration of a class variable. When doing so,
    * it will invoke {@link WebDriver#findElements(By)} which may increase your Page Object
    * instantiation time or cause a {@link TimeoutException}. Instead, invoke this inside a method on
@@ -740,7 +1097,14 @@ public abstract class BaseWebElement {
    */
   public <T extends BaseWebElement> List<T> findElements(Class<T> elementClass, By childBy,
       boolean immediateRelationship) {
-    var elements = getRawWebElement().findElements(childBy);
+    if (immediateRelationship && !(childBy instanceof By.ByXPath)) {
+      var childLocator = ScriptElementLocator.toScriptLocator(childBy);
+      if (childLocator.isPresent()) {
+        return findImmediateChildElements(elementClass, childBy, childLocator.get().getValue());
+      }
+    }
+
+    var elements = readRawWebElement(parent -> parent.findElements(childBy));
     if (elements.size() == 0) {
       return List.of();
     }
@@ -751,7 +1115,7 @@ public abstract class BaseWebElement {
           .collect(Collectors.toList());
     } else {
       if (immediateRelationship) {
-        final var immediateChildrenOfParent = getImmediateChildElements(this.getRawWebElement());
+        final var immediateChildrenOfParent = readRawWebElement(this::getImmediateChildElements);
         if (immediateChildrenOfParent.size() != elements.size()) {
           return constructImmediateChildrenElements(elementClass, immediateChildrenOfParent,
               childBy);
@@ -801,6 +1165,88 @@ public abstract class BaseWebElement {
     return findElements(elementClass, by, false);
   }
 
+  /**
+   * Finds a collection of child elements the same way as {@link #findElements(Class, By)}, but
+   * as a lazy {@link Stream} rather than a {@link List}. Use this for very large collections, such
+   * as grids with thousands of rows, that would take too long to build up front.
+   * <p>
+   * The indexes of the matching elements are read with a single script per chunk of 500 elements,
+   * and each Scaffold element is only created as the stream is consumed. A chunk is only read once
+   * the stream reaches it, so a stream that is short-circuited with {@link Stream#limit(long)} or
+   * {@link Stream#findFirst()} reads no further than it needs to. Since chunks are read as the
+   * stream is consumed, the page shouldn't change the collection while it's being streamed.
+   * <p>
+   * XPath locators are counted with a single {@link WebElement#findElements(By)} and their elements
+   * are created lazily. Locators that can't be run in a script, such as link text, fall back to
+   * {@link #findElements(Class, By)}.
+   *
+   * @param elementClass the scaffold strongly typed element class that must extend T
+   * @param by           the {@link By} locator for the elements
+   * @param <T>          the type reference of {@link BaseWebElement}
+   * @return as a {@link Stream} of elements that extend from {@link BaseWebElement}
+   * @see #streamElements(Class, By, int)
+   */
+  public <T extends BaseWebElement> Stream<T> streamElements(Class<T> elementClass, By by) {
+    return streamElements(elementClass, by, DEFAULT_STREAM_CHUNK_SIZE);
+  }
+
+  /**
+   * An overloaded method that will stream elements under the context of a deep dom search using a
+   * CSS selector.
+   *
+   * @param elementClass the scaffold strongly typed element class that must extend T
+   * @param cssSelector  the css selector that is being searched for
+   * @param <T>          the type reference of {@link BaseWebElement}
+   * @return as a {@link Stream} of elements that extend from {@link BaseWebElement}
+   * @see #streamElements(Class, By)
+   */
+  public <T extends BaseWebElement> Stream<T> streamElements(Class<T> elementClass,
+      String cssSelector) {
+    return streamElements(elementClass, By.cssSelector(cssSelector));
+  }
+
+  /**
+   * An overloaded method that will stream elements with a given chunk size.
+   *
+   * @param elementClass the scaffold strongly typed element class that must extend T
+   * @param by           the {@link By} locator for the elements
+   * @param chunkSize    the number of elements to read with each script
+   * @param <T>          the type reference of {@link BaseWebElement}
+   * @return as a {@link Stream} of elements that extend from {@link BaseWebElement}
+   * @see #streamElements(Class, By)
+   */
+  public <T extends BaseWebElement> Stream<T> streamElements(Class<T> elementClass, By by,
+      int chunkSize) {
+    if (chunkSize < 1) {
+      throw new IllegalArgumentException(String.format(
+          "Chunk size must be at least 1, but was %s", chunkSize));
+    }
+    if (by instanceof By.ByXPath) {
+      return Stream.of(by)
+          .flatMap(xpath -> IntStream.range(0, readRawWebElement(
+                  element -> element.findElements(xpath).size()))
+              .mapToObj(i -> createXPathChild(elementClass, xpath, i)));
+    }
+    var childLocator = ScriptElementLocator.toScriptLocator(by);
+    if (childLocator.isEmpty()) {
+      return Stream.of(by).flatMap(child -> findElements(elementClass, child).stream());
+    }
+
+    var childCss = childLocator.get().getValue();
+    var rootSelector = determineCombinedBy(getBy(), getParentBy(), by);
+    return Stream.iterate(ElementChunk.FIRST, chunk -> chunk != null,
+            chunk -> chunk.isLast() ? null : readElementChunk(childCss, chunk, chunkSize))
+        .flatMap(chunk -> chunk.getIndexes().stream())
+        .map(index -> {
+          try {
+            return ElementFactory.newElement(elementClass,
+                createElementSelector(rootSelector, index));
+          } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Could not instantiate Element properly: " + e);
+          }
+        });
+  }
+
   /**
    * A custom implementation of toString() that overrides the objects default.
    *
@@ -849,79 +1295,62 @@ public abstract class BaseWebElement {
   }
 
   /**
-   * Initializes the webElementWait field by passing in the WebDriver and a copy of this element
+   * Gets the parsed {@link Locator} for {@link #getBy()}.
+   *
+   * @return as {@link Locator}, or null if the element doesn't have a {@link By} locator
    */
-  protected void setWebElementWait() {
-    this.webElementWait = new WebElementWait(getWebDriverWrapper(), this);
+  public Locator getLocator() {
+    if (locator == null && getBy() != null) {
+      locator = Locator.of(getBy());
+    }
+    return locator;
   }
 
   /**
-   * Checks an underlying {@link By} locator to determine its attribute type. Currently, only
-   * supports checking for class, id, or a custom attribute such as a data-qe attribute. We can
-   * expand upon this at a later time, but for now is crucial for an immediate fix on
-   * {@link #findElements(Class, By, boolean)}, https://github.com/kgress/scaffold/issues/147.
-   * <p>
-   * The check for class and ID is pretty straight forward. We can substring out just the first
-   * character from the locator, check if it's a period or pound sign, and then return either class
-   * or id, respectively. Custom attributes are also straight forward, but require an additional
-   * substring. We first use {@link StringUtils#substringBefore(String, String)} to remove every
-   * character after the equals sign. Then, we remove the opening brackets from the first character,
-   * and return the final result.
-   * <p>
-   * // TODO we need to expand on this feature by also including other attribute types
+   * Gets the parsed {@link Locator} for {@link #getParentBy()}.
    *
-   * @param by the {@link By} locator of the element we are checking
-   * @return the attribute type as a {@link String} value
-   */
-  private String determineAttributeTypeAsString(By by) {
-    final var byLocatorAsString = AutomationUtils.getUnderlyingLocatorByString(by);
-    final var firstCharacter = byLocatorAsString.substring(0, 1);
-    String attributeTypeAsString = "";
-
-    if (firstCharacter.contains(".")) {
-      attributeTypeAsString = "class";
-    } else if (firstCharacter.contains("#")) {
-      attributeTypeAsString = "id";
-    } else if (firstCharacter.contains("[")) {
-      var locatorBeforeEqualsSign = StringUtils.substringBefore(byLocatorAsString, "=");
-      return locatorBeforeEqualsSign.substring(1);
-    } else {
-      throw new RuntimeException(String.format(
-          "Could not determine the attribute type of the element: [%s]", by));
+   * @return as {@link Locator}, or null if the element doesn't have a parent {@link By} locator
+   */
+  public Locator getParentLocator() {
+    if (parentLocator == null && getParentBy() != null) {
+      parentLocator = Locator.of(getParentBy());
+    }
+    return parentLocator;
+  }
+
+  /**
+   * Gets the {@link WebElementWait} for the current {@link BaseWebElement} being interacted with.
+   * It's created on first use rather than when the element is defined.
+   *
+   * @return as {@link WebElementWait}
+   */
+  public WebElementWait getWebElementWait() {
+    if (webElementWait == null) {
+      setWebElementWait();
     }
+    return webElementWait;
+  }
 
-    return attributeTypeAsString;
+  /**
+   * Initializes the webElementWait field with a copy of this element
+   */
+  protected void setWebElementWait() {
+    this.webElementWait = new WebElementWait(this);
   }
 
   /**
    * Combines the {@link By} locators of a parent and a child into a single locator. When combining,
    * we need to make sure the combined locator is of the same type, where type = ofCSS or XPATH.
    * ofCSS is a type that can be converted into a CSS selector, like tag, id, name, etc. XPATH only
-   * has one potential By type provided by Selenium.
+   * has one potential By type provided by Selenium. The combination is done by {@link Locator},
+   * which keeps the combined locator for the next time the same locators are combined.
    *
    * @param parentBy the parent {@link By} locator
    * @param childBy  the child {@link By} locator
    * @return as a combined {@link By} with the parent and child
    */
   private By combineByLocators(By parentBy, By childBy) {
-    if (parentBy instanceof By.ByXPath || childBy instanceof By.ByXPath) {
-      var exceptionMessage = new RuntimeException(String.format(
-          "Both By locators must be of type CSS when combining. Parent: %s. Child: %s",
-          parentBy, childBy));
-      if (!(parentBy instanceof By.ByXPath)) {
-        throw exceptionMessage;
-      } else if (!(childBy instanceof By.ByXPath)) {
-        throw exceptionMessage;
-      } else {
-        var combinedLocator = getCombinedByLocatorAsString(parentBy, childBy);
-        return By.xpath(combinedLocator);
-      }
-    } else {
-      var convertedParentBy = convertIsOfCssByToCssSelector(parentBy);
-      var convertedChildBy = convertIsOfCssByToCssSelector(childBy);
-      var combinedLocator = getCombinedByLocatorAsString(convertedParentBy, convertedChildBy);
-      return By.cssSelector(combinedLocator);
-    }
+    return Locator.of(parentBy).descendant(Locator.of(childBy)).getBy();
   }
 
   /**
@@ -949,11 +1378,9 @@ public abstract class BaseWebElement {
 
       try {
         if (newElementSelector != null) {
-          final var constructor = elementClass.getConstructor(By.class);
-          return constructor.newInstance(newElementSelector);
+          return ElementFactory.newElement(elementClass, newElementSelector);
         } else {
-          final var constructor = elementClass.getConstructor(WebElement.class);
-          return constructor.newInstance(elements.get(i));
+          return ElementFactory.newElement(elementClass, elements.get(i));
         }
       } catch (Exception e) {
         throw new RuntimeException("Could not instantiate Element properly: " + e);
@@ -962,6 +1389,98 @@ public abstract class BaseWebElement {
     return null;
   }
 
+  /**
+   * Finds the immediate children of this element with a single script. The script counts the
+   * elements matching the child locator and the immediate children of this element, and when they
+   * differ, returns the indexes of the immediate children whose attribute contains the child
+   * locator's value. This is the same match as
+   * {@link #constructImmediateChildrenElements(Class, List, By)}, without a WebDriver command for
+   * every child.
+   *
+   * @param elementClass the class of the element, extended off of the type reference
+   * @param childBy      the {@link By} locator of the children
+   * @param childCss     the CSS selector of the children, as run in the script
+   * @param <T>          the type reference of {@link BaseWebElement}
+   * @return as a list of elements that extend from {@link BaseWebElement}
+   */
+  @SuppressWarnings("unchecked")
+  private <T extends BaseWebElement> List<T> findImmediateChildElements(Class<T> elementClass,
+      By childBy, String childCss) {
+    String attributeName = null;
+    String attributeValue = null;
+    RuntimeException attributeException = null;
+    try {
+      attributeName = getLocator().getAttributeName();
+      attributeValue = Locator.of(childBy).getAttributeValue();
+    } catch (RuntimeException e) {
+      attributeException = e;
+    }
+
+    final var scriptAttributeName = attributeName;
+    final var scriptAttributeValue = attributeValue;
+    var result = (Map<String, Object>) readRawWebElement(element -> getWebDriverWrapper()
+        .getJavascriptExecutor()
+        .executeScript(IMMEDIATE_CHILDREN_SCRIPT, element, childCss, scriptAttributeName,
+            scriptAttributeValue));
+    var matchCount = ((Number) result.get("matchCount")).intValue();
+    var childCount = ((Number) result.get("childCount")).intValue();
+    log.debug(String.format("Found %s elements [%s] under element [%s] with %s immediate children",
+        matchCount, childBy, getBy(), childCount));
+    if (matchCount == 0) {
+      return List.of();
+    }
+
+    List<Integer> indexes;
+    By rootSelector;
+    if (matchCount == childCount) {
+      indexes = IntStream.range(0, matchCount).boxed().collect(Collectors.toList());
+      rootSelector = determineCombinedBy(getBy(), getParentBy(), childBy);
+    } else {
+      if (attributeException != null) {
+        throw attributeException;
+      }
+      indexes = ((List<Number>) result.get("indexes")).stream()
+          .map(Number::intValue)
+          .collect(Collectors.toList());
+      rootSelector = childBy;
+    }
+
+    var finalElementList = new ArrayList<T>(indexes.size());
+    for (var index : indexes) {
+      try {
+        finalElementList.add(ElementFactory.newElement(elementClass,
+            createElementSelector(rootSelector, index)));
+      } catch (ReflectiveOperationException e) {
+        throw new RuntimeException("Could not instantiate Element properly: " + e);
+      }
+    }
+    return finalElementList;
+  }
+
+  /**
+   * Reads the next chunk of {@link #streamElements(Class, By, int)} with a single script.
+   *
+   * @param childCss  the CSS selector of the children, as run in the script
+   * @param previous  the previously read chunk
+   * @param chunkSize the most indexes to read
+   * @return as {@link ElementChunk}
+   */
+  @SuppressWarnings("unchecked")
+  private ElementChunk readElementChunk(String childCss, ElementChunk previous, int chunkSize) {
+    var result = (Map<String, Object>) readRawWebElement(element -> getWebDriverWrapper()
+        .getJavascriptExecutor()
+        .executeScript(ELEMENT_CHUNK_SCRIPT, element, childCss, previous.getNextOffset(),
+            chunkSize));
+    var indexes = ((List<Number>) result.get("indexes")).stream()
+        .map(Number::intValue)
+        .collect(Collectors.toList());
+    var chunk = new ElementChunk(indexes, ((Number) result.get("nextOffset")).intValue(),
+        Boolean.TRUE.equals(result.get("last")));
+    log.debug(String.format("Read %s elements [%s] under element [%s] from index %s",
+        indexes.size(), childCss, getBy(), previous.getNextOffset()));
+    return chunk;
+  }
+
   /**
    * A helper method that will construct a list of elements with a {@link By} locator that are
    * immediate children of a parent. This method will only be invoked if the size of elements found
@@ -988,25 +1507,25 @@ public abstract class BaseWebElement {
       List<WebElement> immediateChildrenOfParent,
       By childBy) {
     var finalElementList = new ArrayList<T>();
+    if (immediateChildrenOfParent.isEmpty()) {
+      return finalElementList;
+    }
+    final var attributeType = getLocator().getAttributeName();
+    final var formattedLocator = Locator.of(childBy).getAttributeValue();
     var index = new AtomicInteger();
     immediateChildrenOfParent.forEach(element -> {
-      final var attributeType = determineAttributeTypeAsString(by);
       final var elementAttributeValue = element.getAttribute(attributeType);
 
-      Constructor<T> constructor;
       T returnElement;
 
       try {
         By finalByLocator;
-        var formattedLocator = getFormattedUnderlyingCssLocatorByString(childBy);
         if (elementAttributeValue.contains(formattedLocator)) {
           finalByLocator = createElementSelector(childBy, index.get());
-          constructor = elementClass.getConstructor(By.class);
-          returnElement = constructor.newInstance(finalByLocator);
+          returnElement = ElementFactory.newElement(elementClass, finalByLocator);
           finalElementList.add(returnElement);
         }
-      } catch (NoSuchMethodException | InvocationTargetException |
-               InstantiationException | IllegalAccessException e) {
+      } catch (ReflectiveOperationException e) {
         throw new RuntimeException(e);
       }
       index.getAndIncrement();
@@ -1014,32 +1533,6 @@ public abstract class BaseWebElement {
     return finalElementList;
   }
 
-  /**
-   * Helper method that will get an underlying locator and format it for comparing against an
-   * element attribute from {@link #constructImmediateChildrenElements(Class, List, By)}. In the
-   * future, we should update this method to encompass other types of css selectors.
-   * <p>
-   * // todo we need to update this later to account for situations we're not using class, id, or
-   * custom data attributes
-   *
-   * @param by the {@link By} locator's underlying locator we're formatting
-   * @return as {@link String}
-   */
-  private String getFormattedUnderlyingCssLocatorByString(By by) {
-    var underlyingLocator = getUnderlyingLocatorByString(by);
-    var firstCharacter = underlyingLocator.substring(0, 1);
-
-    if (firstCharacter.contains(".") || firstCharacter.contains("#")) {
-      return underlyingLocator.substring(1);
-    } else if (firstCharacter.contains("[")) {
-      var substrBetween = StringUtils.substringBetween(underlyingLocator, "=", "]");
-      return StringUtils.replace(substrBetween, "'", "");
-    } else {
-      throw new RuntimeException(String.format(
-          "Could not determine the attribute type of the underlying locator to format: [%s]", by));
-    }
-  }
-
   /**
    * A pure function that encapsulates the logic to determine what the base {@link By} selector for
    * the children elements.
@@ -1052,15 +1545,7 @@ public abstract class BaseWebElement {
    * the findElements query.
    */
   private By createElementSelector(By elementRootSelector, int elementIndex) {
-    if (elementRootSelector instanceof By.ByXPath) {
-      return By.xpath(String.format("%s[%s]",
-          getUnderlyingLocatorByString(elementRootSelector),
-          elementIndex + 1));
-    } else {
-      return By.cssSelector(String.format("%s:nth-child(%s)",
-          getUnderlyingLocatorByString(elementRootSelector),
-          elementIndex + 1));
-    }
+    return Locator.of(elementRootSelector).nthChild(elementIndex + 1).getBy();
   }
 
   /**
@@ -1077,8 +1562,7 @@ public abstract class BaseWebElement {
       int i) {
     try {
       final By newElementSelector = createElementSelector(by, i);
-      final var constructor = elementClass.getConstructor(By.class, By.class);
-      return constructor.newInstance(newElementSelector,
+      return ElementFactory.newElement(elementClass, newElementSelector,
           getParentBy() == null ? getBy() : getParentBy());
     } catch (Exception e) {
       throw new RuntimeException("Could not instantiate Element properly: " + e);
@@ -1156,47 +1640,6 @@ public abstract class BaseWebElement {
     return parent.findElements(By.xpath("./*"));
   }
 
-  /**
-   * Returns the "full" By locator used for this element. If the element has a "parent" defined, it
-   * will return the locator used
-   *
-   * @param parentBy the method in which the parent element is being located
-   * @param childBy  the method in which the child element is being located
-   * @return the locator as a {@link By}
-   */
-  private String getCombinedByLocatorAsString(By parentBy, By childBy) {
-    return String.format("%s %s", getUnderlyingLocatorByString(parentBy),
-        getUnderlyingLocatorByString(childBy));
-  }
-
-  /**
-   * Converts an ofCSS type into a CSS selector. Cannot convert XPATH at this time.
-   *
-   * @param by the {@link By} type that is ofCSS
-   * @return as {@link By}
-   */
-  private By convertIsOfCssByToCssSelector(By by) {
-    var locator = getUnderlyingLocatorByString(by);
-
-    if (by instanceof By.ByCssSelector) {
-      return by;
-    } else if (by instanceof By.ByTagName) {
-      return By.cssSelector(locator);
-    } else if (by instanceof By.ById) {
-      return By.cssSelector(String.format("#%s", locator));
-    } else if (by instanceof By.ByClassName) {
-      return By.cssSelector(String.format(".%s", locator));
-    } else if (by instanceof By.ByName) {
-      return By.cssSelector(String.format("[name=%s]", locator));
-    } else if (by instanceof By.ByLinkText) {
-      return By.cssSelector(String.format("a[href=%s]", locator));
-    } else if (by instanceof By.ByPartialLinkText) {
-      return By.cssSelector(String.format("a[href~=%s]", locator));
-    } else {
-      throw new RuntimeException("Cannot convert XPATH to a CSS Selector");
-    }
-  }
-
   /**
    * Pulls the browser's error logs and adds them into the console.
    */
@@ -1221,4 +1664,35 @@ public abstract class BaseWebElement {
       log.debug("No Errors reported in Console Logs during failure.");
     }
   }
+
+  /**
+   * An element found by {@link #getRawWebElement()}, along with the {@link WebDriverWrapper} and
+   * navigation count it was found with.
+   */
+  @Getter
+  @AllArgsConstructor
+  private static class CachedElement {
+
+    private final WebElement element;
+    private final WebDriverWrapper webDriverWrapper;
+    private final long navigationCount;
+  }
+
+  /**
+   * A chunk of element indexes read by {@link #streamElements(Class, By, int)}, along with the
+   * sibling index the next chunk starts from.
+   */
+  @Getter
+  @AllArgsConstructor
+  private static class ElementChunk {
+
+    /*
+     The chunk a stream starts from, before anything has been read.
+     */
+    private static final ElementChunk FIRST = new ElementChunk(List.of(), 0, false);
+
+    private final List<Integer> indexes;
+    private final int nextOffset;
+    private final boolean last;
+  }
 }
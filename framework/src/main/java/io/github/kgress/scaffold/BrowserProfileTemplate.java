@@ -0,0 +1,234 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties.BrowserProfile;
+import io.github.kgress.scaffold.exception.WebDriverContextException;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Clones a browser profile template into a new user data directory for every local Chrome session,
+ * so that sessions start from a warm profile instead of an empty one.
+ * <p>
+ * The template is either the directory configured with {@link BrowserProfile#getTemplateDir()}, or
+ * is built during the run from the profile of the first session once its browser is quit. When it
+ * is built during the run, only the HTTP cache and code cache of that profile are kept. Everything
+ * else in a profile, such as cookies, storage, service workers, autofill data and saved passwords,
+ * can hold state from the first test, so none of it is cloned into later tests. Sessions that start
+ * before the template is built get an empty profile.
+ * <p>
+ * Clones are written to /dev/shm when it's available so that the copy stays in memory. Files are
+ * copied rather than hard linked because Chrome writes to its profile databases in place, which
+ * would change the template for every other session.
+ */
+@Slf4j
+public class BrowserProfileTemplate {
+
+  private static final String SHARED_MEMORY_DIR = "/dev/shm";
+  private static final String CLONE_PREFIX = "scaffold-profile-";
+  private static final String TEMPLATE_PREFIX = "scaffold-template-";
+
+  /*
+   Files Chrome locks to its running process, which should never be copied into a new session.
+   */
+  private static final Set<String> LOCK_FILES =
+      Set.of("SingletonLock", "SingletonSocket", "SingletonCookie", "lockfile");
+
+  /*
+   The folders of a profile folder, such as Default, that are kept when a profile becomes the
+   template of the run. They only hold downloaded and compiled assets, not test state.
+   */
+  private static final List<String> TEMPLATE_STATE = List.of("Cache", "Code Cache");
+
+  private static final Set<Path> CLONES = ConcurrentHashMap.newKeySet();
+  private static final AtomicBoolean TEMPLATE_CLAIMED = new AtomicBoolean();
+  private static volatile Path runTemplate;
+  private static volatile Path templateCandidate;
+
+  static {
+    Runtime.getRuntime().addShutdownHook(new Thread(BrowserProfileTemplate::deleteAll,
+        "scaffold-browser-profile-shutdown"));
+  }
+
+  private BrowserProfileTemplate() {
+  }
+
+  /**
+   * Creates a new user data directory for a session, cloned from the template when one exists.
+   *
+   * @param browserProfile the {@link BrowserProfile} configuration
+   * @return the new user data directory as {@link Path}
+   */
+  public static Path cloneProfile(BrowserProfile browserProfile) {
+    var template = browserProfile.getTemplateDir() != null
+        ? Paths.get(browserProfile.getTemplateDir())
+        : runTemplate;
+    try {
+      var profileDirectory = Files.createTempDirectory(getCloneRoot(browserProfile), CLONE_PREFIX);
+      CLONES.add(profileDirectory);
+      if (template != null) {
+        copyProfile(template, profileDirectory);
+      } else if (browserProfile.getTemplateDir() == null
+          && TEMPLATE_CLAIMED.compareAndSet(false, true)) {
+        templateCandidate = profileDirectory;
+      }
+      return profileDirectory;
+    } catch (IOException e) {
+      throw new WebDriverContextException("Could not create a browser profile for the session", e);
+    }
+  }
+
+  /**
+   * Releases the user data directory of a session whose browser has quit, and deletes it. The
+   * caches of the first profile of a run without a configured template become the template.
+   *
+   * @param profileDirectory the user data directory created by {@link #cloneProfile(BrowserProfile)}
+   */
+  public static void releaseProfile(Path profileDirectory) {
+    if (profileDirectory.equals(templateCandidate)) {
+      try {
+        runTemplate = buildTemplate(profileDirectory);
+        log.debug(String.format("Using the caches of browser profile %s as the template for this "
+            + "run", profileDirectory));
+      } catch (IOException e) {
+        log.debug(String.format("Could not build a template from browser profile %s: %s",
+            profileDirectory, e.getMessage()));
+        TEMPLATE_CLAIMED.set(false);
+      }
+      templateCandidate = null;
+    }
+    CLONES.remove(profileDirectory);
+    deleteDirectory(profileDirectory);
+  }
+
+  /**
+   * Deletes the user data directory of a session whose browser failed to start. The profile is
+   * never used as the template, since it may be empty or only partly written. If it was going to
+   * become the template, the next session's profile takes its place.
+   *
+   * @param profileDirectory the user data directory created by {@link #cloneProfile(BrowserProfile)}
+   */
+  public static void discardProfile(Path profileDirectory) {
+    if (profileDirectory.equals(templateCandidate)) {
+      templateCandidate = null;
+      TEMPLATE_CLAIMED.set(false);
+    }
+    CLONES.remove(profileDirectory);
+    deleteDirectory(profileDirectory);
+  }
+
+  /**
+   * Deletes every profile created during the run, including the template built during the run, so
+   * that the next session without a configured template starts building a new one. This is
+   * registered as a JVM shutdown hook so that profiles don't fill up /dev/shm.
+   */
+  public static void deleteAll() {
+    runTemplate = null;
+    templateCandidate = null;
+    TEMPLATE_CLAIMED.set(false);
+    CLONES.forEach(BrowserProfileTemplate::deleteDirectory);
+    CLONES.clear();
+  }
+
+  /**
+   * Gets the directory that clones are written to. This is the configured clone directory, then
+   * /dev/shm, and then the temp directory of the JVM.
+   *
+   * @param browserProfile the {@link BrowserProfile} configuration
+   * @return as {@link Path}
+   */
+  private static Path getCloneRoot(BrowserProfile browserProfile) throws IOException {
+    if (browserProfile.getCloneDir() != null) {
+      return Files.createDirectories(Paths.get(browserProfile.getCloneDir()));
+    }
+    var sharedMemory = Paths.get(SHARED_MEMORY_DIR);
+    if (Files.isDirectory(sharedMemory) && Files.isWritable(sharedMemory)) {
+      return sharedMemory;
+    }
+    return Paths.get(System.getProperty("java.io.tmpdir"));
+  }
+
+  /**
+   * Copies every file of the template into the new user data directory, skipping the lock files of
+   * the process that created the template.
+   *
+   * @param template         the template user data directory
+   * @param profileDirectory the new user data directory
+   */
+  private static void copyProfile(Path template, Path profileDirectory) throws IOException {
+    Files.walkFileTree(template, new SimpleFileVisitor<>() {
+      @Override
+      public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs)
+          throws IOException {
+        Files.createDirectories(profileDirectory.resolve(template.relativize(dir).toString()));
+        return FileVisitResult.CONTINUE;
+      }
+
+      @Override
+      public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+        if (!attrs.isSymbolicLink() && !LOCK_FILES.contains(file.getFileName().toString())) {
+          Files.copy(file, profileDirectory.resolve(template.relativize(file).toString()),
+              StandardCopyOption.COPY_ATTRIBUTES);
+        }
+        return FileVisitResult.CONTINUE;
+      }
+    });
+  }
+
+  /**
+   * Builds the template of the run from a profile, moving only the {@link #TEMPLATE_STATE} folders
+   * of every profile folder in it, such as Default, into a new directory.
+   *
+   * @param profileDirectory the user data directory of a session whose browser has quit
+   * @return the template user data directory as {@link Path}
+   */
+  private static Path buildTemplate(Path profileDirectory) throws IOException {
+    var template = Files.createTempDirectory(profileDirectory.getParent(), TEMPLATE_PREFIX);
+    CLONES.add(template);
+    List<Path> profileFolders;
+    try (Stream<Path> paths = Files.list(profileDirectory)) {
+      profileFolders = paths.filter(Files::isDirectory).collect(Collectors.toList());
+    }
+    for (var profileFolder : profileFolders) {
+      for (var state : TEMPLATE_STATE) {
+        var source = profileFolder.resolve(state);
+        if (Files.isDirectory(source)) {
+          var target = template.resolve(profileDirectory.relativize(source).toString());
+          Files.createDirectories(target.getParent());
+          Files.move(source, target);
+        }
+      }
+    }
+    return template;
+  }
+
+  /**
+   * Deletes a file, or a directory and everything in it. Errors are logged and ignored since a
+   * leftover profile shouldn't fail a test.
+   *
+   * @param path the file or directory to delete
+   */
+  private static void deleteDirectory(Path path) {
+    if (!Files.exists(path)) {
+      return;
+    }
+    try (Stream<Path> paths = Files.walk(path)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+    } catch (IOException e) {
+      log.debug(String.format("Could not delete browser profile %s: %s", path, e.getMessage()));
+    }
+  }
+}
@@ -0,0 +1,338 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.exception.ComponentException;
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+
+/**
+ * A lazy list of components built from the rows under a container element. Create one with
+ * {@link BaseComponent#buildComponentList(BaseWebElement, By, Class)} or
+ * {@link BaseComponent#buildScrollingComponentList(BaseWebElement, By, Class)}.
+ * <p>
+ * The rows are read with a single script the first time the list is used. The script returns how
+ * many rows there are and where they are among their siblings, the same way
+ * {@link BaseWebElement#findElements(Class, By)} indexes its elements. A component is only created
+ * when its row is accessed with {@link #get(int)} or reached while iterating, and is kept for later
+ * reads of the same row. Memory and WebDriver commands scale with the rows a test uses, rather than
+ * with every row on the page.
+ * <p>
+ * For paged lists, call {@link #refresh()} after moving to another page so the rows are read
+ * again. For infinite scroll lists, {@link #loadMore()} scrolls the container and waits for more
+ * rows, and iterating a scrolling list loads more rows whenever it reaches the last loaded row.
+ * Infinite scroll lists are expected to keep the rows they've already loaded. Lists that remove
+ * rows as they scroll, so that only a window of rows is ever in the DOM, can't be indexed by
+ * position.
+ * <p>
+ * A component list isn't thread safe, and is meant to be used from the test thread that built it.
+ *
+ * @param <T> the type reference of {@link BaseComponent}
+ */
+@Slf4j
+public class ComponentList<T extends BaseComponent> extends AbstractList<T> {
+
+  /*
+   A script function that reads the rows under a parent. Siblings are the elements with the same tag
+   as the first row under the first row's parent, the same as BaseWebElement#findElements. Rows that
+   are next to each other are returned as a count and offset only, so that long lists don't send an
+   index for every row.
+   */
+  private static final String READ_ROWS_FUNCTION = ""
+      + "function readRows(parent, selector) {"
+      + "  var matches = parent.querySelectorAll(selector);"
+      + "  if (matches.length === 0) {"
+      + "    return {count: 0, offset: 0, indexes: null};"
+      + "  }"
+      + "  var matched = new Set(matches);"
+      + "  var siblings = matches[0].parentNode.getElementsByTagName(matches[0].tagName);"
+      + "  var indexes = [];"
+      + "  for (var i = 0; i < siblings.length; i++) {"
+      + "    if (matched.has(siblings[i])) {"
+      + "      indexes.push(i);"
+      + "    }"
+      + "  }"
+      + "  var contiguous = indexes[indexes.length - 1] - indexes[0] === indexes.length - 1;"
+      + "  return {count: indexes.length, offset: indexes[0],"
+      + "      indexes: contiguous ? null : indexes};"
+      + "}";
+
+  /*
+   Arguments: the container element and the CSS selector of the rows.
+   */
+  private static final String READ_ROWS_SCRIPT = ""
+      + READ_ROWS_FUNCTION
+      + "return readRows(arguments[0], arguments[1]);";
+
+  /*
+   Arguments: the container element, the CSS selector of the rows, the number of rows already
+   loaded, how long the page has to be quiet before there are no more rows in milliseconds, and how
+   long to wait for more rows in milliseconds. Scrolls the closest scrollable element, starting from
+   the container, to the bottom, and polls until there are more rows than were loaded, the page has
+   settled, or the time runs out. The page is busy while the DOM changes, or while requests tracked
+   by PageReadinessWait are in flight. Resolves with the rows, and whether the page settled.
+   */
+  private static final String LOAD_MORE_SCRIPT = ""
+      + "var parent = arguments[0], selector = arguments[1], loadedCount = arguments[2], "
+      + "settleTime = arguments[3], deadline = Date.now() + arguments[4], "
+      + "callback = arguments[arguments.length - 1];"
+      + READ_ROWS_FUNCTION
+      + "var scroller = parent;"
+      + "while (scroller && scroller.scrollHeight <= scroller.clientHeight) {"
+      + "  scroller = scroller.parentElement;"
+      + "}"
+      + "scroller = scroller || document.scrollingElement || document.documentElement;"
+      + "scroller.scrollTop = scroller.scrollHeight;"
+      + "var lastActivity = Date.now();"
+      + "var observer = new MutationObserver(function () { lastActivity = Date.now(); });"
+      + "observer.observe(document.documentElement, {subtree: true, childList: true, "
+      + "    characterData: true, attributes: true, "
+      + "    attributeFilter: ['class', 'hidden', 'aria-busy']});"
+      + "(function poll() {"
+      + "  var tracker = window.__scaffoldReadiness;"
+      + "  if (tracker && tracker.pending > 0) {"
+      + "    lastActivity = Date.now();"
+      + "  }"
+      + "  var rows = readRows(parent, selector);"
+      + "  rows.settled = Date.now() - lastActivity >= settleTime;"
+      + "  if (rows.count > loadedCount || rows.settled || Date.now() >= deadline) {"
+      + "    observer.disconnect();"
+      + "    callback(rows);"
+      + "    return;"
+      + "  }"
+      + "  setTimeout(poll, 50);"
+      + "})();";
+
+  /**
+   * How long the page has to be quiet after scrolling, by default, before {@link #loadMore()}
+   * decides there are no more rows.
+   */
+  public static final long DEFAULT_SETTLE_TIME_IN_MILLIS = 500L;
+
+  private final BaseWebElement container;
+  private final By rowBy;
+  private final Class<T> component;
+  private final boolean infiniteScroll;
+  private final long settleTimeInMillis;
+  private final String rowCss;
+  private final Locator rowLocator;
+  private final Map<Integer, T> components = new HashMap<>();
+
+  private boolean read;
+  private int count;
+  private int offset;
+  private List<Integer> indexes;
+  private boolean exhausted;
+
+  /**
+   * Creates a new lazy list of components. Nothing is read until the list is first used.
+   *
+   * @param container      the element the rows are under
+   * @param rowBy          the {@link By} locator of the rows, relative to the container
+   * @param component      the {@link BaseComponent} class of the rows
+   * @param infiniteScroll whether iterating past the last loaded row should load more rows
+   * @throws ComponentException when the container or the rows use XPath locators
+   */
+  public ComponentList(BaseWebElement container, By rowBy, Class<T> component,
+      boolean infiniteScroll) {
+    this(container, rowBy, component, infiniteScroll, DEFAULT_SETTLE_TIME_IN_MILLIS);
+  }
+
+  /**
+   * Creates a new lazy list of components. Nothing is read until the list is first used.
+   *
+   * @param container          the element the rows are under
+   * @param rowBy              the {@link By} locator of the rows, relative to the container
+   * @param component          the {@link BaseComponent} class of the rows
+   * @param infiniteScroll     whether iterating past the last loaded row should load more rows
+   * @param settleTimeInMillis how long the page has to be quiet after scrolling before
+   *                           {@link #loadMore()} decides there are no more rows
+   * @throws ComponentException when the container or the rows use XPath locators
+   */
+  public ComponentList(BaseWebElement container, By rowBy, Class<T> component,
+      boolean infiniteScroll, long settleTimeInMillis) {
+    if (container.getBy() == null || container.getBy() instanceof By.ByXPath
+        || container.getParentBy() instanceof By.ByXPath || rowBy instanceof By.ByXPath) {
+      throw new ComponentException("Scaffold currently cannot build component lists using "
+          + "XPATH. Please use By locators that are a type of Css selector.");
+    }
+    this.container = container;
+    this.rowBy = rowBy;
+    this.component = component;
+    this.infiniteScroll = infiniteScroll;
+    this.settleTimeInMillis = settleTimeInMillis;
+    this.rowCss = Locator.of(rowBy).getCss();
+    var containerLocator = container.getParentBy() == null
+        ? container.getLocator()
+        : container.getParentLocator().descendant(container.getLocator());
+    this.rowLocator = containerLocator.descendant(Locator.of(rowBy));
+  }
+
+  /**
+   * Gets the component for a row, creating it on first access.
+   *
+   * @param index the index of the row
+   * @return as the component
+   * @throws IndexOutOfBoundsException when there's no row at the index, after loading more rows for
+   *                                   an infinite scroll list
+   */
+  @Override
+  public T get(int index) {
+    while (infiniteScroll && index >= size()) {
+      if (!loadMore()) {
+        break;
+      }
+    }
+    Objects.checkIndex(index, size());
+    return components.computeIfAbsent(index, this::createComponent);
+  }
+
+  /**
+   * Gets the number of rows that are loaded, reading the rows first if they haven't been read yet.
+   *
+   * @return the number of loaded rows
+   */
+  @Override
+  public int size() {
+    if (!read) {
+      readRows();
+    }
+    return count;
+  }
+
+  /**
+   * Iterates through the rows, creating each component as it's reached. For an infinite scroll
+   * list, reaching the last loaded row loads more rows until no more appear.
+   *
+   * @return as {@link Iterator}
+   */
+  @Override
+  public Iterator<T> iterator() {
+    return new Iterator<>() {
+      private int next;
+
+      @Override
+      public boolean hasNext() {
+        return next < size() || (infiniteScroll && loadMore());
+      }
+
+      @Override
+      public T next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return get(next++);
+      }
+    };
+  }
+
+  @Override
+  public Spliterator<T> spliterator() {
+    return infiniteScroll
+        ? Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED)
+        : super.spliterator();
+  }
+
+  /**
+   * Reads the rows again, for when the list has changed, such as after moving to another page of a
+   * paged list. Components created before the refresh aren't reused.
+   */
+  public void refresh() {
+    components.clear();
+    exhausted = false;
+    readRows();
+  }
+
+  /**
+   * Scrolls the container to its bottom and waits for more rows to load. The closest scrollable
+   * element, starting from the container, is scrolled.
+   * <p>
+   * The end of the list is reached once the page has been quiet for the settle time, with no DOM
+   * changes and no requests in flight, and no more rows have loaded. A page that's still loading
+   * rows is waited on for up to the {@link AutomationWait} timeout instead. Each script waits for at
+   * most {@link ScriptElementLocator#MAX_POLL_PER_SCRIPT_IN_MILLIS}, and is run again until one of
+   * these happens. Once no more rows load, this returns false without scrolling again until the
+   * list is refreshed.
+   *
+   * @return true if more rows were loaded
+   */
+  @SuppressWarnings("unchecked")
+  public boolean loadMore() {
+    if (exhausted) {
+      return false;
+    }
+    var loadedCount = size();
+    var deadline = System.currentTimeMillis()
+        + container.getWebDriverWrapper().getAutomationWait().getTimeoutInSeconds() * 1000;
+    var settled = false;
+    do {
+      var pollInMillis = Math.min(ScriptElementLocator.MAX_POLL_PER_SCRIPT_IN_MILLIS,
+          Math.max(0L, deadline - System.currentTimeMillis()));
+      try {
+        var rows = container.readRawWebElement(element -> (Map<String, Object>)
+            getJavascriptExecutor().executeAsyncScript(LOAD_MORE_SCRIPT, element, rowCss,
+                loadedCount, settleTimeInMillis, pollInMillis));
+        setRows(rows);
+        settled = Boolean.TRUE.equals(rows.get("settled"));
+      } catch (ScriptTimeoutException e) {
+        log.debug("Load more script timed out, trying again");
+      }
+    } while (count <= loadedCount && !settled && System.currentTimeMillis() < deadline);
+    exhausted = count <= loadedCount;
+    log.debug(String.format("Loaded %s more rows [%s] under element [%s]", count - loadedCount,
+        rowBy, container.getBy()));
+    return !exhausted;
+  }
+
+  /**
+   * Reads the rows with a single script.
+   */
+  @SuppressWarnings("unchecked")
+  private void readRows() {
+    setRows(container.readRawWebElement(element -> (Map<String, Object>) getJavascriptExecutor()
+        .executeScript(READ_ROWS_SCRIPT, element, rowCss)));
+    log.debug(String.format("Found %s rows [%s] under element [%s]", count, rowBy,
+        container.getBy()));
+  }
+
+  private JavascriptExecutor getJavascriptExecutor() {
+    return container.getWebDriverWrapper().getJavascriptExecutor();
+  }
+
+  @SuppressWarnings("unchecked")
+  private void setRows(Map<String, Object> rows) {
+    count = ((Number) rows.get("count")).intValue();
+    offset = ((Number) rows.get("offset")).intValue();
+    var rowIndexes = (List<Number>) rows.get("indexes");
+    indexes = rowIndexes == null
+        ? null
+        : rowIndexes.stream().map(Number::intValue).collect(Collectors.toList());
+    read = true;
+  }
+
+  /**
+   * Creates the component for a row, rebased under the row's nth-child selector.
+   *
+   * @param index the index of the row
+   * @return as the component
+   */
+  private T createComponent(int index) {
+    var siblingIndex = indexes == null ? offset + index : indexes.get(index);
+    try {
+      return BaseComponent.createComponent(component,
+          rowLocator.nthChild(siblingIndex + 1).getCss());
+    } catch (ReflectiveOperationException e) {
+      throw new ComponentException(e);
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.exception.ComponentException;
+
+/**
+ * Moves the elements of a {@link BaseComponent} under a new parent selector. Classes implementing
+ * this are generated at compile time by the Scaffold processor for components marked with
+ * {@link GenerateRebase}, and are named after the component with a {@link #SUFFIX}. For example,
+ * {@code SearchResultItem_ScaffoldRebase}, or {@code SearchResultsPage_SearchResultItem_ScaffoldRebase}
+ * for a nested component.
+ *
+ * @param <T> the type reference of the {@link BaseComponent}
+ */
+public interface ComponentRebase<T extends BaseComponent> {
+
+  /**
+   * The suffix added to the name of the component for its generated {@link ComponentRebase}.
+   */
+  String SUFFIX = "_ScaffoldRebase";
+
+  /**
+   * Replaces every {@link BaseWebElement} field declared on the component with a new element under
+   * the parent selector.
+   *
+   * @param component      the instance of the {@link BaseComponent}
+   * @param parentSelector the parent selector being used as the prefix
+   */
+  void rebase(T component, String parentSelector);
+
+  /**
+   * Creates a new element of the same type with the parent selector as a prefix of its locator,
+   * combined as CSS by {@link Locator}.
+   * This is the same conversion done by {@link BaseComponent#buildComponentList(java.util.List,
+   * Class)} for components without a generated {@link ComponentRebase}.
+   *
+   * @param element        the element to rebase
+   * @param parentSelector the parent selector being used as the prefix
+   * @param <X>            the type reference of the {@link BaseWebElement}
+   * @return as the new element, or null if the element is null
+   */
+  @SuppressWarnings("unchecked")
+  static <X extends BaseWebElement> X rebase(X element, String parentSelector) {
+    if (element == null) {
+      return null;
+    }
+    if (element.getLocator().isXPath()) {
+      throw new ComponentException(String.format("Scaffold currently cannot build component lists "
+          + "using XPATH. Please use By locators that are a type of Css selector: %s",
+          element.getBy()));
+    }
+    var newLocator = Locator.css(parentSelector).descendant(element.getLocator());
+    try {
+      return ElementFactory.newElement((Class<X>) element.getClass(), newLocator.getBy());
+    } catch (ReflectiveOperationException e) {
+      throw new ComponentException(e);
+    }
+  }
+}
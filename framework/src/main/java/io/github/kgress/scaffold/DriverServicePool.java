@@ -0,0 +1,157 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.exception.WebDriverContextException;
+import io.github.kgress.scaffold.models.enums.desktop.BrowserType;
+import io.github.kgress.scaffold.models.enums.desktop.RunType;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.remote.service.DriverService;
+
+/**
+ * A pool of long lived chromedriver processes that are shared by every {@link RunType#LOCAL} and
+ * {@link RunType#HEADLESS} Chrome session in the JVM.
+ * <p>
+ * Creating a ChromeDriver normally starts a new driver process on a new port for every test, and
+ * stops it when the browser is quit. With the pool, each driver process is started
+ * once and sessions are created against its URL with a {@link ScreenshotRemoteDriver}, so quitting
+ * the browser leaves the driver process running for the next test.
+ * <p>
+ * Sessions are spread across the services in the pool round robin. A service that has died is
+ * restarted the next time a session asks for it.
+ * <p>
+ * Firefox isn't supported. geckodriver only allows one session per process, so concurrent sessions
+ * can't share it.
+ */
+@Slf4j
+public class DriverServicePool {
+
+  private static final Map<BrowserType, DriverServicePool> POOLS = new ConcurrentHashMap<>();
+
+  static {
+    Runtime.getRuntime().addShutdownHook(new Thread(DriverServicePool::stopAll,
+        "scaffold-driver-service-shutdown"));
+  }
+
+  @Getter(AccessLevel.PRIVATE)
+  private final BrowserType browserType;
+
+  private final DriverService[] driverServices;
+  private final AtomicInteger nextService = new AtomicInteger();
+
+  /**
+   * Creates a new pool. No driver process is started until the first session asks for one. Most
+   * callers should use {@link #getPool(BrowserType, int)} so that the pool is shared across the
+   * JVM.
+   *
+   * @param browserType the {@link BrowserType} of the driver processes
+   * @param poolSize    the amount of driver processes to spread sessions across
+   */
+  public DriverServicePool(BrowserType browserType, int poolSize) {
+    if (!isSupported(browserType)) {
+      throw new WebDriverContextException(String.format(
+          "Shared driver services are not supported for browser type: %s", browserType));
+    }
+    this.browserType = browserType;
+    this.driverServices = new DriverService[poolSize];
+  }
+
+  /**
+   * Gets the pool for the browser type, creating it if it doesn't exist yet.
+   *
+   * @param browserType the {@link BrowserType} of the driver processes
+   * @param poolSize    the amount of driver processes to spread sessions across
+   * @return as {@link DriverServicePool}
+   */
+  public static DriverServicePool getPool(BrowserType browserType, int poolSize) {
+    return POOLS.computeIfAbsent(browserType,
+        key -> new DriverServicePool(browserType, poolSize));
+  }
+
+  /**
+   * Checks if the browser type has a driver process that can be shared. Only Chrome is supported,
+   * since chromedriver can serve many sessions at once.
+   *
+   * @param browserType the {@link BrowserType} to check
+   * @return true if the driver process can be shared
+   */
+  public static boolean isSupported(BrowserType browserType) {
+    return browserType == BrowserType.CHROME;
+  }
+
+  /**
+   * Stops every driver process in every pool. This is registered as a JVM shutdown hook so that
+   * driver processes are not abandoned at the end of a test run.
+   */
+  public static void stopAll() {
+    POOLS.values().forEach(DriverServicePool::stop);
+    POOLS.clear();
+  }
+
+  /**
+   * Gets the URL of the next driver process in the pool, starting or restarting it if it isn't
+   * running.
+   *
+   * @return as {@link URL}
+   */
+  public URL getServiceUrl() {
+    var index = Math.floorMod(nextService.getAndIncrement(), driverServices.length);
+    return getRunningService(index).getUrl();
+  }
+
+  /**
+   * Stops every driver process in this pool.
+   */
+  public synchronized void stop() {
+    for (var i = 0; i < driverServices.length; i++) {
+      if (driverServices[i] != null) {
+        driverServices[i].stop();
+        driverServices[i] = null;
+      }
+    }
+  }
+
+  /**
+   * Gets the driver process at the index, starting a new one if it was never started or has died.
+   *
+   * @param index the index of the driver process in the pool
+   * @return as {@link DriverService}
+   */
+  private synchronized DriverService getRunningService(int index) {
+    var driverService = driverServices[index];
+    if (driverService != null && driverService.isRunning()) {
+      return driverService;
+    }
+    if (driverService != null) {
+      log.warn(String.format("Shared %s driver service %s stopped running. Restarting it.",
+          getBrowserType(), index));
+    }
+    driverService = createDriverService();
+    try {
+      driverService.start();
+    } catch (IOException e) {
+      throw new WebDriverContextException(String.format(
+          "Could not start the shared %s driver service", getBrowserType()), e);
+    }
+    log.debug(String.format("Started shared %s driver service at %s", getBrowserType(),
+        driverService.getUrl()));
+    driverServices[index] = driverService;
+    return driverService;
+  }
+
+  /**
+   * Creates a new driver process for the browser type on a free port. The driver binary is found
+   * the same way ChromeDriver would find it, including the webdriver.chrome.driver system property.
+   *
+   * @return as {@link DriverService}
+   */
+  protected DriverService createDriverService() {
+    return ChromeDriverService.createDefaultService();
+  }
+}
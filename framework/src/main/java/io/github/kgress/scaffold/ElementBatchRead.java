@@ -0,0 +1,200 @@
+package io.github.kgress.scaffold;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Reads the properties of many {@link BaseWebElement}s with a single script, instead of a
+ * WebDriver command for every property of every element.
+ * <p>
+ * Add the elements to read along with any attributes that are needed, then read them all at once.
+ * From a page object or component, use {@link BaseComponent#readElements(ElementBatchRead)}:
+ * <pre>{@code
+ *      var snapshots = readElements(new ElementBatchRead()
+ *          .add(getItemName())
+ *          .add(getItemPrice())
+ *          .add(getItemLink(), "href", "target"));
+ *      assertEquals("$29.99", snapshots.get(getItemPrice()).getText());
+ * }
+ * </pre>
+ * <p>
+ * Every element gets its presence, visibility, enabled and selected state, text, tag name and rect
+ * read. The element isn't waited on, so elements that aren't on the page come back with
+ * {@link ElementSnapshot#isPresent()} as false instead of failing the read. Text is only read for
+ * displayed elements, the same as {@link BaseWebElement#getText()}.
+ * <p>
+ * Elements whose locators can't be run in a script, such as link text, are found with
+ * {@link BaseWebElement#getRawWebElement()} first and passed to the script.
+ */
+@Slf4j
+public class ElementBatchRead {
+
+  /*
+   A script function that reads every requested element, shared with PageSnapshotCache. It needs the
+   find and isDisplayed functions from ScriptElementLocator.
+   */
+  static final String READ_ELEMENTS_FUNCTION = ""
+      + "function readAttribute(element, name) {"
+      + "  if (name === 'value' || name === 'href' || name === 'src' || name === 'checked'"
+      + "      || name === 'selected') {"
+      + "    var property = element[name];"
+      + "    return property === undefined || property === null ? null : String(property);"
+      + "  }"
+      + "  return element.getAttribute(name);"
+      + "}"
+      + "function readElements(requests) {"
+      + "return requests.map(function (request) {"
+      + "  var element = request.element || null;"
+      + "  if (!element) {"
+      + "    var root = request.parentValue"
+      + "        ? find(request.parentType, request.parentValue, document) : document;"
+      + "    element = root ? find(request.type, request.value, root) : null;"
+      + "  }"
+      + "  if (!element) {"
+      + "    return {present: false};"
+      + "  }"
+      + "  var displayed = isDisplayed(element);"
+      + "  var bounds = element.getBoundingClientRect();"
+      + "  var attributes = {};"
+      + "  request.attributes.forEach(function (name) {"
+      + "    attributes[name] = readAttribute(element, name);"
+      + "  });"
+      + "  return {"
+      + "    present: true,"
+      + "    displayed: displayed,"
+      + "    enabled: !element.disabled,"
+      + "    selected: !!(element.checked || element.selected),"
+      + "    text: displayed ? (element.innerText || '').trim() : '',"
+      + "    tagName: element.tagName.toLowerCase(),"
+      + "    rect: {x: bounds.left + window.pageXOffset, y: bounds.top + window.pageYOffset,"
+      + "        width: bounds.width, height: bounds.height},"
+      + "    attributes: attributes"
+      + "  };"
+      + "});"
+      + "}";
+
+  private static final String READ_SCRIPT = ""
+      + ScriptElementLocator.FIND_FUNCTION
+      + ScriptElementLocator.IS_DISPLAYED_FUNCTION
+      + READ_ELEMENTS_FUNCTION
+      + "return readElements(arguments[0]);";
+
+  private final Map<BaseWebElement, List<String>> requests = new LinkedHashMap<>();
+
+  /**
+   * Adds an element to read, along with the attributes to read from it. Adding the same element
+   * again adds to its attributes.
+   * <p>
+   * The value, href, src, checked and selected attributes are read from the element's DOM
+   * properties, the same as {@link BaseWebElement#getAttribute(String)}. Every other attribute is
+   * read as it's written in the page.
+   *
+   * @param element    the {@link BaseWebElement} to read
+   * @param attributes the names of the attributes to read
+   * @return this {@link ElementBatchRead}
+   */
+  public ElementBatchRead add(BaseWebElement element, String... attributes) {
+    var elementAttributes = requests.computeIfAbsent(element, key -> new ArrayList<>());
+    for (var attribute : attributes) {
+      if (!elementAttributes.contains(attribute)) {
+        elementAttributes.add(attribute);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Checks if an element has been added.
+   *
+   * @param element the {@link BaseWebElement} to check
+   * @return true if the element will be read
+   */
+  boolean contains(BaseWebElement element) {
+    return requests.containsKey(element);
+  }
+
+  /**
+   * Reads every added element with a single script.
+   *
+   * @param webDriverWrapper the {@link WebDriverWrapper} to read the elements with
+   * @return as a {@link Map} of each added {@link BaseWebElement} to its {@link ElementSnapshot},
+   * in the order the elements were added
+   */
+  @SuppressWarnings("unchecked")
+  public Map<BaseWebElement, ElementSnapshot> read(WebDriverWrapper webDriverWrapper) {
+    if (requests.isEmpty()) {
+      return new LinkedHashMap<>();
+    }
+
+    log.debug(String.format("Reading %s elements with a single script", requests.size()));
+    var results = (List<Map<String, Object>>) webDriverWrapper.getJavascriptExecutor()
+        .executeScript(READ_SCRIPT, toScriptRequests());
+    return toSnapshots(results);
+  }
+
+  /**
+   * Builds the script requests for every added element, in the order they were added.
+   *
+   * @return as a {@link List} of requests understood by the read script
+   */
+  List<Map<String, Object>> toScriptRequests() {
+    var scriptRequests = new ArrayList<Map<String, Object>>();
+    requests.keySet().forEach(element -> scriptRequests.add(toScriptRequest(element)));
+    return scriptRequests;
+  }
+
+  /**
+   * Maps the results of the read script back to the added elements.
+   *
+   * @param results the results of the read script, in the order the elements were added
+   * @return as a {@link Map} of each added {@link BaseWebElement} to its {@link ElementSnapshot}
+   */
+  Map<BaseWebElement, ElementSnapshot> toSnapshots(List<Map<String, Object>> results) {
+    var elements = new ArrayList<>(requests.keySet());
+    if (results == null || results.size() != elements.size()) {
+      throw new WebDriverException(String.format(
+          "Expected %s results from the batch read script, but got %s", elements.size(),
+          results == null ? null : results.size()));
+    }
+    var snapshots = new LinkedHashMap<BaseWebElement, ElementSnapshot>();
+    for (var i = 0; i < elements.size(); i++) {
+      snapshots.put(elements.get(i), new ElementSnapshot(results.get(i)));
+    }
+    return snapshots;
+  }
+
+  /**
+   * Builds the script request for an element. Elements with locators that can be run in the
+   * script are found by the script, and every other element is found first and passed in.
+   *
+   * @param element the {@link BaseWebElement} to build the request for
+   * @return as a {@link Map} understood by the read script
+   */
+  private Map<String, Object> toScriptRequest(BaseWebElement element) {
+    var scriptRequest = new HashMap<String, Object>();
+    scriptRequest.put("attributes", requests.get(element));
+
+    var locator = element.getBy() == null
+        ? null
+        : ScriptElementLocator.toScriptLocator(element.getBy()).orElse(null);
+    var parentLocator = element.getParentBy() == null
+        ? null
+        : ScriptElementLocator.toScriptLocator(element.getParentBy()).orElse(null);
+    if (locator != null && (element.getParentBy() == null || parentLocator != null)) {
+      scriptRequest.put("type", locator.getType());
+      scriptRequest.put("value", locator.getValue());
+      if (parentLocator != null) {
+        scriptRequest.put("parentType", parentLocator.getType());
+        scriptRequest.put("parentValue", parentLocator.getValue());
+      }
+    } else {
+      scriptRequest.put("element", element.getRawWebElement());
+    }
+    return scriptRequest;
+  }
+}
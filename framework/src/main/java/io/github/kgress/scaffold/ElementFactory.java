@@ -0,0 +1,136 @@
+package io.github.kgress.scaffold;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Creates new instances of {@link BaseWebElement}s and {@link BaseComponent}s from their class.
+ * This is used when building child elements with
+ * {@link BaseWebElement#findElements(Class, By)} and component lists with
+ * {@link BaseComponent#buildComponentList(java.util.List, Class)}.
+ * <p>
+ * The public constructor for a class and set of parameters is looked up once and kept as a
+ * {@link MethodHandle}. Every later instance is created from the kept handle, rather than looking
+ * up the constructor again for every element of every list.
+ * <p>
+ * Errors are reported the same way as {@link Class#getConstructor(Class[])} and
+ * {@link java.lang.reflect.Constructor#newInstance(Object...)}. A missing constructor throws
+ * {@link NoSuchMethodException}, and an exception thrown by the constructor is wrapped in an
+ * {@link InvocationTargetException}.
+ */
+public final class ElementFactory {
+
+  private static final MethodType NO_ARGUMENTS = MethodType.methodType(void.class);
+  private static final MethodType BY = MethodType.methodType(void.class, By.class);
+  private static final MethodType BY_AND_PARENT_BY =
+      MethodType.methodType(void.class, By.class, By.class);
+  private static final MethodType WEB_ELEMENT = MethodType.methodType(void.class, WebElement.class);
+
+  /*
+   The constructors found for each class, by constructor type. Each handle is adapted to take its
+   arguments as an Object[] and return an Object, so that every class is invoked the same way.
+   */
+  private static final ClassValue<Map<MethodType, MethodHandle>> CONSTRUCTORS =
+      new ClassValue<>() {
+        @Override
+        protected Map<MethodType, MethodHandle> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  private ElementFactory() {
+  }
+
+  /**
+   * Creates a new element with its {@code (By)} constructor.
+   *
+   * @param elementClass the class of the element
+   * @param by           the {@link By} locator of the element
+   * @param <T>          the type reference of {@link BaseWebElement}
+   * @return as the new element
+   * @throws ReflectiveOperationException when the class doesn't have the constructor, or the
+   *                                      constructor fails
+   */
+  public static <T extends BaseWebElement> T newElement(Class<T> elementClass, By by)
+      throws ReflectiveOperationException {
+    return newInstance(elementClass, BY, by);
+  }
+
+  /**
+   * Creates a new element with its {@code (By, By)} constructor.
+   *
+   * @param elementClass the class of the element
+   * @param by           the {@link By} locator of the element
+   * @param parentBy     the {@link By} locator of the parent element
+   * @param <T>          the type reference of {@link BaseWebElement}
+   * @return as the new element
+   * @throws ReflectiveOperationException when the class doesn't have the constructor, or the
+   *                                      constructor fails
+   */
+  public static <T extends BaseWebElement> T newElement(Class<T> elementClass, By by, By parentBy)
+      throws ReflectiveOperationException {
+    return newInstance(elementClass, BY_AND_PARENT_BY, by, parentBy);
+  }
+
+  /**
+   * Creates a new element with its {@code (WebElement)} constructor.
+   *
+   * @param elementClass the class of the element
+   * @param webElement   the raw {@link WebElement}
+   * @param <T>          the type reference of {@link BaseWebElement}
+   * @return as the new element
+   * @throws ReflectiveOperationException when the class doesn't have the constructor, or the
+   *                                      constructor fails
+   */
+  public static <T extends BaseWebElement> T newElement(Class<T> elementClass,
+      WebElement webElement) throws ReflectiveOperationException {
+    return newInstance(elementClass, WEB_ELEMENT, webElement);
+  }
+
+  /**
+   * Creates a new component with its empty constructor.
+   *
+   * @param componentClass the class of the component
+   * @param <T>            the type reference of {@link BaseComponent}
+   * @return as the new component
+   * @throws ReflectiveOperationException when the class doesn't have the constructor, or the
+   *                                      constructor fails
+   */
+  public static <T extends BaseComponent> T newComponent(Class<T> componentClass)
+      throws ReflectiveOperationException {
+    return newInstance(componentClass, NO_ARGUMENTS);
+  }
+
+  private static <T> T newInstance(Class<T> type, MethodType constructorType,
+      Object... arguments) throws ReflectiveOperationException {
+    var constructor = getConstructor(type, constructorType);
+    Object instance;
+    try {
+      instance = constructor.invokeExact(arguments);
+    } catch (Throwable e) {
+      throw new InvocationTargetException(e);
+    }
+    return type.cast(instance);
+  }
+
+  private static MethodHandle getConstructor(Class<?> type, MethodType constructorType)
+      throws ReflectiveOperationException {
+    var constructors = CONSTRUCTORS.get(type);
+    var constructor = constructors.get(constructorType);
+    if (constructor == null) {
+      var parameterCount = constructorType.parameterCount();
+      constructor = MethodHandles.lookup()
+          .unreflectConstructor(type.getConstructor(constructorType.parameterArray()))
+          .asType(MethodType.genericMethodType(parameterCount))
+          .asSpreader(Object[].class, parameterCount);
+      constructors.put(constructorType, constructor);
+    }
+    return constructor;
+  }
+}
@@ -0,0 +1,83 @@
+package io.github.kgress.scaffold;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import org.openqa.selenium.Rectangle;
+
+/**
+ * The properties of a {@link BaseWebElement} as read by {@link ElementBatchRead}. Every property
+ * is read at the same moment in a single script, so a snapshot doesn't change when the page does.
+ * <p>
+ * When the element isn't on the page, {@link #isPresent()} is false, the text is empty, the rect
+ * is null and every other property is false.
+ */
+@Getter
+public class ElementSnapshot {
+
+  private final boolean present;
+  private final boolean displayed;
+  private final boolean enabled;
+  private final boolean selected;
+  private final String text;
+  private final String tagName;
+  private final Rectangle rect;
+  private final Map<String, String> attributes;
+
+  /**
+   * Creates a snapshot from a result of the batch read script.
+   *
+   * @param result the properties returned by the script for a single element
+   */
+  @SuppressWarnings("unchecked")
+  ElementSnapshot(Map<String, Object> result) {
+    this.present = Boolean.TRUE.equals(result.get("present"));
+    this.displayed = Boolean.TRUE.equals(result.get("displayed"));
+    this.enabled = Boolean.TRUE.equals(result.get("enabled"));
+    this.selected = Boolean.TRUE.equals(result.get("selected"));
+    this.text = result.get("text") == null ? "" : (String) result.get("text");
+    this.tagName = (String) result.get("tagName");
+    this.rect = toRectangle((Map<String, Object>) result.get("rect"));
+
+    var attributeResults = (Map<String, Object>) result.get("attributes");
+    var attributeValues = new HashMap<String, String>();
+    if (attributeResults != null) {
+      attributeResults.forEach((name, value) ->
+          attributeValues.put(name, value == null ? null : String.valueOf(value)));
+    }
+    this.attributes = Collections.unmodifiableMap(attributeValues);
+  }
+
+  /**
+   * Gets an attribute that was requested when the element was added to the
+   * {@link ElementBatchRead}.
+   *
+   * @param name the name of the attribute
+   * @return the attribute as {@link String}, or null if the element doesn't have it
+   */
+  public String getAttribute(String name) {
+    return attributes.get(name);
+  }
+
+  /**
+   * Gets every attribute that was requested when the element was added to the
+   * {@link ElementBatchRead}.
+   *
+   * @return as an unmodifiable {@link Map} of attribute name to value
+   */
+  public Map<String, String> getAttributes() {
+    return attributes;
+  }
+
+  private Rectangle toRectangle(Map<String, Object> rectResult) {
+    if (rectResult == null) {
+      return null;
+    }
+    return new Rectangle(
+        ((Number) rectResult.get("x")).intValue(),
+        ((Number) rectResult.get("y")).intValue(),
+        ((Number) rectResult.get("height")).intValue(),
+        ((Number) rectResult.get("width")).intValue());
+  }
+}
@@ -0,0 +1,60 @@
+package io.github.kgress.scaffold;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@link BaseComponent} to have a {@link ComponentRebase} generated for it at compile time
+ * by the Scaffold processor. {@link BaseComponent#buildComponentList(java.util.List, Class)} then
+ * uses the generated class to move the component's elements under each new parent selector,
+ * instead of finding and setting the fields with reflection for every component in the list.
+ * <p>
+ * Add the processor to the project's annotation processor path, so it's only used by the compiler
+ * and isn't added to the project's classpath:
+ * <pre>{@code
+ *      <plugin>
+ *          <groupId>org.apache.maven.plugins</groupId>
+ *          <artifactId>maven-compiler-plugin</artifactId>
+ *          <configuration>
+ *              <annotationProcessorPaths>
+ *                  <path>
+ *                      <groupId>io.github.kgress.scaffold</groupId>
+ *                      <artifactId>processor</artifactId>
+ *                      <version>${scaffold.version}</version>
+ *                  </path>
+ *              </annotationProcessorPaths>
+ *          </configuration>
+ *      </plugin>
+ * }
+ * </pre>
+ * <p>
+ * Once the annotation processor path is set, the compiler no longer finds processors on the
+ * classpath, so any other processors the project uses, such as Lombok, have to be added to the
+ * path as well.
+ * <p>
+ * The generated class sets the fields directly, so the component's {@link BaseWebElement} fields
+ * can't be private or final. The component class has to be accessible from its package, and nested
+ * components have to be static:
+ * <pre>{@code
+ *      @Getter
+ *      @GenerateRebase
+ *      public class SearchResultItem extends BaseComponent {
+ *          DivWebElement itemName = new DivWebElement(".inventory_item_name");
+ *          DivWebElement itemPrice = new DivWebElement(".inventory_item_price");
+ *          ButtonWebElement addToCart = new ButtonWebElement(".btn_primary");
+ *      }
+ * }
+ * </pre>
+ * <p>
+ * Components without the annotation, or built without the processor, are still built with
+ * reflection.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GenerateRebase {
+
+}
@@ -0,0 +1,267 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.util.AutomationUtils;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.apache.commons.lang3.StringUtils;
+import org.openqa.selenium.By;
+
+/**
+ * A {@link By} locator that has been parsed once into its type, its underlying value and its CSS
+ * selector. Child elements and component lists combine locators and add nth-child indexes many
+ * times over, so every locator, including the results of {@link #descendant(Locator)} and
+ * {@link #nthChild(int)}, is interned by {@link #of(By)} and parsed only once while it's interned.
+ * <p>
+ * Locators are immutable and can be shared across threads. Any {@link By} can be used, including
+ * ones that can't be converted to CSS. Those fail only when a CSS selector is needed from them, the
+ * same as before locators were parsed.
+ */
+public final class Locator {
+
+  /*
+   Interned locators, evicting the oldest once there are too many so that generated nth-child
+   locators from large lists don't build up over a run. Reads don't lock, so parallel tests don't
+   contend on the cache.
+   */
+  private static final int MAX_INTERNED_LOCATORS = 4096;
+  private static final Map<By, Locator> INTERNED_LOCATORS = new ConcurrentHashMap<>();
+  private static final Queue<By> INTERNED_ORDER = new ConcurrentLinkedQueue<>();
+
+  /**
+   * The kind of a {@link Locator}.
+   */
+  public enum Kind {
+    /**
+     * A CSS selector, or a locator that can be converted to one, such as id, class name or tag name.
+     */
+    CSS,
+    /**
+     * An XPath locator.
+     */
+    XPATH,
+    /**
+     * Any other {@link By}, which can't be combined with other locators.
+     */
+    OTHER
+  }
+
+  private final By by;
+  private final Kind kind;
+  private final String value;
+  private final String css;
+  private final int hashCode;
+
+  private Locator(By by) {
+    this.by = by;
+    this.value = AutomationUtils.getUnderlyingLocatorByString(by);
+    this.hashCode = by.hashCode();
+    if (by instanceof By.ByXPath) {
+      this.kind = Kind.XPATH;
+      this.css = null;
+    } else {
+      this.css = toCss(by, value);
+      this.kind = css == null ? Kind.OTHER : Kind.CSS;
+    }
+  }
+
+  /**
+   * Gets the locator for a {@link By}.
+   *
+   * @param by the {@link By} to parse
+   * @return as {@link Locator}
+   */
+  public static Locator of(By by) {
+    var locator = INTERNED_LOCATORS.get(by);
+    if (locator != null) {
+      return locator;
+    }
+    var newLocator = new Locator(by);
+    locator = INTERNED_LOCATORS.putIfAbsent(by, newLocator);
+    if (locator != null) {
+      return locator;
+    }
+    INTERNED_ORDER.add(by);
+    while (INTERNED_LOCATORS.size() > MAX_INTERNED_LOCATORS) {
+      var eldest = INTERNED_ORDER.poll();
+      if (eldest == null) {
+        break;
+      }
+      INTERNED_LOCATORS.remove(eldest);
+    }
+    return newLocator;
+  }
+
+  /**
+   * Gets the locator for a CSS selector.
+   *
+   * @param cssSelector the CSS selector
+   * @return as {@link Locator}
+   */
+  public static Locator css(String cssSelector) {
+    return of(By.cssSelector(cssSelector));
+  }
+
+  /**
+   * Gets the {@link By} for this locator.
+   *
+   * @return as {@link By}
+   */
+  public By getBy() {
+    return by;
+  }
+
+  /**
+   * Gets the kind of this locator.
+   *
+   * @return as {@link Kind}
+   */
+  public Kind getKind() {
+    return kind;
+  }
+
+  /**
+   * Checks if this is an XPath locator.
+   *
+   * @return true if this is an XPath locator
+   */
+  public boolean isXPath() {
+    return kind == Kind.XPATH;
+  }
+
+  /**
+   * Gets the underlying value of the locator as it was given to the {@link By}. For example, a
+   * {@code By.className("item")} has a value of {@code item}.
+   *
+   * @return as {@link String}
+   */
+  public String getValue() {
+    return value;
+  }
+
+  /**
+   * Gets the CSS selector for this locator. For example, a {@code By.className("item")} has a CSS
+   * selector of {@code .item}.
+   *
+   * @return as {@link String}
+   * @throws RuntimeException when the locator can't be converted to CSS
+   */
+  public String getCss() {
+    if (css == null) {
+      throw new RuntimeException("Cannot convert XPATH to a CSS Selector");
+    }
+    return css;
+  }
+
+  /**
+   * Combines this locator, as the parent, with a child locator. Both locators have to be CSS, or
+   * both have to be XPath.
+   *
+   * @param child the child {@link Locator}
+   * @return as the combined {@link Locator}
+   * @throws RuntimeException when the locators can't be combined
+   */
+  public Locator descendant(Locator child) {
+    if (isXPath() || child.isXPath()) {
+      if (!isXPath() || !child.isXPath()) {
+        throw new RuntimeException(String.format(
+            "Both By locators must be of type CSS when combining. Parent: %s. Child: %s",
+            by, child.by));
+      }
+      return of(By.xpath(String.format("%s %s", value, child.value)));
+    }
+    return css(String.format("%s %s", getCss(), child.getCss()));
+  }
+
+  /**
+   * Gets the locator for the nth child matching this locator, with XPath's {@code [n]} or CSS's
+   * {@code :nth-child(n)}.
+   *
+   * @param position the 1-based position of the child
+   * @return as {@link Locator}
+   */
+  public Locator nthChild(int position) {
+    return isXPath()
+        ? of(By.xpath(String.format("%s[%s]", value, position)))
+        : css(String.format("%s:nth-child(%s)", css == null ? value : css, position));
+  }
+
+  /**
+   * Gets the name of the attribute this CSS locator matches on. A locator starting with a period is
+   * a class, a locator starting with a pound sign is an id, and a locator starting with an opening
+   * bracket is a custom attribute.
+   *
+   * @return the attribute name as {@link String}
+   * @throws RuntimeException when the attribute can't be determined
+   */
+  public String getAttributeName() {
+    var selector = css == null ? value : css;
+    if (selector.startsWith(".")) {
+      return "class";
+    } else if (selector.startsWith("#")) {
+      return "id";
+    } else if (selector.startsWith("[")) {
+      return StringUtils.substringBefore(selector, "=").substring(1);
+    }
+    throw new RuntimeException(String.format(
+        "Could not determine the attribute type of the element: [%s]", by));
+  }
+
+  /**
+   * Gets the attribute value this CSS locator matches on, without the leading period or pound sign,
+   * or the brackets and quotes of a custom attribute.
+   *
+   * @return the attribute value as {@link String}
+   * @throws RuntimeException when the attribute can't be determined
+   */
+  public String getAttributeValue() {
+    var selector = css == null ? value : css;
+    if (selector.startsWith(".") || selector.startsWith("#")) {
+      return selector.substring(1);
+    } else if (selector.startsWith("[")) {
+      return StringUtils.replace(StringUtils.substringBetween(selector, "=", "]"), "'", "");
+    }
+    throw new RuntimeException(String.format(
+        "Could not determine the attribute type of the underlying locator to format: [%s]", by));
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return other instanceof Locator && by.equals(((Locator) other).by);
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    return by.toString();
+  }
+
+  /**
+   * Converts a locator that can be written as CSS into a CSS selector.
+   *
+   * @param by    the {@link By} locator
+   * @param value the underlying value of the locator
+   * @return the CSS selector as {@link String}, or null if the locator can't be converted
+   */
+  private static String toCss(By by, String value) {
+    if (by instanceof By.ByCssSelector || by instanceof By.ByTagName) {
+      return value;
+    } else if (by instanceof By.ById) {
+      return String.format("#%s", value);
+    } else if (by instanceof By.ByClassName) {
+      return String.format(".%s", value);
+    } else if (by instanceof By.ByName) {
+      return String.format("[name=%s]", value);
+    } else if (by instanceof By.ByLinkText) {
+      return String.format("a[href=%s]", value);
+    } else if (by instanceof By.ByPartialLinkText) {
+      return String.format("a[href~=%s]", value);
+    }
+    return null;
+  }
+}
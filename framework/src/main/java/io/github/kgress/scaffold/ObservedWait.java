@@ -0,0 +1,171 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import io.github.kgress.scaffold.util.AutomationUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Waits for a condition on an element in the browser, as set by
+ * {@link DesiredCapabilitiesConfigurationProperties.ObservedWait}, instead of polling the condition
+ * from the test with several WebDriver commands per poll.
+ * <p>
+ * The wait script checks the condition once, and then again whenever the DOM changes, using a
+ * MutationObserver. It resolves as soon as the condition is met, so a wait reacts to the page
+ * within milliseconds and costs a single round trip.
+ * <p>
+ * Each script waits for at most {@link ScriptElementLocator#MAX_POLL_PER_SCRIPT_IN_MILLIS} so that
+ * it stays under the browser's script timeout, and is run again until the wait timeout is reached.
+ * If the element is removed from the page while waiting, or the page navigates and replaces the
+ * document, the element is found again and the wait continues.
+ */
+@Slf4j
+public final class ObservedWait {
+
+  /**
+   * The conditions that can be waited on in the browser.
+   */
+  public enum Condition {
+    /**
+     * The element's rendered text contains the value.
+     */
+    TEXT_CONTAINS,
+    /**
+     * The element's class attribute contains the value.
+     */
+    HAS_CLASS,
+    /**
+     * The element's class attribute doesn't contain the value.
+     */
+    NOT_HAS_CLASS,
+    /**
+     * The element isn't disabled.
+     */
+    ENABLED
+  }
+
+  /*
+   Arguments: the element, the name of the condition, the value of the condition, and how long to
+   wait in milliseconds. Resolves with true once the condition is met, false when the time runs out,
+   or 'stale' when the element is removed from the page.
+   */
+  private static final String OBSERVE_SCRIPT = ""
+      + "var element = arguments[0], condition = arguments[1], value = arguments[2], "
+      + "timeout = arguments[3], callback = arguments[arguments.length - 1];"
+      + "function check() {"
+      + "  switch (condition) {"
+      + "    case 'TEXT_CONTAINS':"
+      + "      return (element.innerText || '').indexOf(value) !== -1;"
+      + "    case 'HAS_CLASS':"
+      + "      return (element.getAttribute('class') || '').indexOf(value) !== -1;"
+      + "    case 'NOT_HAS_CLASS':"
+      + "      return (element.getAttribute('class') || '').indexOf(value) === -1;"
+      + "    case 'ENABLED':"
+      + "      return !element.matches(':disabled');"
+      + "  }"
+      + "  return false;"
+      + "}"
+      + "var done = false, observer = null, timer = null;"
+      + "function finish(result) {"
+      + "  if (done) {"
+      + "    return;"
+      + "  }"
+      + "  done = true;"
+      + "  if (observer) {"
+      + "    observer.disconnect();"
+      + "  }"
+      + "  clearTimeout(timer);"
+      + "  callback(result);"
+      + "}"
+      + "function evaluate() {"
+      + "  if (!element.isConnected) {"
+      + "    finish('stale');"
+      + "  } else if (check()) {"
+      + "    finish(true);"
+      + "  }"
+      + "}"
+      + "evaluate();"
+      + "if (!done) {"
+      + "  observer = new MutationObserver(evaluate);"
+      + "  observer.observe(document.documentElement,"
+      + "      {subtree: true, childList: true, attributes: true, characterData: true});"
+      + "  timer = setTimeout(function () { finish(false); }, timeout);"
+      + "}";
+
+  private static final int MAX_NAVIGATION_RETRIES = 5;
+
+  private ObservedWait() {
+  }
+
+  /**
+   * Checks if element condition waits for a browser should run in the browser.
+   *
+   * @param webDriverWrapper the {@link WebDriverWrapper} of the browser
+   * @return true if {@link DesiredCapabilitiesConfigurationProperties.ObservedWait} is enabled
+   */
+  public static boolean isEnabled(WebDriverWrapper webDriverWrapper) {
+    var observedWait = webDriverWrapper.getObservedWait();
+    return observedWait != null && observedWait.isEnabled();
+  }
+
+  /**
+   * Waits for a condition on an element in the browser.
+   *
+   * @param webDriverWrapper the {@link WebDriverWrapper} of the browser
+   * @param element          the {@link BaseWebElement} we are waiting on
+   * @param condition        the {@link Condition} to wait for
+   * @param value            the value of the condition, such as the text or class name. Unused for
+   *                         {@link Condition#ENABLED}
+   * @param timeoutInSeconds how long to wait for the condition
+   * @return true once the condition is met
+   * @throws TimeoutException when the condition isn't met before the timeout
+   */
+  public static boolean waitFor(WebDriverWrapper webDriverWrapper, BaseWebElement element,
+      Condition condition, String value, long timeoutInSeconds) {
+    var deadline = System.currentTimeMillis() + timeoutInSeconds * 1000;
+    var retries = 0;
+
+    do {
+      var pollInMillis = Math.min(ScriptElementLocator.MAX_POLL_PER_SCRIPT_IN_MILLIS,
+          Math.max(0L, deadline - System.currentTimeMillis()));
+      Object result;
+      try {
+        result = element.readRawWebElement(rawElement -> webDriverWrapper.getJavascriptExecutor()
+            .executeAsyncScript(OBSERVE_SCRIPT, rawElement, condition.name(), value,
+                pollInMillis));
+      } catch (ScriptTimeoutException e) {
+        log.debug("Observed wait script timed out, trying again");
+        continue;
+      } catch (StaleElementReferenceException e) {
+        result = "stale";
+      } catch (WebDriverException e) {
+        /*
+         The document can be replaced while the script runs, such as when the page navigates. The
+         element is found again on the new document.
+         */
+        if (retries++ >= MAX_NAVIGATION_RETRIES) {
+          throw e;
+        }
+        log.debug(String.format("Page changed during the observed wait script, trying again: %s",
+            e.getMessage()));
+        AutomationUtils.sleep(200);
+        result = "stale";
+      }
+      if (Boolean.TRUE.equals(result)) {
+        return true;
+      }
+      if ("stale".equals(result)) {
+        log.debug(String.format("Element [%s] was removed while waiting, locating it again",
+            element.getBy()));
+        element.invalidateCachedElement();
+      }
+    } while (System.currentTimeMillis() < deadline);
+
+    throw new TimeoutException(String.format(
+        "Expected condition failed: waiting for element [%s] to match %s [%s] (tried for %s "
+            + "second(s))", element.getBy(), condition, value, timeoutInSeconds));
+  }
+}
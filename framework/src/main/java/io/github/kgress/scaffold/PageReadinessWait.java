@@ -0,0 +1,199 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import io.github.kgress.scaffold.util.AutomationUtils;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Waits for a page to go quiet, as set by
+ * {@link DesiredCapabilitiesConfigurationProperties.PageReadiness}, instead of polling
+ * {@code document.readyState} with separate WebDriver commands.
+ * <p>
+ * The wait script adds a tracker to the page the first time it runs on a document. The tracker
+ * counts in-flight fetch and XMLHttpRequest requests, and notes route changes made through the
+ * history API. The script then polls inside the browser until the DOM is ready, no requests are in
+ * flight, no finite animations are running, and nothing has happened for the quiet period. A page
+ * that's already quiet is a single round trip.
+ * <p>
+ * The DOM is ready once {@code document.readyState} is complete. With
+ * {@link PageLoadStrategy#EAGER} or {@link PageLoadStrategy#NONE}, it's ready once the document has
+ * been parsed, so third party assets aren't waited on.
+ * <p>
+ * Each script polls for at most {@link ScriptElementLocator#MAX_POLL_PER_SCRIPT_IN_MILLIS} so that
+ * it stays under the browser's script timeout, and is run again until the wait timeout is reached.
+ */
+@Slf4j
+public final class PageReadinessWait {
+
+  /*
+   Adds the readiness tracker to the page, once per document.
+   */
+  private static final String TRACKER_FUNCTION = ""
+      + "function track() {"
+      + "  if (window.__scaffoldReadiness) {"
+      + "    return window.__scaffoldReadiness;"
+      + "  }"
+      + "  var state = window.__scaffoldReadiness = {pending: 0, lastActivity: Date.now()};"
+      + "  function start() {"
+      + "    state.pending++;"
+      + "    state.lastActivity = Date.now();"
+      + "  }"
+      + "  function end() {"
+      + "    state.pending = Math.max(0, state.pending - 1);"
+      + "    state.lastActivity = Date.now();"
+      + "  }"
+      + "  if (window.fetch) {"
+      + "    var fetch = window.fetch;"
+      + "    window.fetch = function () {"
+      + "      start();"
+      + "      try {"
+      + "        return fetch.apply(this, arguments).then("
+      + "            function (response) { end(); return response; },"
+      + "            function (error) { end(); throw error; });"
+      + "      } catch (e) {"
+      + "        end();"
+      + "        throw e;"
+      + "      }"
+      + "    };"
+      + "  }"
+      + "  if (window.XMLHttpRequest) {"
+      + "    var send = XMLHttpRequest.prototype.send;"
+      + "    XMLHttpRequest.prototype.send = function () {"
+      + "      var finished = false;"
+      + "      function finish() {"
+      + "        if (!finished) {"
+      + "          finished = true;"
+      + "          end();"
+      + "        }"
+      + "      }"
+      + "      start();"
+      + "      this.addEventListener('loadend', finish);"
+      + "      try {"
+      + "        return send.apply(this, arguments);"
+      + "      } catch (e) {"
+      + "        finish();"
+      + "        throw e;"
+      + "      }"
+      + "    };"
+      + "  }"
+      + "  function routeChanged() {"
+      + "    state.lastActivity = Date.now();"
+      + "  }"
+      + "  ['pushState', 'replaceState'].forEach(function (name) {"
+      + "    var original = history[name];"
+      + "    history[name] = function () {"
+      + "      routeChanged();"
+      + "      return original.apply(this, arguments);"
+      + "    };"
+      + "  });"
+      + "  window.addEventListener('popstate', routeChanged);"
+      + "  window.addEventListener('hashchange', routeChanged);"
+      + "  return state;"
+      + "}";
+
+  /*
+   Arguments: the quiet period in milliseconds, whether the document has to be complete, whether
+   animations are tracked, and how long to poll in milliseconds. Resolves with whether the page is
+   ready, along with the state it was last in.
+   */
+  private static final String WAIT_SCRIPT = ""
+      + "var quietPeriod = arguments[0], requireComplete = arguments[1], "
+      + "trackAnimations = arguments[2], deadline = Date.now() + arguments[3], "
+      + "callback = arguments[arguments.length - 1];"
+      + TRACKER_FUNCTION
+      + "var state = track();"
+      + "function animating() {"
+      + "  if (!trackAnimations || !document.getAnimations) {"
+      + "    return false;"
+      + "  }"
+      + "  return document.getAnimations().some(function (animation) {"
+      + "    return animation.playState === 'running' && animation.effect"
+      + "        && isFinite(animation.effect.getComputedTiming().endTime);"
+      + "  });"
+      + "}"
+      + "(function poll() {"
+      + "  var readyState = document.readyState;"
+      + "  var domReady = requireComplete ? readyState === 'complete' : readyState !== 'loading';"
+      + "  if (!domReady || state.pending > 0 || animating()) {"
+      + "    state.lastActivity = Date.now();"
+      + "  }"
+      + "  var ready = Date.now() - state.lastActivity >= quietPeriod;"
+      + "  if (ready || Date.now() >= deadline) {"
+      + "    callback({ready: ready, readyState: readyState, pending: state.pending});"
+      + "    return;"
+      + "  }"
+      + "  setTimeout(poll, 25);"
+      + "})();";
+
+  private static final int MAX_NAVIGATION_RETRIES = 5;
+
+  private PageReadinessWait() {
+  }
+
+  /**
+   * Checks if page load waits for a browser should use the readiness tracker.
+   *
+   * @param webDriverWrapper the {@link WebDriverWrapper} of the browser
+   * @return true if {@link DesiredCapabilitiesConfigurationProperties.PageReadiness} is enabled
+   */
+  public static boolean isEnabled(WebDriverWrapper webDriverWrapper) {
+    var pageReadiness = webDriverWrapper.getPageReadiness();
+    return pageReadiness != null && pageReadiness.isEnabled();
+  }
+
+  /**
+   * Waits for the page to go quiet.
+   *
+   * @param webDriverWrapper the {@link WebDriverWrapper} of the browser
+   * @param timeoutInSeconds how long to wait for the page
+   * @return true once the page is ready
+   * @throws TimeoutException when the page isn't ready before the timeout
+   */
+  @SuppressWarnings("unchecked")
+  public static boolean waitUntilReady(WebDriverWrapper webDriverWrapper, long timeoutInSeconds) {
+    var pageReadiness = webDriverWrapper.getPageReadiness();
+    var requireComplete = webDriverWrapper.getPageLoadStrategy() == null
+        || webDriverWrapper.getPageLoadStrategy() == PageLoadStrategy.NORMAL;
+    var deadline = System.currentTimeMillis() + timeoutInSeconds * 1000;
+    var retries = 0;
+    Map<String, Object> result = null;
+
+    do {
+      var pollInMillis = Math.min(ScriptElementLocator.MAX_POLL_PER_SCRIPT_IN_MILLIS,
+          Math.max(0L, deadline - System.currentTimeMillis()));
+      try {
+        result = (Map<String, Object>) webDriverWrapper.getJavascriptExecutor()
+            .executeAsyncScript(WAIT_SCRIPT, pageReadiness.getQuietPeriodInMillis(),
+                requireComplete, pageReadiness.isTrackAnimations(), pollInMillis);
+      } catch (ScriptTimeoutException e) {
+        log.debug("Page readiness script timed out, trying again");
+        continue;
+      } catch (WebDriverException e) {
+        /*
+         The document can be replaced while the script runs, such as when a click starts a
+         navigation. The script is run again on the new document.
+         */
+        if (retries++ >= MAX_NAVIGATION_RETRIES) {
+          throw e;
+        }
+        log.debug(String.format("Page changed during the page readiness script, trying again: %s",
+            e.getMessage()));
+        AutomationUtils.sleep(200);
+        continue;
+      }
+      if (result != null && Boolean.TRUE.equals(result.get("ready"))) {
+        return true;
+      }
+    } while (System.currentTimeMillis() < deadline);
+
+    throw new TimeoutException(String.format(
+        "The page was not ready after %s second(s). Document ready state: %s. Requests in flight: "
+            + "%s", timeoutInSeconds, result == null ? null : result.get("readyState"),
+        result == null ? null : result.get("pending")));
+  }
+}
@@ -0,0 +1,234 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * A snapshot of the elements declared on a page object, used when
+ * {@link DesiredCapabilitiesConfigurationProperties.PageSnapshot} is enabled.
+ * <p>
+ * When the page is verified with {@link BasePage#verifyIsOnPage(BaseWebElement...)}, every element
+ * declared on the page, and on the components declared on it, is read with a single script. The
+ * same script adds a MutationObserver to the page that counts changes to the DOM. Reads on those
+ * elements are then served from the snapshot.
+ * <p>
+ * The snapshot is checked against the DOM again after the {@link WebDriverWrapper} navigates,
+ * after an element is interacted with through {@link BaseWebElement}, or once it's older than
+ * {@link DesiredCapabilitiesConfigurationProperties.PageSnapshot#getMaxAgeInMillis()}. Checking
+ * and reading again is a single script, and the elements are only read again when the DOM has
+ * changed since the last read. If the check fails for any reason, reads fall back to WebDriver.
+ */
+@Slf4j
+public class PageSnapshotCache {
+
+  /*
+   The attributes read for every element, so that getAttribute, hasClass and isActive can be served
+   from the snapshot for the most commonly read attributes.
+   */
+  static final List<String> SNAPSHOT_ATTRIBUTES = List.of("class", "value", "href", "src");
+
+  /*
+   Arguments: the element requests and the DOM generation of the last read. Returns the current DOM
+   generation, and the elements when the generation has changed. The generation includes a random
+   token per document, so a new document never matches a generation read from the previous one.
+   */
+  private static final String SNAPSHOT_SCRIPT = ""
+      + ScriptElementLocator.FIND_FUNCTION
+      + ScriptElementLocator.IS_DISPLAYED_FUNCTION
+      + ElementBatchRead.READ_ELEMENTS_FUNCTION
+      + "var state = window.__scaffoldDomState;"
+      + "if (!state) {"
+      + "  state = window.__scaffoldDomState ="
+      + "      {token: Math.random().toString(36).slice(2), generation: 0};"
+      + "  new MutationObserver(function () { state.generation++; }).observe(document,"
+      + "      {subtree: true, childList: true, attributes: true, characterData: true});"
+      + "}"
+      + "var generation = state.token + ':' + state.generation;"
+      + "if (generation === arguments[1]) {"
+      + "  return {generation: generation};"
+      + "}"
+      + "return {generation: generation, elements: readElements(arguments[0])};";
+
+  private final WebDriverWrapper webDriverWrapper;
+  private final ElementBatchRead batchRead = new ElementBatchRead();
+
+  private Map<BaseWebElement, ElementSnapshot> snapshots = Collections.emptyMap();
+  private String generation;
+  private long navigationCount;
+  private long interactionCount;
+  private long checkedAtInMillis;
+
+  /**
+   * Creates a new snapshot of the elements. Nothing is read until the first {@link #refresh()} or
+   * {@link #get(BaseWebElement)}.
+   * <p>
+   * Only elements whose locators can be run in a script are kept, since every other element would
+   * have to be found with WebDriver on every read anyway.
+   *
+   * @param webDriverWrapper the {@link WebDriverWrapper} to read the elements with
+   * @param elements         the elements to keep in the snapshot
+   */
+  public PageSnapshotCache(WebDriverWrapper webDriverWrapper,
+      Collection<? extends BaseWebElement> elements) {
+    this.webDriverWrapper = webDriverWrapper;
+    elements.stream()
+        .filter(element -> element.getBy() != null
+            && ScriptElementLocator.isSupported(element.getBy(), element.getParentBy()))
+        .forEach(element -> batchRead.add(element, SNAPSHOT_ATTRIBUTES.toArray(new String[0])));
+  }
+
+  /**
+   * Checks if page objects opened in a browser should read their elements from a snapshot.
+   *
+   * @param webDriverWrapper the {@link WebDriverWrapper} of the browser
+   * @return true if {@link DesiredCapabilitiesConfigurationProperties.PageSnapshot} is enabled
+   */
+  public static boolean isEnabled(WebDriverWrapper webDriverWrapper) {
+    var pageSnapshot = webDriverWrapper.getPageSnapshot();
+    return pageSnapshot != null && pageSnapshot.isEnabled();
+  }
+
+  /**
+   * Checks if an element is kept in the snapshot.
+   *
+   * @param element the {@link BaseWebElement} to check
+   * @return true if reads on the element can be served from the snapshot
+   */
+  public boolean contains(BaseWebElement element) {
+    return batchRead.contains(element);
+  }
+
+  /**
+   * Creates a snapshot of every element declared on the page object and the components declared on
+   * it, reads it, and attaches it to the elements so their reads are served from it.
+   *
+   * @param page             the page object
+   * @param webDriverWrapper the {@link WebDriverWrapper} the page is open in
+   * @return as {@link PageSnapshotCache}
+   */
+  static PageSnapshotCache attach(BaseComponent page, WebDriverWrapper webDriverWrapper) {
+    var elements = new ArrayList<BaseWebElement>();
+    collectElements(page, elements, Collections.newSetFromMap(new IdentityHashMap<>()));
+    var pageSnapshotCache = new PageSnapshotCache(webDriverWrapper, elements);
+    pageSnapshotCache.refresh();
+    elements.stream()
+        .filter(pageSnapshotCache::contains)
+        .forEach(element -> element.setPageSnapshotCache(pageSnapshotCache));
+    log.debug(String.format("Attached a page snapshot of %s elements to %s", elements.size(),
+        page.getClass().getSimpleName()));
+    return pageSnapshotCache;
+  }
+
+  /**
+   * Gets the snapshot of an element, checking the DOM for changes first when needed.
+   *
+   * @param element the {@link BaseWebElement} to get the snapshot of
+   * @return as {@link Optional} of {@link ElementSnapshot}, empty when the element isn't in the
+   * snapshot or the snapshot couldn't be read
+   */
+  public synchronized Optional<ElementSnapshot> get(BaseWebElement element) {
+    if (isUnchecked()) {
+      check();
+    }
+    return Optional.ofNullable(snapshots.get(element));
+  }
+
+  /**
+   * Reads every element again, whether or not the DOM has changed.
+   */
+  public synchronized void refresh() {
+    generation = null;
+    check();
+  }
+
+  /**
+   * Gets the {@link WebDriverWrapper} the snapshot is read with.
+   *
+   * @return as {@link WebDriverWrapper}
+   */
+  public WebDriverWrapper getWebDriverWrapper() {
+    return webDriverWrapper;
+  }
+
+  /**
+   * Checks if the snapshot may no longer match the DOM.
+   *
+   * @return true if the DOM should be checked for changes
+   */
+  private boolean isUnchecked() {
+    return navigationCount != webDriverWrapper.getNavigationCount()
+        || interactionCount != webDriverWrapper.getInteractionCount()
+        || System.currentTimeMillis() - checkedAtInMillis
+        > webDriverWrapper.getPageSnapshot().getMaxAgeInMillis();
+  }
+
+  /**
+   * Checks the DOM generation and reads every element again if it has changed, with a single
+   * script.
+   */
+  @SuppressWarnings("unchecked")
+  private void check() {
+    navigationCount = webDriverWrapper.getNavigationCount();
+    interactionCount = webDriverWrapper.getInteractionCount();
+    checkedAtInMillis = System.currentTimeMillis();
+    try {
+      var result = (Map<String, Object>) webDriverWrapper.getJavascriptExecutor()
+          .executeScript(SNAPSHOT_SCRIPT, batchRead.toScriptRequests(), generation);
+      var elements = (List<Map<String, Object>>) result.get("elements");
+      if (elements != null) {
+        snapshots = batchRead.toSnapshots(elements);
+      }
+      generation = (String) result.get("generation");
+    } catch (WebDriverException | ClassCastException | NullPointerException e) {
+      log.debug(String.format("Could not read the page snapshot, reading elements with WebDriver: "
+          + "%s", e.getMessage()));
+      snapshots = Collections.emptyMap();
+      generation = null;
+    }
+  }
+
+  /**
+   * Collects the elements declared on a page object or component, including the elements of the
+   * components declared on it.
+   *
+   * @param component the page object or component
+   * @param elements  the elements collected so far
+   * @param visited   the components already visited
+   */
+  private static void collectElements(BaseComponent component, List<BaseWebElement> elements,
+      Set<Object> visited) {
+    if (!visited.add(component)) {
+      return;
+    }
+    for (Class<?> type = component.getClass(); type != null && type != Object.class;
+        type = type.getSuperclass()) {
+      for (Field field : type.getDeclaredFields()) {
+        if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+          continue;
+        }
+        try {
+          field.setAccessible(true);
+          var value = field.get(component);
+          if (value instanceof BaseWebElement && ((BaseWebElement) value).isFoundByLocator()) {
+            elements.add((BaseWebElement) value);
+          } else if (value instanceof BaseComponent) {
+            collectElements((BaseComponent) value, elements, visited);
+          }
+        } catch (RuntimeException | IllegalAccessException e) {
+          log.debug(String.format("Could not read field [%s] for the page snapshot", field));
+        }
+      }
+    }
+  }
+}
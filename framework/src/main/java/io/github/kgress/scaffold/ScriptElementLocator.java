@@ -0,0 +1,198 @@
+package io.github.kgress.scaffold;
+
+import static io.github.kgress.scaffold.util.AutomationUtils.getUnderlyingLocatorByString;
+
+import io.github.kgress.scaffold.models.enums.driver.ElementLocateStrategy;
+import java.util.Map;
+import java.util.Optional;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Finds an element for {@link ElementLocateStrategy#SCRIPT} with a single asynchronous script,
+ * instead of a visibility wait, a parent find and an element find as separate WebDriver commands.
+ * <p>
+ * The script finds the parent element, finds the element inside of it, and checks that the element
+ * is displayed. If it isn't found or displayed yet, the script polls inside the browser rather than
+ * returning to the test. Each script polls for at most {@link #MAX_POLL_PER_SCRIPT_IN_MILLIS} so
+ * that it stays under the browser's script timeout, and is run again until the wait timeout of the
+ * {@link AutomationWait} is reached. A typical find is a single round trip.
+ * <p>
+ * Only CSS selectors, XPath, id, class name, name and tag name locators can be run in the script.
+ * Use {@link #isSupported(By, By)} to check before calling {@link #locate(WebDriverWrapper, By, By,
+ * boolean)}.
+ */
+@Slf4j
+public final class ScriptElementLocator {
+
+  static final long MAX_POLL_PER_SCRIPT_IN_MILLIS = 2000L;
+
+  private static final String CSS = "css";
+  private static final String XPATH = "xpath";
+
+  /*
+   Script functions shared with other scripts that find elements. find(type, value, root) finds the
+   first element for a locator type and value inside of root. isDisplayed(element) approximates
+   WebElement#isDisplayed.
+   */
+  static final String FIND_FUNCTION = ""
+      + "function find(type, value, root) {"
+      + "  if (type === 'xpath') {"
+      + "    return document.evaluate(value, root, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null)"
+      + "        .singleNodeValue;"
+      + "  }"
+      + "  return root.querySelector(value);"
+      + "}";
+  static final String IS_DISPLAYED_FUNCTION = ""
+      + "function isDisplayed(element) {"
+      + "  if (!(element.offsetWidth || element.offsetHeight || element.getClientRects().length)) {"
+      + "    return false;"
+      + "  }"
+      + "  var style = window.getComputedStyle(element);"
+      + "  return style.visibility !== 'hidden' && style.visibility !== 'collapse'"
+      + "      && style.opacity !== '0';"
+      + "}";
+
+  /*
+   Arguments: parent locator type, parent locator, locator type, locator, whether the element has to
+   be displayed, and how long to poll in milliseconds. Resolves with the element, null when it wasn't
+   found in time, or an error for an invalid selector.
+   */
+  private static final String LOCATE_SCRIPT = ""
+      + "var parentType = arguments[0], parentValue = arguments[1], type = arguments[2], "
+      + "value = arguments[3], requireDisplayed = arguments[4], "
+      + "deadline = Date.now() + arguments[5], callback = arguments[arguments.length - 1];"
+      + FIND_FUNCTION
+      + IS_DISPLAYED_FUNCTION
+      + "(function poll() {"
+      + "  try {"
+      + "    var root = parentValue ? find(parentType, parentValue, document) : document;"
+      + "    var element = root ? find(type, value, root) : null;"
+      + "    if (element && (!requireDisplayed || isDisplayed(element))) {"
+      + "      callback(element);"
+      + "      return;"
+      + "    }"
+      + "  } catch (e) {"
+      + "    callback({error: String(e)});"
+      + "    return;"
+      + "  }"
+      + "  if (Date.now() >= deadline) {"
+      + "    callback(null);"
+      + "    return;"
+      + "  }"
+      + "  setTimeout(poll, 50);"
+      + "})();";
+
+  private ScriptElementLocator() {
+  }
+
+  /**
+   * Checks if the locators can be run in the locate script.
+   *
+   * @param by       the {@link By} locator of the element
+   * @param parentBy the {@link By} locator of the parent element, if any
+   * @return true if the element can be found with {@link #locate(WebDriverWrapper, By, By,
+   * boolean)}
+   */
+  public static boolean isSupported(By by, By parentBy) {
+    return toScriptLocator(by).isPresent()
+        && (parentBy == null || toScriptLocator(parentBy).isPresent());
+  }
+
+  /**
+   * Finds the element, and waits for it to be displayed when required, with the locate script.
+   *
+   * @param webDriverWrapper the {@link WebDriverWrapper} to find the element with
+   * @param by               the {@link By} locator of the element
+   * @param parentBy         the {@link By} locator of the parent element, if any
+   * @param requireDisplayed whether to wait for the element to be displayed. When false, the
+   *                         element is looked for once without waiting
+   * @return as {@link WebElement}
+   * @throws TimeoutException       when a displayed element isn't found before the wait timeout
+   * @throws NoSuchElementException when an element that doesn't have to be displayed isn't found
+   */
+  public static WebElement locate(WebDriverWrapper webDriverWrapper, By by, By parentBy,
+      boolean requireDisplayed) {
+    var locator = toScriptLocator(by).orElseThrow(() -> new InvalidSelectorException(
+        String.format("Locator [%s] can't be found with a script", by)));
+    var parentLocator = Optional.ofNullable(parentBy)
+        .map(parent -> toScriptLocator(parent).orElseThrow(() -> new InvalidSelectorException(
+            String.format("Locator [%s] can't be found with a script", parent))));
+    var timeoutInMillis = requireDisplayed
+        ? webDriverWrapper.getAutomationWait().getTimeoutInSeconds() * 1000
+        : 0L;
+    var deadline = System.currentTimeMillis() + timeoutInMillis;
+
+    log.debug(String.format("Locating element [%s] relative to parent element [%s] with a script",
+        by, parentBy));
+    do {
+      var pollInMillis = Math.min(MAX_POLL_PER_SCRIPT_IN_MILLIS,
+          Math.max(0L, deadline - System.currentTimeMillis()));
+      Object result;
+      try {
+        result = webDriverWrapper.getJavascriptExecutor().executeAsyncScript(LOCATE_SCRIPT,
+            parentLocator.map(ScriptLocator::getType).orElse(null),
+            parentLocator.map(ScriptLocator::getValue).orElse(null),
+            locator.getType(), locator.getValue(), requireDisplayed, pollInMillis);
+      } catch (ScriptTimeoutException e) {
+        log.debug(String.format("Locate script timed out for element [%s], trying again", by));
+        continue;
+      }
+      if (result instanceof WebElement) {
+        return (WebElement) result;
+      }
+      if (result instanceof Map) {
+        throw new InvalidSelectorException(String.format("Could not locate element [%s]: %s", by,
+            ((Map<?, ?>) result).get("error")));
+      }
+    } while (System.currentTimeMillis() < deadline);
+
+    if (requireDisplayed) {
+      throw new TimeoutException(String.format(
+          "Expected condition failed: waiting for visibility of element located by %s "
+              + "(tried for %s second(s))", by, timeoutInMillis / 1000));
+    }
+    throw new NoSuchElementException(String.format("Unable to locate element: %s", by));
+  }
+
+  /**
+   * Converts a {@link By} locator to the locator type and value used by the locate script.
+   *
+   * @param by the {@link By} locator to convert
+   * @return as {@link Optional} of {@link ScriptLocator}, empty when the locator isn't supported
+   */
+  static Optional<ScriptLocator> toScriptLocator(By by) {
+    var locator = getUnderlyingLocatorByString(by);
+    var quotedLocator = locator.replace("\\", "\\\\").replace("\"", "\\\"");
+    if (by instanceof By.ByCssSelector || by instanceof By.ByTagName) {
+      return Optional.of(new ScriptLocator(CSS, locator));
+    } else if (by instanceof By.ByXPath) {
+      return Optional.of(new ScriptLocator(XPATH, locator));
+    } else if (by instanceof By.ById) {
+      return Optional.of(new ScriptLocator(CSS, String.format("[id=\"%s\"]", quotedLocator)));
+    } else if (by instanceof By.ByName) {
+      return Optional.of(new ScriptLocator(CSS, String.format("[name=\"%s\"]", quotedLocator)));
+    } else if (by instanceof By.ByClassName) {
+      return Optional.of(new ScriptLocator(CSS, String.format(".%s", locator)));
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * A locator type and value as understood by the locate script.
+   */
+  @Getter
+  @AllArgsConstructor
+  static class ScriptLocator {
+
+    private final String type;
+    private final String value;
+  }
+}
@@ -0,0 +1,226 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties.SessionAdmission;
+import io.github.kgress.scaffold.exception.WebDriverContextException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Limits the amount of remote sessions being created at once against a Grid or Sauce, and retries
+ * failed session creations with a jittered backoff.
+ * <p>
+ * When every test thread asks the hub for a new session at the same moment, the hub queues them
+ * and some of the requests time out. The controller only lets a limited amount of session requests
+ * through at once, and adapts that limit to how the hub is responding:
+ * <p>
+ * - A session created within the target latency raises the limit by a fraction, up to the max
+ * limit
+ * - A session that takes longer than the target latency lowers the limit by a quarter
+ * - A failed session request halves the limit, down to the min limit
+ * <p>
+ * Only failures caused by a {@link WebDriverException} are retried. Anything else, like a
+ * malformed url, is a configuration problem and is thrown right away.
+ */
+@Slf4j
+public class SessionAdmissionController {
+
+  private static SessionAdmissionController sharedController;
+
+  @Getter(AccessLevel.PRIVATE)
+  private final SessionAdmission sessionAdmission;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition permitReleased = lock.newCondition();
+  private double limit;
+  private int inFlight = 0;
+
+  /**
+   * Creates a new controller. Most callers should use {@link #getController(SessionAdmission)} so
+   * that every session in the JVM goes through the same controller.
+   *
+   * @param sessionAdmission the {@link SessionAdmission} configuration
+   */
+  public SessionAdmissionController(SessionAdmission sessionAdmission) {
+    this.sessionAdmission = sessionAdmission;
+    this.limit = sessionAdmission.getInitialLimit();
+  }
+
+  /**
+   * Gets the shared controller, creating it with the given configuration if it doesn't exist yet.
+   *
+   * @param sessionAdmission the {@link SessionAdmission} configuration
+   * @return as {@link SessionAdmissionController}
+   */
+  public static synchronized SessionAdmissionController getController(
+      SessionAdmission sessionAdmission) {
+    if (sharedController == null) {
+      sharedController = new SessionAdmissionController(sessionAdmission);
+    }
+    return sharedController;
+  }
+
+  /**
+   * Creates a session once there is room under the current limit. Failed attempts are retried with
+   * a jittered backoff until the max attempts are reached, and the last failure is thrown.
+   *
+   * @param sessionCreator creates the new session
+   * @param <T>            the type of the session
+   * @return the new session
+   */
+  public <T> T admit(Supplier<T> sessionCreator) {
+    RuntimeException lastFailure = null;
+    for (var attempt = 1; attempt <= getSessionAdmission().getMaxAttempts(); attempt++) {
+      acquire();
+      var startTimeInMillis = System.currentTimeMillis();
+      try {
+        var session = sessionCreator.get();
+        onSuccess(System.currentTimeMillis() - startTimeInMillis);
+        return session;
+      } catch (RuntimeException e) {
+        if (!isRetryable(e)) {
+          throw e;
+        }
+        onFailure();
+        lastFailure = e;
+      } finally {
+        release();
+      }
+      if (attempt < getSessionAdmission().getMaxAttempts()) {
+        log.warn(String.format("Session creation attempt %s failed, retrying: %s", attempt,
+            lastFailure.getMessage()));
+        backoff(attempt);
+      }
+    }
+    throw lastFailure;
+  }
+
+  /**
+   * Gets the current limit of session requests allowed at once.
+   *
+   * @return as {@link int}
+   */
+  public int getLimit() {
+    lock.lock();
+    try {
+      return (int) limit;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Gets the amount of session requests currently in flight.
+   *
+   * @return as {@link int}
+   */
+  public int getInFlight() {
+    lock.lock();
+    try {
+      return inFlight;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Waits until there is room under the current limit and takes a permit.
+   */
+  private void acquire() {
+    lock.lock();
+    try {
+      while (inFlight >= (int) limit) {
+        permitReleased.await();
+      }
+      inFlight++;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new WebDriverContextException("Interrupted while waiting to create a new session", e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void release() {
+    lock.lock();
+    try {
+      inFlight--;
+      permitReleased.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void onSuccess(long latencyInMillis) {
+    lock.lock();
+    try {
+      if (latencyInMillis > TimeUnit.SECONDS.toMillis(getSessionAdmission()
+          .getTargetLatencyInSeconds())) {
+        setLimit(limit * 0.75);
+      } else {
+        // Grows by roughly one permit after a full limit's worth of fast sessions
+        setLimit(limit + 1 / limit);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void onFailure() {
+    lock.lock();
+    try {
+      setLimit(limit / 2);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Sets the limit within the configured min and max. Must be called while holding the lock.
+   *
+   * @param newLimit the new limit
+   */
+  private void setLimit(double newLimit) {
+    var previousLimit = (int) limit;
+    limit = Math.max(getSessionAdmission().getMinLimit(),
+        Math.min(getSessionAdmission().getMaxLimit(), newLimit));
+    if ((int) limit != previousLimit) {
+      log.debug(String.format("Session admission limit changed from %s to %s", previousLimit,
+          (int) limit));
+      permitReleased.signalAll();
+    }
+  }
+
+  /**
+   * Sleeps for a random time between zero and an exponentially growing backoff, so that threads
+   * that failed together don't all retry together.
+   *
+   * @param attempt the attempt that failed
+   */
+  private void backoff(int attempt) {
+    var maxBackoffInMillis = Math.min(getSessionAdmission().getMaxBackoffInMillis(),
+        getSessionAdmission().getInitialBackoffInMillis() * (1L << Math.min(attempt - 1, 20)));
+    try {
+      Thread.sleep(ThreadLocalRandom.current().nextLong(maxBackoffInMillis + 1));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new WebDriverContextException("Interrupted while waiting to retry a new session", e);
+    }
+  }
+
+  private boolean isRetryable(Throwable throwable) {
+    while (throwable != null) {
+      if (throwable instanceof WebDriverException) {
+        return true;
+      }
+      throwable = throwable.getCause();
+    }
+    return false;
+  }
+}
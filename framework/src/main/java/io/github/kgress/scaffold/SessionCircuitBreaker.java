@@ -0,0 +1,175 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties.CircuitBreaker;
+import io.github.kgress.scaffold.exception.WebDriverContextException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * A run wide circuit breaker around remote session creation, so that a Grid or Sauce outage fails
+ * the remaining tests right away instead of every test waiting on the full connect timeout.
+ * <p>
+ * The breaker has three states:
+ * <p>
+ * - CLOSED: sessions are created normally. After {@link CircuitBreaker#getFailureThreshold()}
+ * failures in a row, the breaker opens
+ * - OPEN: session requests fail right away with a {@link WebDriverContextException} that includes
+ * the failure that opened the breaker. After {@link CircuitBreaker#getOpenDurationInSeconds()},
+ * the breaker is half open
+ * - HALF_OPEN: a single session request is let through as a probe while every other request still
+ * fails right away. If the probe succeeds the breaker closes, otherwise it opens again
+ * <p>
+ * Only failures caused by a {@link WebDriverException} count towards opening the breaker. Anything
+ * else, like a malformed url, is a configuration problem and not an outage.
+ */
+@Slf4j
+public class SessionCircuitBreaker {
+
+  public enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  private static SessionCircuitBreaker sharedBreaker;
+
+  @Getter(AccessLevel.PRIVATE)
+  private final CircuitBreaker circuitBreaker;
+
+  private State state = State.CLOSED;
+  private int consecutiveFailures = 0;
+  private long openedAtInNanos;
+  private boolean probeInFlight = false;
+  private RuntimeException lastFailure;
+
+  /**
+   * Creates a new breaker. Most callers should use {@link #getBreaker(CircuitBreaker)} so that
+   * every session in the JVM goes through the same breaker.
+   *
+   * @param circuitBreaker the {@link CircuitBreaker} configuration
+   */
+  public SessionCircuitBreaker(CircuitBreaker circuitBreaker) {
+    this.circuitBreaker = circuitBreaker;
+  }
+
+  /**
+   * Gets the shared breaker, creating it with the given configuration if it doesn't exist yet.
+   *
+   * @param circuitBreaker the {@link CircuitBreaker} configuration
+   * @return as {@link SessionCircuitBreaker}
+   */
+  public static synchronized SessionCircuitBreaker getBreaker(CircuitBreaker circuitBreaker) {
+    if (sharedBreaker == null) {
+      sharedBreaker = new SessionCircuitBreaker(circuitBreaker);
+    }
+    return sharedBreaker;
+  }
+
+  /**
+   * Creates a session if the breaker allows it, and records whether it succeeded.
+   *
+   * @param sessionCreator creates the new session
+   * @param <T>            the type of the session
+   * @return the new session
+   * @throws WebDriverContextException when the breaker is open
+   */
+  public <T> T call(Supplier<T> sessionCreator) {
+    var probe = acquire();
+    try {
+      var session = sessionCreator.get();
+      onSuccess();
+      return session;
+    } catch (RuntimeException e) {
+      onFailure(e, probe);
+      throw e;
+    } finally {
+      if (probe) {
+        releaseProbe();
+      }
+    }
+  }
+
+  /**
+   * Gets the current state of the breaker. An open breaker whose open duration has passed is
+   * reported as half open.
+   *
+   * @return as {@link State}
+   */
+  public synchronized State getState() {
+    if (state == State.OPEN && isOpenDurationOver()) {
+      return State.HALF_OPEN;
+    }
+    return state;
+  }
+
+  /**
+   * Checks if a session request can go through. Moves an open breaker to half open once its open
+   * duration is over.
+   *
+   * @return true if the request is the half open probe
+   */
+  private synchronized boolean acquire() {
+    if (state == State.OPEN && isOpenDurationOver()) {
+      state = State.HALF_OPEN;
+      log.info("Remote session circuit breaker is half open. Sending a probe session request.");
+    }
+    if (state == State.CLOSED) {
+      return false;
+    }
+    if (state == State.HALF_OPEN && !probeInFlight) {
+      probeInFlight = true;
+      return true;
+    }
+    throw new WebDriverContextException(String.format(
+        "Remote session creation is failing fast because the circuit breaker is %s after %s "
+            + "failures in a row. The last failure was: %s", state, consecutiveFailures,
+        lastFailure.getMessage()), lastFailure);
+  }
+
+  private synchronized void releaseProbe() {
+    probeInFlight = false;
+  }
+
+  private synchronized void onSuccess() {
+    if (state != State.CLOSED) {
+      log.info("Remote session circuit breaker is closed. Session creation has recovered.");
+    }
+    state = State.CLOSED;
+    consecutiveFailures = 0;
+    lastFailure = null;
+  }
+
+  private synchronized void onFailure(RuntimeException failure, boolean probe) {
+    if (!isCausedByWebDriverException(failure)) {
+      return;
+    }
+    consecutiveFailures++;
+    lastFailure = failure;
+    if (probe || consecutiveFailures >= getCircuitBreaker().getFailureThreshold()) {
+      if (state != State.OPEN) {
+        log.warn(String.format("Remote session circuit breaker is open after %s failures in a row. "
+                + "Session requests will fail for the next %s seconds.", consecutiveFailures,
+            getCircuitBreaker().getOpenDurationInSeconds()));
+      }
+      state = State.OPEN;
+      openedAtInNanos = System.nanoTime();
+    }
+  }
+
+  private boolean isOpenDurationOver() {
+    return System.nanoTime() - openedAtInNanos
+        >= TimeUnit.SECONDS.toNanos(getCircuitBreaker().getOpenDurationInSeconds());
+  }
+
+  private boolean isCausedByWebDriverException(Throwable throwable) {
+    while (throwable != null) {
+      if (throwable instanceof WebDriverException) {
+        return true;
+      }
+      throwable = throwable.getCause();
+    }
+    return false;
+  }
+}
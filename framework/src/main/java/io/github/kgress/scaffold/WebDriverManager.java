@@ -5,25 +5,48 @@ import static io.github.kgress.scaffold.models.enums.desktop.ScreenResolution.Sc
 import static io.github.kgress.scaffold.models.enums.desktop.ScreenResolution.ScreenResolutionType.SELENIUM;
 import static io.github.kgress.scaffold.util.AutomationUtils.getStackTrace;
 import static io.github.kgress.scaffold.util.WebDriverValidationUtil.validateAwsLambdaDesiredCapabilities;
+import static io.github.kgress.scaffold.util.WebDriverValidationUtil.validateCircuitBreakerConfiguration;
+import static io.github.kgress.scaffold.util.WebDriverValidationUtil.validateDriverPoolConfiguration;
+import static io.github.kgress.scaffold.util.WebDriverValidationUtil.validateDriverTeardownConfiguration;
 import static io.github.kgress.scaffold.util.WebDriverValidationUtil.validateRequiredDesktopBrowserCapabilities;
 import static io.github.kgress.scaffold.util.WebDriverValidationUtil.validateRequiredMobileEmulatorCapabilities;
 import static io.github.kgress.scaffold.util.WebDriverValidationUtil.validateRequiredSauceAuth;
+import static io.github.kgress.scaffold.util.WebDriverValidationUtil.validateSessionAdmissionConfiguration;
+import static io.github.kgress.scaffold.util.WebDriverValidationUtil.validateSharedDriverServiceConfiguration;
 
 import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
 import io.github.kgress.scaffold.environment.config.SeleniumGridServiceConfiguration;
 import io.github.kgress.scaffold.exception.WebDriverContextException;
 import io.github.kgress.scaffold.exception.WebDriverManagerException;
+import io.github.kgress.scaffold.extensions.ScaffoldParallelExecutionStrategy;
 import io.github.kgress.scaffold.models.GridSessionRequest;
 import io.github.kgress.scaffold.models.GridSessionResponse;
+import io.github.kgress.scaffold.models.enums.desktop.BrowserType;
 import io.github.kgress.scaffold.models.enums.desktop.RunType;
+import io.github.kgress.scaffold.models.enums.driver.DriverStartupType;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import javax.annotation.PostConstruct;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.ImmutableCapabilities;
 import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.chrome.ChromeDriver;
@@ -36,6 +59,7 @@ import org.openqa.selenium.ie.InternetExplorerDriver;
 import org.openqa.selenium.ie.InternetExplorerOptions;
 import org.openqa.selenium.opera.OperaDriver;
 import org.openqa.selenium.opera.OperaOptions;
+import org.openqa.selenium.remote.CapabilityType;
 import org.openqa.selenium.remote.DesiredCapabilities;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.safari.SafariDriver;
@@ -77,6 +101,44 @@ public class WebDriverManager {
 
   private static final String GRID_TEST_SESSION_URI = "/grid/api/testsession";
   private static final String SCREEN_RESOLUTION_CAPABILITY = "screenResolution";
+  private static final String POOLED_SESSION_NAME = "Scaffold Pooled Session";
+  private static final String SAUCE_OPTIONS_CAPABILITY = "sauce:options";
+
+  /*
+   Validated browser options for each configuration, built once and copied for every session. The
+   configuration is held weakly so a closed Spring context doesn't keep its template around.
+   */
+  private static final Map<DesiredCapabilitiesConfigurationProperties, CapabilityTemplate>
+      CAPABILITY_TEMPLATES = Collections.synchronizedMap(new WeakHashMap<>());
+
+  /*
+   The browser kept open by the previous test on this thread when session reuse is enabled. Every
+   retained browser is also tracked so that they can be quit when the JVM shuts down.
+   */
+  private static final ThreadLocal<WebDriverWrapper> RETAINED_SESSION = new ThreadLocal<>();
+  private static final Set<WebDriverWrapper> RETAINED_SESSIONS = ConcurrentHashMap.newKeySet();
+
+  /*
+   Starts browsers in the background when the driver startup type is asynchronous. Threads are
+   daemons so a browser that is still starting never keeps the JVM alive.
+   */
+  private static final ExecutorService DRIVER_STARTUP_EXECUTOR = Executors.newCachedThreadPool(
+      runnable -> {
+        var thread = new Thread(runnable, "scaffold-driver-startup");
+        thread.setDaemon(true);
+        return thread;
+      });
+
+  /*
+   Limits how many tests can hold a browser at once across the JVM, once a limit has been set with
+   limitConcurrentBrowsers. Every test that holds a permit keeps the semaphore it was taken from.
+   */
+  private static volatile Semaphore browserPermits;
+
+  static {
+    Runtime.getRuntime().addShutdownHook(new Thread(WebDriverManager::quitRetainedSessions,
+        "scaffold-retained-session-shutdown"));
+  }
 
   @Getter(AccessLevel.PRIVATE)
   private final Object startLock = new Object();
@@ -87,12 +149,37 @@ public class WebDriverManager {
   @Getter(AccessLevel.PRIVATE)
   private final DesiredCapabilitiesConfigurationProperties desiredCapabilities;
 
-  @Getter(AccessLevel.PACKAGE)
   private WebDriverWrapper webDriverWrapper;
 
+  /**
+   * The {@link WebDriverWrapper} being started in the background when the driver startup type is
+   * {@link DriverStartupType#ASYNCHRONOUS}. This is null once the browser has been handed over to
+   * {@link #webDriverWrapper}.
+   */
+  private CompletableFuture<WebDriverWrapper> pendingWebDriverWrapper;
+
+  /**
+   * The name of the test waiting for its first use of the browser when the driver startup type is
+   * {@link DriverStartupType#LAZY}. This is null once the browser has been started.
+   */
+  private String lazyTestName;
+
+  /**
+   * The semaphore the current test took its browser permit from in {@link #initDriver(String)}.
+   * This is null when no concurrent browser limit is set, or once the permit has been released.
+   */
+  private Semaphore heldBrowserPermit;
+
   @Getter(AccessLevel.PRIVATE)
   private final RestTemplate seleniumGridRestTemplate;
 
+  /**
+   * The {@link WebDriverPool} the current {@link WebDriverWrapper} was leased from. This is null
+   * when the driver pool is disabled.
+   */
+  @Getter(AccessLevel.PRIVATE)
+  private WebDriverPool webDriverPool;
+
   @Autowired
   public WebDriverManager(DesiredCapabilitiesConfigurationProperties desiredCapabilities,
       RestTemplate seleniumGridRestTemplate) {
@@ -100,6 +187,23 @@ public class WebDriverManager {
     this.seleniumGridRestTemplate = seleniumGridRestTemplate;
   }
 
+  /**
+   * Builds and validates the {@link CapabilityTemplate} for the configuration when the Spring
+   * context starts. A bad configuration is logged here once and then thrown by every test that
+   * tries to start a browser, without building the capabilities again.
+   */
+  @PostConstruct
+  void prepareCapabilityTemplate() {
+    if (getDesiredCapabilities().getRunType() == RunType.UNIT) {
+      return;
+    }
+    var capabilityTemplate = getCapabilityTemplate();
+    if (capabilityTemplate.getFailure() != null) {
+      log.error(String.format("Invalid desired capabilities configuration: %s",
+          capabilityTemplate.getFailure().getMessage()));
+    }
+  }
+
   /**
    * TODO Consider changing the method signature to {@link WebDriver} to allow us some form of unit
    * testing of this class. We just need to make sure doing so will not allow end users to modify
@@ -112,80 +216,520 @@ public class WebDriverManager {
    * null, the driver already exists and we've encountered a threading issue. 2. Configure the new
    * browser driver. 3. Create the new {@link WebDriverWrapper} with the browser driver. 4. Setup
    * implicit waits on the driver to make it easier to interact with elements.
+   * <p>
+   * When the {@link DesiredCapabilitiesConfigurationProperties.DriverPool} is enabled, the
+   * {@link WebDriverWrapper} is leased from a {@link WebDriverPool} instead of being created. When
+   * {@link DesiredCapabilitiesConfigurationProperties#isReuseSessions()} is enabled, the browser
+   * kept open by the previous test on this thread is used if one exists.
+   * <p>
+   * When the {@link DriverStartupType} is {@link DriverStartupType#ASYNCHRONOUS}, the browser is
+   * started on a background thread and this method returns right away. The test waits for the
+   * browser the first time it calls {@link #getWebDriverWrapper()}. When the
+   * {@link DriverStartupType} is {@link DriverStartupType#LAZY}, no browser is started until that
+   * first call.
+   * <p>
+   * When a limit is set with {@link #limitConcurrentBrowsers(int)}, this waits until fewer tests
+   * than the limit hold a browser.
    *
    * @param testName the information on the test that is being ran. This plugs in with Junit Jupiter
    *                 annotations.
    */
   protected void initDriver(String testName) {
-    if (getWebDriverWrapper() != null) {
+    if (webDriverWrapper != null || pendingWebDriverWrapper != null || lazyTestName != null) {
       throw new WebDriverContextException(
           "Driver already exists. Try closing/quitting it before trying to initialize a new one");
     }
-    var webDriver = configureWebDriver(testName);
-    webDriverWrapper = new WebDriverWrapper(webDriver, getDesiredCapabilities().getWaitTimeoutInSeconds());
+    acquireBrowserPermit(testName);
+    try {
+      // A retained browser is already started, so there's nothing to gain by waiting on it async
+      if (isSessionReuseEnabled()) {
+        var retainedSession = takeRetainedSession(testName);
+        if (retainedSession != null) {
+          webDriverWrapper = retainedSession;
+          return;
+        }
+      }
+      switch (getDesiredCapabilities().getDriverStartupType()) {
+        case ASYNCHRONOUS:
+          log.debug(String.format("Starting driver in the background for test: %s", testName));
+          pendingWebDriverWrapper = CompletableFuture
+              .supplyAsync(() -> startWebDriverWrapper(testName), DRIVER_STARTUP_EXECUTOR);
+          break;
+        case LAZY:
+          log.debug(String.format("Deferring driver start up until first use for test: %s",
+              testName));
+          lazyTestName = testName;
+          WebDriverMetrics.recordLazySessionDeferred();
+          break;
+        default:
+          webDriverWrapper = startWebDriverWrapper(testName);
+      }
+    } catch (RuntimeException e) {
+      releaseBrowserPermit();
+      throw e;
+    }
+  }
+
+  /**
+   * Limits how many tests can hold a browser at once across the JVM. A test holds a browser from
+   * {@link #initDriver(String)} until {@link #closeDriver()}, and tests that start while the limit
+   * is reached wait for another test to close its browser. Browsers of {@link RunType#UNIT} runs
+   * aren't counted.
+   * <p>
+   * This is set by {@link ScaffoldParallelExecutionStrategy} to the parallelism of the run. JUnit
+   * can run more tests at once than its parallelism, by adding threads while other threads wait on
+   * their nested tests, so the limit is what keeps the amount of browsers at the parallelism. Only
+   * the first limit set in the JVM is used, since JUnit creates its configuration once per run.
+   *
+   * @param maxBrowsers the amount of tests that can hold a browser at once
+   */
+  public static synchronized void limitConcurrentBrowsers(int maxBrowsers) {
+    if (browserPermits == null) {
+      browserPermits = new Semaphore(Math.max(1, maxBrowsers), true);
+    }
+  }
+
+  /**
+   * Gets the {@link WebDriverWrapper} for the current test. If the browser is still being started
+   * in the background, this waits for it to finish starting. Any error from the background start up
+   * is thrown here. If the browser start up was deferred, the browser is started now.
+   *
+   * @return as {@link WebDriverWrapper}
+   */
+  WebDriverWrapper getWebDriverWrapper() {
+    if (webDriverWrapper == null && pendingWebDriverWrapper != null) {
+      var pendingDriver = pendingWebDriverWrapper;
+      pendingWebDriverWrapper = null;
+      webDriverWrapper = awaitWebDriverWrapper(pendingDriver);
+    }
+    if (webDriverWrapper == null && lazyTestName != null) {
+      var testName = lazyTestName;
+      lazyTestName = null;
+      log.debug(String.format("Starting deferred driver on first use for test: %s", testName));
+      webDriverWrapper = startWebDriverWrapper(testName);
+      WebDriverMetrics.recordLazySessionStarted();
+    }
+    return webDriverWrapper;
   }
 
   /**
    * Closes the current {@link WebDriver}.
    * <p>
    * 1. Check if the {@link WebDriverWrapper} is not null. If it's not null, proceed with the
-   * closing of the driver. 2. Quit the driver on the thread.
+   * closing of the driver. 2. Return the driver to its {@link WebDriverPool} if it was leased from
+   * one, or reset and retain it for the next test on this thread if session reuse is enabled.
+   * Otherwise, quit the driver on the thread, or on the {@link WebDriverReaper} when asynchronous
+   * teardown is enabled.
    */
   void closeDriver() {
+    if (lazyTestName != null) {
+      log.debug(String.format("Browser was never used, skipping start up for test: %s",
+          lazyTestName));
+      WebDriverMetrics.recordLazySessionAvoided();
+      lazyTestName = null;
+    }
+    if (pendingWebDriverWrapper != null) {
+      // The browser can't be cancelled mid start up, so wait for it in order to close it
+      try {
+        getWebDriverWrapper();
+      } catch (Exception e) {
+        log.error("Error starting browser: " + getStackTrace(e));
+      }
+    }
     if (getWebDriverWrapper() != null) {
       try {
-        synchronized (getCloseLock()) {
-          getWebDriverWrapper().quit();
+        if (getWebDriverPool() != null) {
+          getWebDriverPool().release(getWebDriverWrapper());
+        } else if (isSessionReuseEnabled()) {
+          retainSession(getWebDriverWrapper());
+        } else {
+          quitDriver(getWebDriverWrapper());
         }
       } catch (Exception e) {
         log.error("Error quitting browser: " + getStackTrace(e));
       }
       webDriverWrapper = null;
+      webDriverPool = null;
+    }
+    releaseBrowserPermit();
+  }
+
+  /**
+   * Waits for a browser permit when a limit is set with {@link #limitConcurrentBrowsers(int)}.
+   *
+   * @param testName the name of the test being executed
+   */
+  private void acquireBrowserPermit(String testName) {
+    var permits = browserPermits;
+    if (permits == null || getDesiredCapabilities().getRunType() == RunType.UNIT) {
+      return;
+    }
+    if (!permits.tryAcquire()) {
+      log.debug(String.format("Waiting for another test to close its browser before starting "
+          + "test: %s", testName));
+      try {
+        permits.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new WebDriverContextException(String.format(
+            "Interrupted while waiting to start a browser for test: %s", testName), e);
+      }
+    }
+    heldBrowserPermit = permits;
+  }
+
+  /**
+   * Releases the browser permit of the current test, if it holds one.
+   */
+  private void releaseBrowserPermit() {
+    if (heldBrowserPermit != null) {
+      heldBrowserPermit.release();
+      heldBrowserPermit = null;
+    }
+  }
+
+  /**
+   * Quits the browser. When {@link DesiredCapabilitiesConfigurationProperties.DriverTeardown} is
+   * asynchronous, the browser is handed to the {@link WebDriverReaper} so the test thread doesn't
+   * wait on it.
+   *
+   * @param webDriverWrapper the {@link WebDriverWrapper} to quit
+   */
+  private void quitDriver(WebDriverWrapper webDriverWrapper) {
+    if (getDesiredCapabilities().getDriverTeardown().isAsynchronous()) {
+      validateDriverTeardownConfiguration(getDesiredCapabilities());
+      WebDriverReaper.getReaper(getDesiredCapabilities().getDriverTeardown())
+          .quit(webDriverWrapper);
+      return;
+    }
+    synchronized (getCloseLock()) {
+      webDriverWrapper.quit();
+    }
+  }
+
+  /**
+   * Leases, creates, or retains a new {@link WebDriverWrapper} based on the configuration. This can
+   * be run on a background thread when the driver startup type is
+   * {@link DriverStartupType#ASYNCHRONOUS}.
+   *
+   * @param testName the name of the test being executed
+   * @return as {@link WebDriverWrapper}
+   */
+  private WebDriverWrapper startWebDriverWrapper(String testName) {
+    if (isDriverPoolEnabled()) {
+      return leasePooledDriver(testName);
+    }
+    var newWebDriverWrapper = createWebDriverWrapper(testName);
+    if (isSessionReuseEnabled()) {
+      RETAINED_SESSIONS.add(newWebDriverWrapper);
+    }
+    return newWebDriverWrapper;
+  }
+
+  /**
+   * Waits for a {@link WebDriverWrapper} that is being started in the background. The exception
+   * thrown during the start up is unwrapped so that tests see the same error they would see from
+   * a synchronous start up.
+   *
+   * @param pendingDriver the {@link CompletableFuture} of the browser being started
+   * @return as {@link WebDriverWrapper}
+   */
+  private WebDriverWrapper awaitWebDriverWrapper(
+      CompletableFuture<WebDriverWrapper> pendingDriver) {
+    try {
+      return pendingDriver.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new WebDriverContextException("Error starting browser in the background", e.getCause());
+    }
+  }
+
+  /**
+   * Creates a brand new {@link WebDriver} and wraps it in a {@link WebDriverWrapper}.
+   *
+   * @param testName the name of the test being executed
+   * @return as {@link WebDriverWrapper}
+   */
+  private WebDriverWrapper createWebDriverWrapper(String testName) {
+    var profileDirectory = isBrowserProfileEnabled()
+        ? BrowserProfileTemplate.cloneProfile(getDesiredCapabilities().getBrowserProfile())
+        : null;
+    WebDriver webDriver;
+    try {
+      webDriver = configureWebDriver(testName, profileDirectory);
+    } catch (RuntimeException e) {
+      Optional.ofNullable(profileDirectory).ifPresent(BrowserProfileTemplate::discardProfile);
+      throw e;
     }
+    var newWebDriverWrapper = new WebDriverWrapper(webDriver,
+        getDesiredCapabilities().getWaitTimeoutInSeconds());
+    newWebDriverWrapper.setProfileDirectory(profileDirectory);
+    newWebDriverWrapper.setElementLocateStrategy(getDesiredCapabilities().getElementLocateStrategy());
+    newWebDriverWrapper.setPageSnapshot(getDesiredCapabilities().getPageSnapshot());
+    newWebDriverWrapper.setPageReadiness(getDesiredCapabilities().getPageReadiness());
+    newWebDriverWrapper.setObservedWait(getDesiredCapabilities().getObservedWait());
+    newWebDriverWrapper.setPageLoadStrategy(getDesiredCapabilities().getPageLoadStrategy());
+    return newWebDriverWrapper;
+  }
+
+  /**
+   * Checks if the session should use a cloned {@link BrowserProfileTemplate}. This is only done for
+   * Chrome on {@link RunType#LOCAL} and {@link RunType#HEADLESS} when no remote url is set, since
+   * the profile has to be on the same machine as the browser.
+   *
+   * @return as {@link boolean}
+   */
+  private boolean isBrowserProfileEnabled() {
+    var runType = getDesiredCapabilities().getRunType();
+    var isLocalChrome = runType == RunType.HEADLESS
+        || (runType == RunType.LOCAL
+        && getDesiredCapabilities().getBrowserType() == BrowserType.CHROME);
+    return getDesiredCapabilities().getBrowserProfile().isEnabled()
+        && isLocalChrome
+        && getDesiredCapabilities().getRemoteUrl() == null;
+  }
+
+  /**
+   * Points Chrome at the cloned user data directory and the shared disk cache, when configured.
+   *
+   * @param browserOptions   the browser options represented as {@link MutableCapabilities}
+   * @param profileDirectory the cloned user data directory, or null when not used
+   */
+  private void applyBrowserProfile(MutableCapabilities browserOptions, Path profileDirectory) {
+    if (profileDirectory == null) {
+      return;
+    }
+    var chromeOptions = (ChromeOptions) browserOptions;
+    chromeOptions.addArguments("--user-data-dir=" + profileDirectory);
+    Optional.ofNullable(getDesiredCapabilities().getBrowserProfile().getSharedDiskCacheDir())
+        .ifPresent(diskCacheDir -> chromeOptions.addArguments("--disk-cache-dir=" + diskCacheDir));
+  }
+
+  /**
+   * Checks if the driver pool should be used for this run. The pool is never used for
+   * {@link RunType#UNIT} since there is no browser to reuse.
+   *
+   * @return as {@link boolean}
+   */
+  private boolean isDriverPoolEnabled() {
+    return getDesiredCapabilities().getDriverPool().isEnabled()
+        && getDesiredCapabilities().getRunType() != RunType.UNIT;
+  }
+
+  /**
+   * Leases a {@link WebDriverWrapper} from the {@link WebDriverPool} for the current
+   * configuration. Pooled browsers are started without a test name, so for Sauce runs we rename
+   * the job to the current test after the lease.
+   *
+   * @param testName the name of the test being executed
+   * @return as {@link WebDriverWrapper}
+   */
+  private WebDriverWrapper leasePooledDriver(String testName) {
+    validateDriverPoolConfiguration(getDesiredCapabilities());
+    webDriverPool = WebDriverPool.getPool(getDesiredCapabilities(),
+        () -> createWebDriverWrapper(POOLED_SESSION_NAME));
+    var leasedDriver = webDriverPool.lease();
+    renameSauceJob(leasedDriver, testName);
+    log.debug(String.format("Leased pooled browser for test: %s", testName));
+    return leasedDriver;
+  }
+
+  /**
+   * Checks if session reuse should be used for this run. Session reuse is never used for
+   * {@link RunType#UNIT} or when the driver pool is enabled.
+   *
+   * @return as {@link boolean}
+   */
+  private boolean isSessionReuseEnabled() {
+    return getDesiredCapabilities().isReuseSessions()
+        && getDesiredCapabilities().getRunType() != RunType.UNIT
+        && !isDriverPoolEnabled();
+  }
+
+  /**
+   * Takes the browser kept open by the previous test on this thread. If there isn't one, null is
+   * returned and a new browser should be started and tracked so it can be reused by the next test.
+   *
+   * @param testName the name of the test being executed
+   * @return as {@link WebDriverWrapper}
+   */
+  private WebDriverWrapper takeRetainedSession(String testName) {
+    var retainedSession = RETAINED_SESSION.get();
+    RETAINED_SESSION.remove();
+    if (retainedSession != null) {
+      renameSauceJob(retainedSession, testName);
+      log.debug(String.format("Reusing browser for test: %s", testName));
+    }
+    return retainedSession;
+  }
+
+  /**
+   * Resets the browser and keeps it open for the next test on this thread. If the reset fails, the
+   * browser is quit so that the next test starts with a new one.
+   *
+   * @param session the {@link WebDriverWrapper} being retained
+   */
+  private void retainSession(WebDriverWrapper session) {
+    try {
+      session.resetSession();
+      RETAINED_SESSION.set(session);
+    } catch (Exception e) {
+      log.warn(String.format("Could not reset the browser for reuse, quitting it instead: %s",
+          e.getMessage()));
+      RETAINED_SESSIONS.remove(session);
+      quitDriver(session);
+    }
+  }
+
+  /**
+   * Quits every browser retained for session reuse. This is registered as a JVM shutdown hook so
+   * that reused browsers are not abandoned at the end of a test run.
+   */
+  private static void quitRetainedSessions() {
+    RETAINED_SESSIONS.forEach(WebDriverWrapper::quit);
+    RETAINED_SESSIONS.clear();
+  }
+
+  /**
+   * Renames the Sauce job to the current test. Browsers that are reused across tests keep the name
+   * they were started with, so this keeps the Sauce dashboard accurate.
+   *
+   * @param webDriverWrapper the {@link WebDriverWrapper} of the Sauce session
+   * @param testName         the name of the test being executed
+   */
+  private void renameSauceJob(WebDriverWrapper webDriverWrapper, String testName) {
+    var runType = getDesiredCapabilities().getRunType();
+    if (runType == SAUCE || runType == RunType.SAUCE_MOBILE_EMULATOR) {
+      try {
+        webDriverWrapper.getJavascriptExecutor().executeScript("sauce:job-name=" + testName);
+      } catch (Exception e) {
+        log.debug(String.format("Could not rename the Sauce job to [%s]", testName));
+      }
+    }
+  }
+
+  /**
+   * Gets the {@link CapabilityTemplate} for the configuration, building it the first time it's
+   * asked for.
+   *
+   * @return as {@link CapabilityTemplate}
+   */
+  private CapabilityTemplate getCapabilityTemplate() {
+    return CAPABILITY_TEMPLATES.computeIfAbsent(getDesiredCapabilities(),
+        desiredCapabilities -> {
+          WebDriverMetrics.recordCapabilityTemplateBuilt();
+          try {
+            return new CapabilityTemplate(buildBrowserOptionsTemplate(), null);
+          } catch (WebDriverManagerException e) {
+            return new CapabilityTemplate(null, e);
+          } catch (RuntimeException e) {
+            return new CapabilityTemplate(null,
+                new WebDriverManagerException(e.getMessage(), e));
+          }
+        });
+  }
+
+  /**
+   * Validates the configuration for the run type and builds the browser options that every session
+   * in the run shares. Per session values, like the Sauce test name, the Grid run id, and a cloned
+   * browser profile, are added on to a copy of these options when the session starts.
+   *
+   * @return as {@link Capabilities}
+   */
+  private Capabilities buildBrowserOptionsTemplate() {
+    var runType = getDesiredCapabilities().getRunType(); // already null checked via lombok
+    MutableCapabilities browserOptions;
+
+    switch (runType) {
+      case LOCAL:
+        validateRequiredDesktopBrowserCapabilities(getDesiredCapabilities());
+        browserOptions = configureLocalBrowserOptions();
+        break;
+      case HEADLESS:
+        validateRequiredDesktopBrowserCapabilities(getDesiredCapabilities());
+        browserOptions = configureHeadlessChromeOptions();
+        break;
+      case GRID:
+        validateRequiredDesktopBrowserCapabilities(getDesiredCapabilities());
+        browserOptions = configureGridBrowserOptions();
+        break;
+      case SAUCE:
+        validateRequiredDesktopBrowserCapabilities(getDesiredCapabilities());
+        validateRequiredSauceAuth(getDesiredCapabilities());
+        browserOptions = configureSauceBrowserOptions();
+        browserOptions.setCapability(SAUCE_OPTIONS_CAPABILITY, configureSauceOptions());
+        break;
+      case SAUCE_MOBILE_EMULATOR:
+        validateRequiredMobileEmulatorCapabilities(getDesiredCapabilities());
+        validateRequiredSauceAuth(getDesiredCapabilities());
+        browserOptions = configureMobileEmulatorOptions();
+        browserOptions.setCapability(SAUCE_OPTIONS_CAPABILITY, configureSauceOptions());
+        break;
+      case AWS_LAMBDA_LOCAL:
+      case AWS_LAMBDA_REMOTE:
+        validateRequiredDesktopBrowserCapabilities(getDesiredCapabilities());
+        validateAwsLambdaDesiredCapabilities(getDesiredCapabilities());
+        browserOptions = configureAWSLambdaChromeOptions();
+        break;
+      default:
+        throw new WebDriverManagerException(String
+            .format("Unknown run type: %s. Please check your configuration.",
+                runType.getRunType()));
+    }
+    applyPageLoadStrategy(browserOptions);
+    return new ImmutableCapabilities(browserOptions);
   }
 
   /**
    * Checks the run type from {@link #getDesiredCapabilities()} and configures browser options.
    * Afterwards, creates the {@link WebDriver} based on the browser options.
    *
-   * @param testName the name of the test being executed
+   * @param testName         the name of the test being executed
+   * @param profileDirectory the cloned user data directory for local Chrome, or null when not used
    * @return as {@link WebDriver}
    */
-  private WebDriver configureWebDriver(String testName) {
+  private WebDriver configureWebDriver(String testName, Path profileDirectory) {
     MutableCapabilities browserOptions;
     WebDriver webDriver;
     var runType = getDesiredCapabilities().getRunType(); // already null checked via lombok
-    var screenResolution = getDesiredCapabilities().getScreenResolution(); // already has default
 
     log.debug(String.format("Starting driver for test: %s", testName));
+    if (runType != RunType.UNIT) {
+      browserOptions = getCapabilityTemplate().copyBrowserOptions();
+    } else {
+      browserOptions = null;
+    }
     switch (runType) {
       case UNIT:
         log.debug("Configuring mock browser for Scaffold unit testing.");
         webDriver = null;
         break;
       case LOCAL:
+        // Local drivers need typed browser options, which can't be copied from the template
         browserOptions = configureLocalBrowserOptions();
+        applyBrowserProfile(browserOptions, profileDirectory);
         webDriver = checkForRemoteUrl(browserOptions, runType);
         break;
       case HEADLESS:
         browserOptions = configureHeadlessChromeOptions();
+        applyBrowserProfile(browserOptions, profileDirectory);
         webDriver = checkForRemoteUrl(browserOptions, runType);
         break;
       case GRID:
         log.debug("Configuring remote browser for Grid.");
-        browserOptions = configureGridBrowserOptions();
-        browserOptions.setCapability(SCREEN_RESOLUTION_CAPABILITY,
-            screenResolution.getScreenShotResolutionAsString(SAUCELABS));
+        var uuid = TestContext.baseContext()
+            .getSetting(String.class, TestContextSetting.TEST_RUN_ID);
+        browserOptions.setCapability("uuid", uuid);
         webDriver = createGridRemoteDriver(browserOptions);
         break;
       case SAUCE:
         log.debug("Configuring remote browser for Sauce.");
-        browserOptions = configureSauceBrowserOptions();
         webDriver = configureSauceRemoteBrowser(browserOptions, testName);
         break;
       case SAUCE_MOBILE_EMULATOR:
         log.debug("Configuring remote browser for Sauce's Mobile Emulation");
-        browserOptions = configureMobileEmulatorOptions();
         webDriver = configureSauceRemoteBrowser(browserOptions, testName);
         break;
       case AWS_LAMBDA_LOCAL:
@@ -195,7 +739,6 @@ public class WebDriverManager {
         break;
       case AWS_LAMBDA_REMOTE:
         log.debug("Configuring remote browser for AWS Lambda");
-        browserOptions = configureAWSLambdaChromeOptions();
         webDriver = configureRemoteDriver(browserOptions);
         break;
       default:
@@ -210,7 +753,8 @@ public class WebDriverManager {
   /**
    * Checks to see if a {@link RunType#LOCAL} or {@link RunType#HEADLESS} test configuration
    * includes a {@link DesiredCapabilitiesConfigurationProperties#getRemoteUrl()}. If it exists,
-   * return a new {@link RemoteWebDriver}. Otherwise, return a {@link WebDriver} for a local run.
+   * return a new {@link RemoteWebDriver}. Otherwise, return a {@link WebDriver} for a local run,
+   * created against a {@link DriverServicePool} when shared driver services are enabled.
    *
    * @param browserOptions the browser options represented as {@link MutableCapabilities}
    * @param runType        the {@link RunType}. Used for logging purposes.
@@ -223,6 +767,11 @@ public class WebDriverManager {
       log.debug(String
           .format("Configuring remote browser for a %s docker execution.", runType.getRunType()));
       webDriver = createRemoteWebDriver(browserOptions);
+    } else if (isSharedDriverServiceEnabled()) {
+      log.debug(String.format(
+          "Configuring local browser on a shared driver service for %s execution.",
+          runType.getRunType()));
+      webDriver = configureSharedServiceDriver(browserOptions);
     } else {
       log.debug(String.format("Configuring local browser for %s execution.", runType.getRunType()));
       webDriver = configureLocalDriver(browserOptions);
@@ -236,11 +785,11 @@ public class WebDriverManager {
    * @return as {@link MutableCapabilities}
    */
   private MutableCapabilities configureLocalBrowserOptions() {
-    validateRequiredDesktopBrowserCapabilities(getDesiredCapabilities());
     var browserOptions = configureDesktopBrowserOptions();
     browserOptions.setCapability("platform", getDesiredCapabilities().getRunPlatform());
     Optional.ofNullable(getDesiredCapabilities().getBrowserVersion())
         .ifPresent(version -> browserOptions.setCapability("version", version));
+    applyPageLoadStrategy(browserOptions);
     return browserOptions;
   }
 
@@ -250,7 +799,6 @@ public class WebDriverManager {
    * @return as {@link MutableCapabilities}
    */
   private MutableCapabilities configureHeadlessChromeOptions() {
-    validateRequiredDesktopBrowserCapabilities(getDesiredCapabilities());
     System.setProperty("webdriver.chrome.silentOutput", "true");
     var chromeOptions = new ChromeOptions().setAcceptInsecureCerts(true).setHeadless(true)
         .addArguments("--window-size=1440x5000")
@@ -259,6 +807,7 @@ public class WebDriverManager {
     chromeOptions.setCapability("platform", getDesiredCapabilities().getRunPlatform());
     Optional.ofNullable(getDesiredCapabilities().getBrowserVersion())
         .ifPresent(version -> chromeOptions.setCapability("version", version));
+    applyPageLoadStrategy(chromeOptions);
     return chromeOptions;
   }
 
@@ -268,11 +817,9 @@ public class WebDriverManager {
    * @return as {@link MutableCapabilities}
    */
   private MutableCapabilities configureGridBrowserOptions() {
-    validateRequiredDesktopBrowserCapabilities(getDesiredCapabilities());
     var browserOptions = configureDesktopBrowserOptions();
-    var uuid = TestContext.baseContext()
-        .getSetting(String.class, TestContextSetting.TEST_RUN_ID);
-    browserOptions.setCapability("uuid", uuid);
+    browserOptions.setCapability(SCREEN_RESOLUTION_CAPABILITY,
+        getDesiredCapabilities().getScreenResolution().getScreenShotResolutionAsString(SAUCELABS));
     return browserOptions;
   }
 
@@ -282,7 +829,6 @@ public class WebDriverManager {
    * @return as {@link MutableCapabilities}
    */
   private MutableCapabilities configureSauceBrowserOptions() {
-    validateRequiredDesktopBrowserCapabilities(getDesiredCapabilities());
     var browserOptions = configureDesktopBrowserOptions();
     browserOptions.setCapability("browserName",
         getDesiredCapabilities().getBrowserType().getBrowserName()); // already null checked
@@ -309,7 +855,6 @@ public class WebDriverManager {
    * @return as {@link DesiredCapabilities}
    */
   private MutableCapabilities configureMobileEmulatorOptions() {
-    validateRequiredMobileEmulatorCapabilities(getDesiredCapabilities());
     var caps = new MutableCapabilities();
 
     // Setting required capabilities
@@ -359,8 +904,6 @@ public class WebDriverManager {
    * @return as {@link MutableCapabilities}
    */
   private MutableCapabilities configureAWSLambdaChromeOptions() {
-    validateRequiredDesktopBrowserCapabilities(getDesiredCapabilities());
-    validateAwsLambdaDesiredCapabilities(getDesiredCapabilities());
     var chromeOptions = new ChromeOptions()
         .setBinary(getDesiredCapabilities().getAwsLambda().getBrowserBinaryPath())
         .setHeadless(true)
@@ -382,9 +925,23 @@ public class WebDriverManager {
         .ifPresent(homeDir -> chromeOptions.addArguments("--homedir=" + homeDir));
     Optional.ofNullable(getDesiredCapabilities().getAwsLambda().getUserDataDir())
         .ifPresent(userDataDir -> chromeOptions.addArguments("--user-data-dir=" + userDataDir));
+    applyPageLoadStrategy(chromeOptions);
     return chromeOptions;
   }
 
+  /**
+   * Sets {@link DesiredCapabilitiesConfigurationProperties#getPageLoadStrategy()} on the browser
+   * options. {@link PageLoadStrategy#NORMAL} is the browser default, so it's left off the options.
+   *
+   * @param browserOptions the browser options represented as {@link MutableCapabilities}
+   */
+  private void applyPageLoadStrategy(MutableCapabilities browserOptions) {
+    var pageLoadStrategy = getDesiredCapabilities().getPageLoadStrategy();
+    if (pageLoadStrategy != null && pageLoadStrategy != PageLoadStrategy.NORMAL) {
+      browserOptions.setCapability(CapabilityType.PAGE_LOAD_STRATEGY, pageLoadStrategy);
+    }
+  }
+
   /**
    * Helper method that creates {@link MutableCapabilities} based on the browser type.
    *
@@ -502,6 +1059,33 @@ public class WebDriverManager {
     return localWebDriver;
   }
 
+  /**
+   * Checks if local browsers should be started against a shared driver process. This is only
+   * supported for browser types in {@link DriverServicePool#isSupported(BrowserType)}.
+   *
+   * @return as {@link boolean}
+   */
+  private boolean isSharedDriverServiceEnabled() {
+    return getDesiredCapabilities().getSharedDriverService().isEnabled()
+        && DriverServicePool.isSupported(getDesiredCapabilities().getBrowserType());
+  }
+
+  /**
+   * Starts a local browser against a driver process from the {@link DriverServicePool}. The
+   * session is a {@link ScreenshotRemoteDriver} so that quitting the browser doesn't stop the
+   * shared driver process.
+   *
+   * @param browserOptions the browser configuration to be used with the new {@link WebDriver}
+   * @return the new {@link WebDriver}
+   */
+  private WebDriver configureSharedServiceDriver(MutableCapabilities browserOptions) {
+    validateSharedDriverServiceConfiguration(getDesiredCapabilities());
+    var sharedDriverService = getDesiredCapabilities().getSharedDriverService();
+    var driverServicePool = DriverServicePool.getPool(
+        getDesiredCapabilities().getBrowserType(), sharedDriverService.getPoolSize());
+    return new ScreenshotRemoteDriver(driverServicePool.getServiceUrl(), browserOptions);
+  }
+
   /**
    * Pulls the session id and sends a new grid request using the {@link RestTemplate} set up from
    * {@link SeleniumGridServiceConfiguration}.
@@ -547,11 +1131,54 @@ public class WebDriverManager {
   }
 
   /**
-   * Sets up the desired capabilities for Sauce and returns the fully configured remote url.
+   * Sets up the Sauce specific desired capabilities that are shared by every test in the run. The
+   * test name is left out since it's added per test in
+   * {@link #configureSauceRemoteBrowser(MutableCapabilities, String)}.
    * <p>
    * If the {@link RunType} is SAUCE, set the user credentials and add the sauce connect tunnel id
-   * to capabilities. Also the remote URL is a combination of the username, access key, and sauce
-   * url. Additional information on this can be found here: https://wiki.saucelabs.com/display/DOCS/Getting+Started+with+Selenium+for+Automated+Website+Testing
+   * to capabilities. Additional information on this can be found here: https://wiki.saucelabs.com/display/DOCS/Getting+Started+with+Selenium+for+Automated+Website+Testing
+   *
+   * @return as {@link MutableCapabilities}
+   */
+  private MutableCapabilities configureSauceOptions() {
+    var sauceCaps = new MutableCapabilities();
+    var sauce = getDesiredCapabilities().getSauce();
+    var screenResolution = getDesiredCapabilities().getScreenResolution(); // already null checked
+    var tunnelIdentifier = Optional.ofNullable(sauce.getTunnelIdentifier());
+    var parentTunnel = Optional.ofNullable(sauce.getParentTunnel());
+    var timeZone = Optional.ofNullable(sauce.getTimeZone());
+    var extendedDebugging = Optional.ofNullable(sauce.getExtendedDebugging());
+    var capturePerformance = Optional.ofNullable(sauce.getCapturePerformance());
+
+    // Required
+    sauceCaps.setCapability("username", sauce.getUserName()); // already null checked
+    sauceCaps.setCapability("accessKey", sauce.getAccessKey()); // already null checked
+
+    // Since we've added mobile emulation, we need to make sure screen resolution is not set
+    // for a mobile emulation sauce configuration. Otherwise, set the appium version capability
+    if (getDesiredCapabilities().getRunType() == SAUCE) {
+      sauceCaps.setCapability("screenResolution",
+          screenResolution.getScreenShotResolutionAsString(SAUCELABS));
+    } else {
+      // Default appium version left as blank string
+      var appiumVersion = Optional
+          .ofNullable(getDesiredCapabilities().getMobile().getAppiumVersion()).orElse("");
+      sauceCaps.setCapability("appiumVersion", appiumVersion);
+    }
+
+    // Optionals with no default
+    tunnelIdentifier.ifPresent(tunnelId -> sauceCaps.setCapability("tunnelIdentifier", tunnelId));
+    parentTunnel
+        .ifPresent(parentTunnelId -> sauceCaps.setCapability("parentTunnel", parentTunnelId));
+    timeZone.ifPresent(tz -> sauceCaps.setCapability("timeZone", tz));
+    extendedDebugging.ifPresent(setting -> sauceCaps.setCapability("extendedDebugging", setting));
+    capturePerformance.ifPresent(setting -> sauceCaps.setCapability("capturePerformance", setting));
+    return sauceCaps;
+  }
+
+  /**
+   * Adds the test name to the Sauce options copied from the {@link CapabilityTemplate} and starts
+   * the remote browser. The remote URL is a combination of the username, access key, and sauce url.
    * <p>
    * If any issue is discovered during the starting of this browser, we will throw a {@link
    * WebDriverException} with a custom message.
@@ -559,59 +1186,28 @@ public class WebDriverManager {
    * TODO We also need to update report test pass/fail to sauce so it shows up as pass/fail on the
    * sauce UI
    *
-   * @param browserOptions the desired capabilities we're adding on to
+   * @param browserOptions the desired capabilities copied from the {@link CapabilityTemplate}
    * @param testName       the information on the test that is being ran. This plugs in with Junit
    *                       Jupiter annotations.
    * @return the driver as {@link RemoteWebDriver}
    */
   private RemoteWebDriver configureSauceRemoteBrowser(MutableCapabilities browserOptions,
       String testName) {
-    validateRequiredSauceAuth(getDesiredCapabilities());
-    var sauceCaps = new MutableCapabilities();
     var sauce = getDesiredCapabilities().getSauce();
-    var screenResolution = getDesiredCapabilities().getScreenResolution(); // already null checked
 
     // In order to build the URi correctly, pull the username and access key from the desired
     // capabilities bean.
     final var defaultSauceUrl = "@ondemand.saucelabs.com/wd/hub";
-    var username = sauce.getUserName(); // already null checked
-    var accessKey = sauce.getAccessKey(); // already null checked
-    var tunnelIdentifier = Optional.ofNullable(sauce.getTunnelIdentifier());
-    var parentTunnel = Optional.ofNullable(sauce.getParentTunnel());
-    var timeZone = Optional.ofNullable(sauce.getTimeZone());
     var sauceConfigUrl = Optional.ofNullable(sauce.getUrl())
-        .orElse(URI.create("https://" + username + ":" + accessKey + defaultSauceUrl)
-            .toString());
-    var extendedDebugging = Optional.ofNullable(sauce.getExtendedDebugging());
-    var capturePerformance = Optional.ofNullable(sauce.getCapturePerformance());
+        .orElse(URI.create("https://" + sauce.getUserName() + ":" + sauce.getAccessKey()
+            + defaultSauceUrl).toString());
 
     try {
-      // Required
-      sauceCaps.setCapability("username", username);
-      sauceCaps.setCapability("accessKey", accessKey);
+      // Copy the template's Sauce options so the name is only set on this session
+      var sauceCaps = new MutableCapabilities(
+          (Capabilities) browserOptions.getCapability(SAUCE_OPTIONS_CAPABILITY));
       sauceCaps.setCapability("name", testName);
-
-      // Since we've added mobile emulation, we need to make sure screen resolution is not set
-      // for a mobile emulation sauce configuration. Otherwise, set the appium version capability
-      if (getDesiredCapabilities().getRunType() == SAUCE) {
-        sauceCaps.setCapability("screenResolution",
-            screenResolution.getScreenShotResolutionAsString(SAUCELABS));
-      } else {
-        // Default appium version left as blank string
-        var appiumVersion = Optional
-            .ofNullable(getDesiredCapabilities().getMobile().getAppiumVersion()).orElse("");
-        sauceCaps.setCapability("appiumVersion", appiumVersion);
-      }
-
-      // Optionals with no default
-      tunnelIdentifier.ifPresent(tunnelId -> sauceCaps.setCapability("tunnelIdentifier", tunnelId));
-      parentTunnel
-          .ifPresent(parentTunnelId -> sauceCaps.setCapability("parentTunnel", parentTunnelId));
-      timeZone.ifPresent(tz -> sauceCaps.setCapability("timeZone", tz));
-      extendedDebugging.ifPresent(setting -> sauceCaps.setCapability("extendedDebugging", setting));
-      capturePerformance.ifPresent(setting -> sauceCaps.setCapability("capturePerformance", setting));
-
-      browserOptions.setCapability("sauce:options", sauceCaps);
+      browserOptions.setCapability(SAUCE_OPTIONS_CAPABILITY, sauceCaps);
       return startScreenshotRemoteDriver(sauceConfigUrl, browserOptions);
     } catch (Exception e) {
       throw new WebDriverManagerException(
@@ -628,6 +1224,13 @@ public class WebDriverManager {
    * #createRemoteWebDriver(MutableCapabilities)}. Those methods should be responsible for throwing
    * their own custom error message since they both have varying reasons that could cause a failure
    * during the initialization of a new remote driver.
+   * <p>
+   * When {@link DesiredCapabilitiesConfigurationProperties.SessionAdmission} is enabled, the
+   * session request goes through the shared {@link SessionAdmissionController}, which limits the
+   * amount of session requests in flight and retries failed requests. When
+   * {@link DesiredCapabilitiesConfigurationProperties.CircuitBreaker} is enabled, the request goes
+   * through the shared {@link SessionCircuitBreaker} first, which fails it right away while the
+   * remote endpoint is down.
    *
    * @param remoteUrl      the remote URL to be used
    * @param browserOptions the mutable capabilities of the browser
@@ -637,8 +1240,60 @@ public class WebDriverManager {
       MutableCapabilities browserOptions)
       throws MalformedURLException {
 
+    var url = new URL(remoteUrl);
+    var circuitBreaker = getDesiredCapabilities().getCircuitBreaker();
+    if (circuitBreaker.isEnabled()) {
+      validateCircuitBreakerConfiguration(getDesiredCapabilities());
+      return SessionCircuitBreaker.getBreaker(circuitBreaker)
+          .call(() -> admitRemoteSession(url, browserOptions));
+    }
+    return admitRemoteSession(url, browserOptions);
+  }
+
+  private RemoteWebDriver admitRemoteSession(URL remoteUrl, MutableCapabilities browserOptions) {
+    var sessionAdmission = getDesiredCapabilities().getSessionAdmission();
+    if (sessionAdmission.isEnabled()) {
+      validateSessionAdmissionConfiguration(getDesiredCapabilities());
+      return SessionAdmissionController.getController(sessionAdmission)
+          .admit(() -> startRemoteSession(remoteUrl, browserOptions));
+    }
+    return startRemoteSession(remoteUrl, browserOptions);
+  }
+
+  private RemoteWebDriver startRemoteSession(URL remoteUrl, MutableCapabilities browserOptions) {
     synchronized (getStartLock()) {
-      return new ScreenshotRemoteDriver(new URL(remoteUrl), browserOptions);
+      return new ScreenshotRemoteDriver(remoteUrl, browserOptions);
+    }
+  }
+
+  /**
+   * The browser options for a configuration, validated and built once, or the failure from
+   * validating or building them. Every session gets its own copy of the options so that per
+   * session values never change the template.
+   */
+  private static class CapabilityTemplate {
+
+    private final Capabilities browserOptions;
+
+    @Getter
+    private final WebDriverManagerException failure;
+
+    CapabilityTemplate(Capabilities browserOptions, WebDriverManagerException failure) {
+      this.browserOptions = browserOptions;
+      this.failure = failure;
+    }
+
+    /**
+     * Copies the browser options for a new session. If the configuration is invalid, the original
+     * failure is thrown again without building the options again.
+     *
+     * @return as {@link MutableCapabilities}
+     */
+    MutableCapabilities copyBrowserOptions() {
+      if (failure != null) {
+        throw failure;
+      }
+      return new MutableCapabilities(browserOptions);
     }
   }
 }
@@ -0,0 +1,140 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.models.enums.driver.DriverStartupType;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps run wide counters on how {@link WebDriverWrapper} sessions are managed by the
+ * {@link WebDriverManager}. The counters are shared by every thread in the run and a summary is
+ * logged when the JVM shuts down.
+ */
+@Slf4j
+public class WebDriverMetrics {
+
+  private static final AtomicLong LAZY_SESSIONS_DEFERRED = new AtomicLong();
+  private static final AtomicLong LAZY_SESSIONS_STARTED = new AtomicLong();
+  private static final AtomicLong LAZY_SESSIONS_AVOIDED = new AtomicLong();
+  private static final AtomicLong TEARDOWNS_QUEUED = new AtomicLong();
+  private static final AtomicLong TEARDOWNS_COMPLETED = new AtomicLong();
+  private static final AtomicLong PEAK_TEARDOWN_QUEUE_DEPTH = new AtomicLong();
+  private static final AtomicLong CAPABILITY_TEMPLATES_BUILT = new AtomicLong();
+
+  static {
+    Runtime.getRuntime().addShutdownHook(new Thread(WebDriverMetrics::logSummary,
+        "scaffold-webdriver-metrics"));
+  }
+
+  private WebDriverMetrics() {
+  }
+
+  /**
+   * Records a test that deferred its browser start up with {@link DriverStartupType#LAZY}.
+   */
+  static void recordLazySessionDeferred() {
+    LAZY_SESSIONS_DEFERRED.incrementAndGet();
+  }
+
+  /**
+   * Records a deferred browser that was started because the test used it.
+   */
+  static void recordLazySessionStarted() {
+    LAZY_SESSIONS_STARTED.incrementAndGet();
+  }
+
+  /**
+   * Records a deferred browser that was never started because the test finished without using it.
+   */
+  static void recordLazySessionAvoided() {
+    LAZY_SESSIONS_AVOIDED.incrementAndGet();
+  }
+
+  /**
+   * Records a browser handed to the {@link WebDriverReaper} to be quit.
+   */
+  static void recordTeardownQueued() {
+    var queueDepth = TEARDOWNS_QUEUED.incrementAndGet() - TEARDOWNS_COMPLETED.get();
+    PEAK_TEARDOWN_QUEUE_DEPTH.accumulateAndGet(queueDepth, Math::max);
+  }
+
+  /**
+   * Records a browser the {@link WebDriverReaper} has finished quitting, successfully or not.
+   */
+  static void recordTeardownCompleted() {
+    TEARDOWNS_COMPLETED.incrementAndGet();
+  }
+
+  /**
+   * Records browser options that were validated and built for a configuration, successfully or
+   * not.
+   */
+  static void recordCapabilityTemplateBuilt() {
+    CAPABILITY_TEMPLATES_BUILT.incrementAndGet();
+  }
+
+  /**
+   * @return the amount of tests that deferred their browser start up
+   */
+  public static long getLazySessionsDeferred() {
+    return LAZY_SESSIONS_DEFERRED.get();
+  }
+
+  /**
+   * @return the amount of deferred browsers that were started
+   */
+  public static long getLazySessionsStarted() {
+    return LAZY_SESSIONS_STARTED.get();
+  }
+
+  /**
+   * @return the amount of deferred browsers that were never started
+   */
+  public static long getLazySessionsAvoided() {
+    return LAZY_SESSIONS_AVOIDED.get();
+  }
+
+  /**
+   * @return the amount of browsers handed to the {@link WebDriverReaper}
+   */
+  public static long getTeardownsQueued() {
+    return TEARDOWNS_QUEUED.get();
+  }
+
+  /**
+   * @return the amount of browsers handed to the {@link WebDriverReaper} that have not finished
+   * quitting
+   */
+  public static long getTeardownQueueDepth() {
+    return TEARDOWNS_QUEUED.get() - TEARDOWNS_COMPLETED.get();
+  }
+
+  /**
+   * @return the most browsers that were waiting on the {@link WebDriverReaper} at once
+   */
+  public static long getPeakTeardownQueueDepth() {
+    return PEAK_TEARDOWN_QUEUE_DEPTH.get();
+  }
+
+  /**
+   * @return the amount of times browser options were validated and built for a configuration
+   */
+  public static long getCapabilityTemplatesBuilt() {
+    return CAPABILITY_TEMPLATES_BUILT.get();
+  }
+
+  /**
+   * Logs a summary of the counters. Nothing is logged when no counters were recorded.
+   */
+  static void logSummary() {
+    if (getLazySessionsDeferred() > 0) {
+      log.info(String.format(
+          "Lazy browser start up: %s deferred, %s started, %s avoided",
+          getLazySessionsDeferred(), getLazySessionsStarted(), getLazySessionsAvoided()));
+    }
+    if (getTeardownsQueued() > 0) {
+      log.info(String.format(
+          "Background browser teardown: %s queued, %s still pending, peak queue depth of %s",
+          getTeardownsQueued(), getTeardownQueueDepth(), getPeakTeardownQueueDepth()));
+    }
+  }
+}
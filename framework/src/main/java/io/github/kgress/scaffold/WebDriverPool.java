@@ -0,0 +1,327 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties.DriverPool;
+import io.github.kgress.scaffold.exception.WebDriverContextException;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A pool of started {@link WebDriverWrapper}s that tests lease from during setup and return during
+ * tear down. This allows a browser to serve multiple tests instead of paying for a new browser
+ * startup on every test.
+ * <p>
+ * Pools are shared across the JVM and keyed by the browser configuration from
+ * {@link DesiredCapabilitiesConfigurationProperties}, so two test classes that run with the same
+ * configuration will share the same browsers. The pool is configured with {@link DriverPool}:
+ * <p>
+ * - minSize: the amount of idle browsers to keep started in the background
+ * - maxSize: the amount of browsers, idle and leased, that can exist at once
+ * - maxAgeInSeconds and maxUses: the limits before a browser is quit and replaced
+ * <p>
+ * When a browser is returned, it's reset with {@link WebDriverWrapper#resetSession()}. If the
+ * reset fails, or the browser has reached its max age or max uses, the browser is quit and the
+ * background refill will start a replacement.
+ * <p>
+ * {@link WebDriverManager} is responsible for leasing and returning browsers, which means the
+ * {@link BaseTestContext#setContext(WebDriverManager, String)} and
+ * {@link BaseTestContext#removeContext()} flow, and any page objects relying on it, does not change
+ * when the pool is enabled.
+ */
+@Slf4j
+public class WebDriverPool {
+
+  private static final Map<String, WebDriverPool> POOLS = new ConcurrentHashMap<>();
+  private static final long LEASE_POLL_INTERVAL_IN_MILLIS = 250L;
+
+  static {
+    Runtime.getRuntime().addShutdownHook(new Thread(WebDriverPool::shutdownAll,
+        "scaffold-driver-pool-shutdown"));
+  }
+
+  @Getter(AccessLevel.PRIVATE)
+  private final DriverPool driverPool;
+
+  @Getter(AccessLevel.PRIVATE)
+  private final Supplier<WebDriverWrapper> driverFactory;
+
+  private final BlockingDeque<PooledWebDriver> idleDrivers = new LinkedBlockingDeque<>();
+  private final Map<WebDriverWrapper, PooledWebDriver> leasedDrivers = new ConcurrentHashMap<>();
+  private final AtomicInteger totalDrivers = new AtomicInteger();
+  private final ExecutorService retireExecutor;
+  private final ScheduledExecutorService refillExecutor;
+
+  /**
+   * Creates a new pool. Most callers should use
+   * {@link #getPool(DesiredCapabilitiesConfigurationProperties, Supplier)} so that the pool is
+   * shared across the JVM.
+   *
+   * @param driverPool    the {@link DriverPool} configuration
+   * @param driverFactory the factory used to start a new {@link WebDriverWrapper}
+   */
+  public WebDriverPool(DriverPool driverPool, Supplier<WebDriverWrapper> driverFactory) {
+    this.driverPool = driverPool;
+    this.driverFactory = driverFactory;
+    this.retireExecutor = Executors.newSingleThreadExecutor(runnable ->
+        createDaemonThread(runnable, "scaffold-driver-pool-retire"));
+    this.refillExecutor = Executors.newSingleThreadScheduledExecutor(runnable ->
+        createDaemonThread(runnable, "scaffold-driver-pool-refill"));
+    if (driverPool.getMinSize() > 0) {
+      refillExecutor.scheduleWithFixedDelay(this::refill, 0L,
+          driverPool.getRefillIntervalInMillis(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Gets the pool for the browser configuration, creating it if it doesn't exist yet.
+   *
+   * @param desiredCapabilities the {@link DesiredCapabilitiesConfigurationProperties} of the run
+   * @param driverFactory       the factory used to start a new {@link WebDriverWrapper}
+   * @return as {@link WebDriverPool}
+   */
+  public static WebDriverPool getPool(DesiredCapabilitiesConfigurationProperties desiredCapabilities,
+      Supplier<WebDriverWrapper> driverFactory) {
+    return POOLS.computeIfAbsent(getCapabilityKey(desiredCapabilities),
+        key -> {
+          log.debug(String.format("Creating a new driver pool for configuration [%s]", key));
+          return new WebDriverPool(desiredCapabilities.getDriverPool(), driverFactory);
+        });
+  }
+
+  /**
+   * Quits every browser in every pool. This is registered as a JVM shutdown hook so that pooled
+   * browsers are not abandoned at the end of a test run.
+   */
+  public static void shutdownAll() {
+    POOLS.values().forEach(WebDriverPool::shutdown);
+    POOLS.clear();
+  }
+
+  /**
+   * Leases a browser from the pool. An idle browser is returned when one is available. Otherwise,
+   * a new browser is started if the pool is below its max size. If the pool is at its max size,
+   * this will wait for another test to return a browser until the lease timeout is reached.
+   *
+   * @return as {@link WebDriverWrapper}
+   */
+  public WebDriverWrapper lease() {
+    var deadline = System.currentTimeMillis()
+        + TimeUnit.SECONDS.toMillis(getDriverPool().getLeaseTimeoutInSeconds());
+
+    while (System.currentTimeMillis() < deadline) {
+      var pooledDriver = idleDrivers.pollFirst();
+      if (pooledDriver == null && reserveSlot()) {
+        pooledDriver = createPooledDriver();
+      }
+      if (pooledDriver == null) {
+        try {
+          pooledDriver = idleDrivers.pollFirst(LEASE_POLL_INTERVAL_IN_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new WebDriverContextException("Interrupted while waiting on the driver pool", e);
+        }
+      }
+      if (pooledDriver == null) {
+        continue;
+      }
+      if (pooledDriver.isExpired(getDriverPool())) {
+        retire(pooledDriver);
+        continue;
+      }
+      leasedDrivers.put(pooledDriver.getWebDriverWrapper(), pooledDriver);
+      return pooledDriver.getWebDriverWrapper();
+    }
+    throw new WebDriverContextException(String.format(
+        "Timed out after %s seconds waiting on a browser from the driver pool. All %s browsers are "
+            + "leased. Consider increasing the driver pool max size or lease timeout.",
+        getDriverPool().getLeaseTimeoutInSeconds(), getDriverPool().getMaxSize()));
+  }
+
+  /**
+   * Returns a browser to the pool. The browser is reset for the next test unless it has reached
+   * its max age or max uses, or if the reset fails. In those cases it's quit instead.
+   * <p>
+   * A browser that was not leased from this pool is quit.
+   *
+   * @param webDriverWrapper the {@link WebDriverWrapper} being returned
+   */
+  public void release(WebDriverWrapper webDriverWrapper) {
+    var pooledDriver = leasedDrivers.remove(webDriverWrapper);
+    if (pooledDriver == null) {
+      log.warn("A browser that was not leased from the driver pool was returned. Quitting it.");
+      webDriverWrapper.quit();
+      return;
+    }
+
+    pooledDriver.incrementUses();
+    if (pooledDriver.isExpired(getDriverPool())) {
+      retire(pooledDriver);
+      return;
+    }
+
+    try {
+      webDriverWrapper.resetSession();
+      idleDrivers.offerFirst(pooledDriver);
+    } catch (Exception e) {
+      log.warn(String.format("Could not reset pooled browser, quitting it instead: %s",
+          e.getMessage()));
+      retire(pooledDriver);
+    }
+  }
+
+  /**
+   * Stops the background refill and quits every idle and leased browser in this pool.
+   */
+  public void shutdown() {
+    refillExecutor.shutdownNow();
+    retireExecutor.shutdown();
+    idleDrivers.forEach(pooledDriver -> pooledDriver.getWebDriverWrapper().quit());
+    leasedDrivers.keySet().forEach(WebDriverWrapper::quit);
+    idleDrivers.clear();
+    leasedDrivers.clear();
+    totalDrivers.set(0);
+  }
+
+  /**
+   * Gets the amount of browsers, idle and leased, currently in the pool.
+   *
+   * @return as {@link int}
+   */
+  public int getSize() {
+    return totalDrivers.get();
+  }
+
+  /**
+   * Gets the amount of idle browsers currently waiting to be leased.
+   *
+   * @return as {@link int}
+   */
+  public int getIdleSize() {
+    return idleDrivers.size();
+  }
+
+  /**
+   * Builds the key of a pool from the parts of the configuration that change the browser that is
+   * started.
+   *
+   * @param desiredCapabilities the {@link DesiredCapabilitiesConfigurationProperties} of the run
+   * @return the key as {@link String}
+   */
+  static String getCapabilityKey(DesiredCapabilitiesConfigurationProperties desiredCapabilities) {
+    var mobile = desiredCapabilities.getMobile();
+    return String.join("|",
+        String.valueOf(desiredCapabilities.getRunType()),
+        String.valueOf(desiredCapabilities.getBrowserType()),
+        String.valueOf(desiredCapabilities.getRunPlatform()),
+        String.valueOf(desiredCapabilities.getBrowserVersion()),
+        String.valueOf(desiredCapabilities.getScreenResolution()),
+        String.valueOf(desiredCapabilities.getRemoteUrl()),
+        String.valueOf(mobile.getSauceDeviceName()),
+        String.valueOf(mobile.getBrowserName()),
+        String.valueOf(mobile.getPlatformName()),
+        String.valueOf(mobile.getPlatformVersion()));
+  }
+
+  /**
+   * Starts new browsers in the background until the pool has the configured amount of idle
+   * browsers or has reached its max size.
+   */
+  private void refill() {
+    while (idleDrivers.size() < getDriverPool().getMinSize() && reserveSlot()) {
+      try {
+        idleDrivers.offerLast(createPooledDriver());
+      } catch (Exception e) {
+        log.error(String.format("Driver pool could not start a new browser: %s", e.getMessage()));
+        return;
+      }
+    }
+  }
+
+  /**
+   * Reserves room in the pool for a new browser.
+   *
+   * @return true if there was room and a slot was reserved
+   */
+  private boolean reserveSlot() {
+    while (true) {
+      var current = totalDrivers.get();
+      if (current >= getDriverPool().getMaxSize()) {
+        return false;
+      }
+      if (totalDrivers.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Starts a new browser for a slot that has already been reserved with {@link #reserveSlot()}.
+   * The slot is given back if the browser fails to start.
+   *
+   * @return as {@link PooledWebDriver}
+   */
+  private PooledWebDriver createPooledDriver() {
+    try {
+      return new PooledWebDriver(getDriverFactory().get());
+    } catch (RuntimeException e) {
+      totalDrivers.decrementAndGet();
+      throw e;
+    }
+  }
+
+  /**
+   * Quits a browser in the background and frees its slot for a replacement.
+   *
+   * @param pooledDriver the {@link PooledWebDriver} to quit
+   */
+  private void retire(PooledWebDriver pooledDriver) {
+    totalDrivers.decrementAndGet();
+    retireExecutor.execute(() -> pooledDriver.getWebDriverWrapper().quit());
+  }
+
+  private static Thread createDaemonThread(Runnable runnable, String name) {
+    var thread = new Thread(runnable, name);
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  /**
+   * A browser in the pool along with the information used to decide when it should be replaced.
+   */
+  private static class PooledWebDriver {
+
+    @Getter
+    private final WebDriverWrapper webDriverWrapper;
+
+    private final long createdAtInMillis = System.currentTimeMillis();
+
+    private int uses = 0;
+
+    PooledWebDriver(WebDriverWrapper webDriverWrapper) {
+      this.webDriverWrapper = webDriverWrapper;
+    }
+
+    void incrementUses() {
+      uses++;
+    }
+
+    boolean isExpired(DriverPool driverPool) {
+      var maxAgeInMillis = TimeUnit.SECONDS.toMillis(driverPool.getMaxAgeInSeconds());
+      var isTooOld = maxAgeInMillis > 0
+          && System.currentTimeMillis() - createdAtInMillis >= maxAgeInMillis;
+      var isUsedUp = driverPool.getMaxUses() > 0 && uses >= driverPool.getMaxUses();
+      return isTooOld || isUsedUp;
+    }
+  }
+}
@@ -0,0 +1,146 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties.DriverTeardown;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Quits {@link WebDriverWrapper}s on a bounded background executor so that the test thread can
+ * move on to the next test instead of waiting on the browser to close.
+ * <p>
+ * The executor is configured with {@link DriverTeardown}:
+ * <p>
+ * - maxConcurrentQuits: the amount of browsers that can be quitting at once
+ * - maxPendingQuits: the amount of browsers waiting to be quit. Once reached, the calling thread
+ * quits its own browser
+ * - shutdownTimeoutInSeconds: how long the JVM shutdown hook waits on pending quits
+ * <p>
+ * The reaper is shared across the JVM. The queue depth is tracked in {@link WebDriverMetrics}.
+ */
+@Slf4j
+public class WebDriverReaper {
+
+  private static WebDriverReaper sharedReaper;
+
+  static {
+    Runtime.getRuntime().addShutdownHook(new Thread(WebDriverReaper::drainSharedReaper,
+        "scaffold-driver-reaper-shutdown"));
+  }
+
+  @Getter(AccessLevel.PRIVATE)
+  private final DriverTeardown driverTeardown;
+
+  private final ThreadPoolExecutor quitExecutor;
+
+  /**
+   * Creates a new reaper. Most callers should use {@link #getReaper(DriverTeardown)} so that the
+   * reaper is shared across the JVM.
+   *
+   * @param driverTeardown the {@link DriverTeardown} configuration
+   */
+  public WebDriverReaper(DriverTeardown driverTeardown) {
+    this.driverTeardown = driverTeardown;
+    this.quitExecutor = new ThreadPoolExecutor(
+        driverTeardown.getMaxConcurrentQuits(), driverTeardown.getMaxConcurrentQuits(),
+        0L, TimeUnit.MILLISECONDS,
+        new LinkedBlockingQueue<>(driverTeardown.getMaxPendingQuits()),
+        runnable -> {
+          var thread = new Thread(runnable, "scaffold-driver-reaper");
+          thread.setDaemon(true);
+          return thread;
+        },
+        WebDriverReaper::quitOnCallingThread);
+  }
+
+  /**
+   * Gets the shared reaper, creating it with the given configuration if it doesn't exist yet.
+   *
+   * @param driverTeardown the {@link DriverTeardown} configuration
+   * @return as {@link WebDriverReaper}
+   */
+  public static synchronized WebDriverReaper getReaper(DriverTeardown driverTeardown) {
+    if (sharedReaper == null) {
+      sharedReaper = new WebDriverReaper(driverTeardown);
+    }
+    return sharedReaper;
+  }
+
+  /**
+   * Waits on the shared reaper's pending quits. This is registered as a JVM shutdown hook so that
+   * browsers waiting to be quit are not abandoned at the end of a test run.
+   */
+  private static synchronized void drainSharedReaper() {
+    if (sharedReaper != null) {
+      sharedReaper.drain();
+    }
+  }
+
+  /**
+   * Quits a browser on the calling thread when the executor rejects it. Unlike
+   * {@link ThreadPoolExecutor.CallerRunsPolicy}, the quit still runs once the executor has been
+   * shut down, since other shutdown hooks can still be quitting browsers while the reaper drains.
+   *
+   * @param quit     the rejected quit
+   * @param executor the executor that rejected it
+   */
+  private static void quitOnCallingThread(Runnable quit, ThreadPoolExecutor executor) {
+    if (executor.isShutdown()) {
+      log.debug("Driver reaper is shut down, quitting browser on the calling thread");
+    }
+    quit.run();
+  }
+
+  /**
+   * Queues a browser to be quit in the background. If the queue is full, or the reaper has been
+   * drained, the browser is quit on the calling thread.
+   *
+   * @param webDriverWrapper the {@link WebDriverWrapper} to quit
+   */
+  public void quit(WebDriverWrapper webDriverWrapper) {
+    WebDriverMetrics.recordTeardownQueued();
+    quitExecutor.execute(() -> {
+      try {
+        webDriverWrapper.quit();
+      } catch (Exception e) {
+        log.error(String.format("Error quitting browser in the background: %s", e.getMessage()));
+      } finally {
+        WebDriverMetrics.recordTeardownCompleted();
+      }
+    });
+  }
+
+  /**
+   * Gets the amount of browsers waiting to be quit, not counting the ones currently quitting.
+   *
+   * @return as {@link int}
+   */
+  public int getQueueDepth() {
+    return quitExecutor.getQueue().size();
+  }
+
+  /**
+   * Stops accepting new quits and waits for the pending quits to finish, up to the configured
+   * shutdown timeout.
+   *
+   * @return true if every pending quit finished before the timeout
+   */
+  public boolean drain() {
+    quitExecutor.shutdown();
+    try {
+      if (quitExecutor.awaitTermination(getDriverTeardown().getShutdownTimeoutInSeconds(),
+          TimeUnit.SECONDS)) {
+        return true;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    var abandonedQuits = quitExecutor.shutdownNow().size();
+    log.warn(String.format("Timed out waiting on pending browser quits. %s browsers were not quit.",
+        abandonedQuits));
+    return false;
+  }
+}
@@ -4,11 +4,15 @@ import static io.github.kgress.scaffold.util.AutomationUtils.sleep;
 
 import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
 import io.github.kgress.scaffold.exception.WebDriverWrapperException;
+import io.github.kgress.scaffold.models.enums.driver.ElementLocateStrategy;
 import java.io.File;
+import java.nio.file.Path;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +20,7 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.Cookie;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.OutputType;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriver.Navigation;
@@ -34,6 +39,10 @@ import org.openqa.selenium.support.ui.ExpectedCondition;
 public class WebDriverWrapper {
 
     private static final Long WINDOW_TIME_OUT_IN_SECONDS = 60L;
+    private static final String BLANK_PAGE_URL = "about:blank";
+    private static final String CLEAR_STORAGE_SCRIPT =
+            "try { window.localStorage.clear(); } catch (e) {} "
+                    + "try { window.sessionStorage.clear(); } catch (e) {}";
 
     @Getter
     final WebDriver baseWebDriver;
@@ -45,6 +54,70 @@ public class WebDriverWrapper {
     @Setter
     private LinkedList<String> registeredWindows = new LinkedList<>();
 
+    private final Long waitTimeoutInSeconds;
+
+    /**
+     * The user data directory cloned by {@link BrowserProfileTemplate} for this browser, if any. It's released when
+     * the browser is quit.
+     */
+    @Setter(AccessLevel.PACKAGE)
+    private Path profileDirectory;
+
+    /**
+     * Counts the navigations, window switches and frame switches done through this wrapper. {@link BaseWebElement}
+     * caches its found element along with this count, and finds the element again once the count has changed.
+     */
+    private final AtomicLong navigationCount = new AtomicLong();
+
+    /**
+     * How {@link BaseWebElement} finds elements for this browser, set from
+     * {@link DesiredCapabilitiesConfigurationProperties#getElementLocateStrategy()}.
+     */
+    @Getter
+    @Setter(AccessLevel.PACKAGE)
+    private ElementLocateStrategy elementLocateStrategy = ElementLocateStrategy.WEBDRIVER;
+
+    /**
+     * The page snapshot settings for this browser, set from
+     * {@link DesiredCapabilitiesConfigurationProperties#getPageSnapshot()}.
+     */
+    @Getter
+    @Setter(AccessLevel.PACKAGE)
+    private DesiredCapabilitiesConfigurationProperties.PageSnapshot pageSnapshot =
+            new DesiredCapabilitiesConfigurationProperties.PageSnapshot();
+
+    /**
+     * The page readiness settings for this browser, set from
+     * {@link DesiredCapabilitiesConfigurationProperties#getPageReadiness()}.
+     */
+    @Getter
+    @Setter(AccessLevel.PACKAGE)
+    private DesiredCapabilitiesConfigurationProperties.PageReadiness pageReadiness =
+            new DesiredCapabilitiesConfigurationProperties.PageReadiness();
+
+    /**
+     * The observed wait settings for this browser, set from
+     * {@link DesiredCapabilitiesConfigurationProperties#getObservedWait()}.
+     */
+    @Getter
+    @Setter(AccessLevel.PACKAGE)
+    private DesiredCapabilitiesConfigurationProperties.ObservedWait observedWait =
+            new DesiredCapabilitiesConfigurationProperties.ObservedWait();
+
+    /**
+     * The page load strategy this browser was started with, set from
+     * {@link DesiredCapabilitiesConfigurationProperties#getPageLoadStrategy()}.
+     */
+    @Getter
+    @Setter(AccessLevel.PACKAGE)
+    private PageLoadStrategy pageLoadStrategy = PageLoadStrategy.NORMAL;
+
+    /**
+     * Counts the actions performed on elements through {@link BaseWebElement}, such as clicks and typing. A
+     * {@link PageSnapshotCache} checks the DOM for changes once this count has changed.
+     */
+    private final AtomicLong interactionCount = new AtomicLong();
+
     /**
      * Takes a raw {@link WebDriver} instance and wraps it up in a wonderful blanket for thread-safe handling.
      * @param baseWebDriver         the root {@link WebDriver}
@@ -53,6 +126,7 @@ public class WebDriverWrapper {
      */
     WebDriverWrapper(WebDriver baseWebDriver, Long waitTimeoutInSeconds) {
         this.baseWebDriver = baseWebDriver;
+        this.waitTimeoutInSeconds = waitTimeoutInSeconds;
         this.automationWait = new AutomationWait(this, waitTimeoutInSeconds);
     }
 
@@ -82,9 +156,45 @@ public class WebDriverWrapper {
      * @param url the URL to navigate to
      */
     public void get(String url) {
+        invalidateElementCache();
         getBaseWebDriver().get(url);
     }
 
+    /**
+     * Gets the amount of navigations, window switches and frame switches done through this wrapper. Elements found
+     * before the count last changed may no longer be attached to the page.
+     *
+     * @return the count as {@link long}
+     */
+    public long getNavigationCount() {
+        return navigationCount.get();
+    }
+
+    /**
+     * Makes every {@link BaseWebElement} find its element again on the next interaction instead of using the
+     * element it last found. This is done automatically on navigation, and can be called after a script or an
+     * action replaces large parts of the page without navigating.
+     */
+    public void invalidateElementCache() {
+        navigationCount.incrementAndGet();
+    }
+
+    /**
+     * Gets the amount of actions performed on elements through {@link BaseWebElement}, such as clicks and typing.
+     *
+     * @return the count as {@link long}
+     */
+    public long getInteractionCount() {
+        return interactionCount.get();
+    }
+
+    /**
+     * Records that an element was interacted with in a way that may have changed the page.
+     */
+    public void recordInteraction() {
+        interactionCount.incrementAndGet();
+    }
+
     /**
      * Returns the JavascriptExecutor for the current WebDriver instance
      *
@@ -149,6 +259,7 @@ public class WebDriverWrapper {
      * @return as a {@link Navigation}
      */
     public Navigation navigate() {
+        invalidateElementCache();
         return getBaseWebDriver().navigate();
     }
 
@@ -200,6 +311,7 @@ public class WebDriverWrapper {
      * @return as a {@link TargetLocator}
      */
     public TargetLocator switchTo() {
+        invalidateElementCache();
         return getBaseWebDriver().switchTo();
     }
 
@@ -219,6 +331,7 @@ public class WebDriverWrapper {
      * @param windowHandle the window id
      */
     public void switchToWindow(String windowHandle) {
+        invalidateElementCache();
         getBaseWebDriver().switchTo().window(windowHandle);
     }
 
@@ -319,6 +432,43 @@ public class WebDriverWrapper {
         } catch (Exception e) {
             log.error("Error quitting driver: " + e);
         }
+        if (profileDirectory != null) {
+            BrowserProfileTemplate.releaseProfile(profileDirectory);
+            profileDirectory = null;
+        }
+    }
+
+    /**
+     * Resets the browser to a clean state so it can be handed to another test without quitting it.
+     * <p>
+     * Every window other than the base window is closed, cookies and web storage for the current origin are
+     * cleared, and the browser is navigated to a blank page. The {@link AutomationWait} timeout is also put back
+     * to the configured value in case the previous test changed it. Cookies and storage belonging to origins other
+     * than the current one are not reachable through WebDriver and are left as is.
+     * <p>
+     * Any exception is surfaced to the caller, who should quit the browser instead of reusing it.
+     */
+    void resetSession() {
+        var windowHandles = getWindowHandles();
+        var baseWindow = getRegisteredWindows().isEmpty() || !windowHandles.contains(getRegisteredWindows().getFirst())
+                ? getWindowHandle()
+                : getRegisteredWindows().getFirst();
+
+        for (var handle : windowHandles) {
+            if (!Objects.equals(handle, baseWindow)) {
+                switchToWindow(handle);
+                getBaseWebDriver().close();
+            }
+        }
+        switchToWindow(baseWindow);
+
+        manage().deleteAllCookies();
+        getJavascriptExecutor().executeScript(CLEAR_STORAGE_SCRIPT);
+        get(BLANK_PAGE_URL);
+
+        getRegisteredWindows().clear();
+        getRegisteredWindows().addLast(baseWindow);
+        getAutomationWait().setTimeoutInSeconds(waitTimeoutInSeconds);
     }
 
     /**
@@ -330,6 +480,7 @@ public class WebDriverWrapper {
         if (this.getWindowHandles().size() > 1) {
             synchronizeWindows = true;
         }
+        invalidateElementCache();
         getBaseWebDriver().close();
         // After closing the window, we can synchronize our windows
         if (synchronizeWindows) {
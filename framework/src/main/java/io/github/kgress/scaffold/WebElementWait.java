@@ -8,14 +8,21 @@ public class WebElementWait {
     @Getter
     private final BaseWebElement element;
 
-    @Getter
-    private final WebDriverWrapper webDriverWrapper;
-
-    WebElementWait(WebDriverWrapper webDriverWrapper, BaseWebElement element) {
-        this.webDriverWrapper = webDriverWrapper;
+    WebElementWait(BaseWebElement element) {
         this.element = element;
     }
 
+    /**
+     * Gets the {@link WebDriverWrapper} from the element when a wait is performed, rather than when
+     * the element is created. This keeps element creation from waiting on a browser that is still
+     * being started.
+     *
+     * @return as {@link WebDriverWrapper}
+     */
+    public WebDriverWrapper getWebDriverWrapper() {
+        return getElement().getWebDriverWrapper();
+    }
+
     /**
      * Waits for an element to be displayed using {@link AutomationWait#waitUntilDisplayed(BaseWebElement, Long)}
      * @return as {@link WebElement}
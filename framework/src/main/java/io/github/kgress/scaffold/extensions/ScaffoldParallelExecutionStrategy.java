@@ -0,0 +1,239 @@
+package io.github.kgress.scaffold.extensions;
+
+import io.github.kgress.scaffold.WebDriverManager;
+import io.github.kgress.scaffold.models.enums.desktop.RunType;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfigurationStrategy;
+
+/**
+ * A JUnit parallel execution strategy that sizes the amount of test threads from the run type and
+ * the machine the tests are running on, instead of a fixed parallelism.
+ * <p>
+ * Every test thread drives its own browser, so:
+ * <p>
+ * - Remote run types, like {@link RunType#GRID} and {@link RunType#SAUCE}, use
+ * scaffold.parallel.remote-parallelism since the browsers run on another machine.
+ * - Local run types, like {@link RunType#LOCAL} and {@link RunType#HEADLESS}, use the smaller of
+ * the available cores and the amount of browsers that fit in the available memory, based on
+ * scaffold.parallel.browser-memory-in-mb.
+ * - Every run type is capped at scaffold.parallel.max-browsers.
+ * <p>
+ * The thread pool can grow past the parallelism, the same as with JUnit's own strategies, so that
+ * JUnit can add threads to replace threads that are waiting on their nested tests. To keep those
+ * threads from starting more browsers than intended, the parallelism is also set as the concurrent
+ * browser limit with {@link WebDriverManager#limitConcurrentBrowsers(int)}.
+ * <p>
+ * The run type is read from scaffold.parallel.run-type, then desired-capabilities.run-type, as a
+ * JUnit configuration parameter or system property. If neither is set, the properties files of the
+ * active Spring profiles are checked. When the run type can't be found, it's treated as remote.
+ * To use this strategy, set the following in junit-platform.properties:
+ * <p>
+ * {@literal junit.jupiter.execution.parallel.config.strategy=custom}
+ * {@literal junit.jupiter.execution.parallel.config.custom.class=io.github.kgress.scaffold.extensions.ScaffoldParallelExecutionStrategy}
+ */
+@Slf4j
+public class ScaffoldParallelExecutionStrategy implements ParallelExecutionConfigurationStrategy {
+
+  static final String RUN_TYPE = "scaffold.parallel.run-type";
+  static final String MAX_BROWSERS = "scaffold.parallel.max-browsers";
+  static final String REMOTE_PARALLELISM = "scaffold.parallel.remote-parallelism";
+  static final String BROWSER_MEMORY_IN_MB = "scaffold.parallel.browser-memory-in-mb";
+
+  private static final String DESIRED_CAPABILITIES_RUN_TYPE = "desired-capabilities.run-type";
+  private static final String SPRING_PROFILES_ACTIVE = "spring.profiles.active";
+  private static final List<String> PROFILE_LOCATIONS =
+      List.of("config/application-%s.properties", "application-%s.properties");
+  private static final Path MEMORY_INFO = Paths.get("/proc/meminfo");
+  private static final int DEFAULT_MAX_BROWSERS = 20;
+  private static final int DEFAULT_REMOTE_PARALLELISM = 20;
+  private static final int DEFAULT_BROWSER_MEMORY_IN_MB = 512;
+  private static final int KEEP_ALIVE_SECONDS = 30;
+  private static final int MAX_POOL_SIZE_OFFSET = 256;
+
+  @Override
+  public ParallelExecutionConfiguration createConfiguration(
+      ConfigurationParameters configurationParameters) {
+    var runType = getRunType(configurationParameters);
+    var maxBrowsers = getInt(configurationParameters, MAX_BROWSERS, DEFAULT_MAX_BROWSERS);
+    int parallelism;
+
+    if (runType.isPresent() && isLocal(runType.get())) {
+      var browserMemoryInMb = getInt(configurationParameters, BROWSER_MEMORY_IN_MB,
+          DEFAULT_BROWSER_MEMORY_IN_MB);
+      var cores = Runtime.getRuntime().availableProcessors();
+      var browsersInMemory = (int) (getAvailableMemoryInMb() / Math.max(1, browserMemoryInMb));
+      parallelism = Math.min(cores, browsersInMemory);
+    } else if (runType.isPresent() && runType.get() == RunType.UNIT) {
+      parallelism = Runtime.getRuntime().availableProcessors();
+    } else {
+      parallelism = getInt(configurationParameters, REMOTE_PARALLELISM,
+          DEFAULT_REMOTE_PARALLELISM);
+    }
+    parallelism = Math.max(1, Math.min(parallelism, maxBrowsers));
+
+    log.info(String.format("Running tests with a parallelism of %s for run type %s",
+        parallelism, runType.map(RunType::getRunType).orElse("Unknown")));
+    WebDriverManager.limitConcurrentBrowsers(parallelism);
+    return new ScaffoldParallelExecutionConfiguration(parallelism);
+  }
+
+  /**
+   * Checks if the browsers for the run type are started on this machine.
+   *
+   * @param runType the {@link RunType} of the run
+   * @return as {@link boolean}
+   */
+  private boolean isLocal(RunType runType) {
+    return runType == RunType.LOCAL || runType == RunType.HEADLESS
+        || runType == RunType.AWS_LAMBDA_LOCAL;
+  }
+
+  /**
+   * Finds the run type from the configuration parameters, or from the active Spring profiles.
+   *
+   * @param configurationParameters the JUnit {@link ConfigurationParameters}
+   * @return as {@link Optional} of {@link RunType}
+   */
+  private Optional<RunType> getRunType(ConfigurationParameters configurationParameters) {
+    var runType = configurationParameters.get(RUN_TYPE)
+        .or(() -> configurationParameters.get(DESIRED_CAPABILITIES_RUN_TYPE))
+        .or(() -> getRunTypeFromSpringProfiles(configurationParameters));
+    return runType.flatMap(this::toRunType);
+  }
+
+  /**
+   * Reads desired-capabilities.run-type from the properties files of the active Spring profiles.
+   * YAML profiles are not read.
+   *
+   * @param configurationParameters the JUnit {@link ConfigurationParameters}
+   * @return the run type as {@link Optional} of {@link String}
+   */
+  private Optional<String> getRunTypeFromSpringProfiles(
+      ConfigurationParameters configurationParameters) {
+    var activeProfiles = configurationParameters.get(SPRING_PROFILES_ACTIVE)
+        .or(() -> Optional.ofNullable(System.getenv("SPRING_PROFILES_ACTIVE")));
+    if (activeProfiles.isEmpty()) {
+      return Optional.empty();
+    }
+    for (var profile : activeProfiles.get().split(",")) {
+      for (var location : PROFILE_LOCATIONS) {
+        var resource = String.format(location, profile.trim());
+        try (var inputStream = getClass().getClassLoader().getResourceAsStream(resource)) {
+          if (inputStream == null) {
+            continue;
+          }
+          var properties = new Properties();
+          properties.load(inputStream);
+          var runType = properties.getProperty(DESIRED_CAPABILITIES_RUN_TYPE);
+          if (runType != null) {
+            return Optional.of(runType);
+          }
+        } catch (IOException e) {
+          log.debug(String.format("Could not read Spring profile %s", resource));
+        }
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Converts a configured run type to a {@link RunType} the same way Spring binds it, ignoring case
+   * and allowing dashes in place of underscores.
+   *
+   * @param runType the configured run type
+   * @return as {@link Optional} of {@link RunType}
+   */
+  private Optional<RunType> toRunType(String runType) {
+    try {
+      return Optional.of(RunType.valueOf(runType.trim().toUpperCase().replace('-', '_')));
+    } catch (IllegalArgumentException e) {
+      log.warn(String.format("Unknown run type %s, treating it as a remote run type", runType));
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Gets the memory available for new browsers. On Linux this is MemAvailable from /proc/meminfo,
+   * which counts reclaimable page cache. Otherwise, it's the free physical memory reported by the
+   * JVM.
+   *
+   * @return the available memory in megabytes
+   */
+  private long getAvailableMemoryInMb() {
+    if (Files.isReadable(MEMORY_INFO)) {
+      try {
+        var memAvailable = Files.readAllLines(MEMORY_INFO).stream()
+            .filter(line -> line.startsWith("MemAvailable:"))
+            .map(line -> line.replaceAll("[^0-9]", ""))
+            .findFirst();
+        if (memAvailable.isPresent()) {
+          return Long.parseLong(memAvailable.get()) / 1024;
+        }
+      } catch (IOException | NumberFormatException e) {
+        log.debug(String.format("Could not read %s: %s", MEMORY_INFO, e.getMessage()));
+      }
+    }
+    var operatingSystem = ManagementFactory.getOperatingSystemMXBean();
+    if (operatingSystem instanceof com.sun.management.OperatingSystemMXBean) {
+      return ((com.sun.management.OperatingSystemMXBean) operatingSystem)
+          .getFreePhysicalMemorySize() / (1024 * 1024);
+    }
+    return Long.MAX_VALUE;
+  }
+
+  private int getInt(ConfigurationParameters configurationParameters, String key,
+      int defaultValue) {
+    return configurationParameters.get(key, Integer::parseInt).orElse(defaultValue);
+  }
+
+  /**
+   * A {@link ParallelExecutionConfiguration} with the same pool sizes as JUnit's own strategies.
+   * JUnit 1.8 can't tell its thread pool to wait when it's full, so a pool that can't grow past the
+   * parallelism fails with a {@link java.util.concurrent.RejectedExecutionException} as soon as
+   * every thread is waiting on nested tests.
+   */
+  private static class ScaffoldParallelExecutionConfiguration implements
+      ParallelExecutionConfiguration {
+
+    private final int parallelism;
+
+    ScaffoldParallelExecutionConfiguration(int parallelism) {
+      this.parallelism = parallelism;
+    }
+
+    @Override
+    public int getParallelism() {
+      return parallelism;
+    }
+
+    @Override
+    public int getMinimumRunnable() {
+      return parallelism;
+    }
+
+    @Override
+    public int getMaxPoolSize() {
+      return MAX_POOL_SIZE_OFFSET + parallelism;
+    }
+
+    @Override
+    public int getCorePoolSize() {
+      return parallelism;
+    }
+
+    @Override
+    public int getKeepAliveSeconds() {
+      return KEEP_ALIVE_SECONDS;
+    }
+  }
+}
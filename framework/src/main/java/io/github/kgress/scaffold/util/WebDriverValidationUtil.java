@@ -2,6 +2,8 @@ package io.github.kgress.scaffold.util;
 
 import io.github.kgress.scaffold.WebDriverManager;
 import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties.DriverPool;
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties.DriverTeardown;
 import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties.MobileEmulator;
 import io.github.kgress.scaffold.exception.WebDriverManagerException;
 import io.github.kgress.scaffold.models.enums.desktop.BrowserType;
@@ -137,6 +139,129 @@ public class WebDriverValidationUtil {
     }
   }
 
+  /**
+   * Performs validation on the {@link DriverPool} when the pool is enabled.
+   *
+   * @param desiredCapabilities   the {@link DesiredCapabilitiesConfigurationProperties} to verify
+   */
+  public static void validateDriverPoolConfiguration(
+      DesiredCapabilitiesConfigurationProperties desiredCapabilities) {
+    var driverPool = desiredCapabilities.getDriverPool();
+
+    if (driverPool.getMaxSize() < 1) {
+      throw new WebDriverManagerException(
+          "Driver pool max size must be at least 1 when the driver pool is enabled. "
+              + "Please check your configuration and try again.");
+    }
+    if (driverPool.getMinSize() < 0 || driverPool.getMinSize() > driverPool.getMaxSize()) {
+      throw new WebDriverManagerException(String.format(
+          "Driver pool min size must be between 0 and the max size of %s. "
+              + "Please check your configuration and try again.", driverPool.getMaxSize()));
+    }
+    if (driverPool.getMaxAgeInSeconds() < 0 || driverPool.getMaxUses() < 0) {
+      throw new WebDriverManagerException(
+          "Driver pool max age and max uses cannot be negative. "
+              + "Please check your configuration and try again.");
+    }
+    if (driverPool.getLeaseTimeoutInSeconds() < 1 || driverPool.getRefillIntervalInMillis() < 1) {
+      throw new WebDriverManagerException(
+          "Driver pool lease timeout and refill interval must be greater than 0. "
+              + "Please check your configuration and try again.");
+    }
+  }
+
+  /**
+   * Performs validation on the {@link DriverTeardown} when asynchronous teardown is enabled.
+   *
+   * @param desiredCapabilities   the {@link DesiredCapabilitiesConfigurationProperties} to verify
+   */
+  public static void validateDriverTeardownConfiguration(
+      DesiredCapabilitiesConfigurationProperties desiredCapabilities) {
+    var driverTeardown = desiredCapabilities.getDriverTeardown();
+
+    if (driverTeardown.getMaxConcurrentQuits() < 1 || driverTeardown.getMaxPendingQuits() < 1) {
+      throw new WebDriverManagerException(
+          "Driver teardown max concurrent quits and max pending quits must be at least 1. "
+              + "Please check your configuration and try again.");
+    }
+    if (driverTeardown.getShutdownTimeoutInSeconds() < 0) {
+      throw new WebDriverManagerException(
+          "Driver teardown shutdown timeout cannot be negative. "
+              + "Please check your configuration and try again.");
+    }
+  }
+
+  /**
+   * Performs validation on the {@link DesiredCapabilitiesConfigurationProperties.SharedDriverService}
+   * when shared driver processes are enabled.
+   *
+   * @param desiredCapabilities   the {@link DesiredCapabilitiesConfigurationProperties} to verify
+   */
+  public static void validateSharedDriverServiceConfiguration(
+      DesiredCapabilitiesConfigurationProperties desiredCapabilities) {
+    if (desiredCapabilities.getSharedDriverService().getPoolSize() < 1) {
+      throw new WebDriverManagerException(
+          "Shared driver service pool size must be at least 1. "
+              + "Please check your configuration and try again.");
+    }
+  }
+
+  /**
+   * Performs validation on the {@link DesiredCapabilitiesConfigurationProperties.SessionAdmission}
+   * when session admission control is enabled.
+   *
+   * @param desiredCapabilities   the {@link DesiredCapabilitiesConfigurationProperties} to verify
+   */
+  public static void validateSessionAdmissionConfiguration(
+      DesiredCapabilitiesConfigurationProperties desiredCapabilities) {
+    var sessionAdmission = desiredCapabilities.getSessionAdmission();
+
+    if (sessionAdmission.getMinLimit() < 1
+        || sessionAdmission.getMinLimit() > sessionAdmission.getMaxLimit()
+        || sessionAdmission.getInitialLimit() < sessionAdmission.getMinLimit()
+        || sessionAdmission.getInitialLimit() > sessionAdmission.getMaxLimit()) {
+      throw new WebDriverManagerException(String.format(
+          "Session admission limits must satisfy 1 <= min limit <= initial limit <= max limit. "
+              + "Found min = %s, initial = %s, max = %s. "
+              + "Please check your configuration and try again.",
+          sessionAdmission.getMinLimit(), sessionAdmission.getInitialLimit(),
+          sessionAdmission.getMaxLimit()));
+    }
+    if (sessionAdmission.getMaxAttempts() < 1) {
+      throw new WebDriverManagerException(
+          "Session admission max attempts must be at least 1. "
+              + "Please check your configuration and try again.");
+    }
+    if (sessionAdmission.getInitialBackoffInMillis() < 0
+        || sessionAdmission.getMaxBackoffInMillis() < 0) {
+      throw new WebDriverManagerException(
+          "Session admission backoffs cannot be negative. "
+              + "Please check your configuration and try again.");
+    }
+  }
+
+  /**
+   * Performs validation on the {@link DesiredCapabilitiesConfigurationProperties.CircuitBreaker}
+   * when the circuit breaker is enabled.
+   *
+   * @param desiredCapabilities   the {@link DesiredCapabilitiesConfigurationProperties} to verify
+   */
+  public static void validateCircuitBreakerConfiguration(
+      DesiredCapabilitiesConfigurationProperties desiredCapabilities) {
+    var circuitBreaker = desiredCapabilities.getCircuitBreaker();
+
+    if (circuitBreaker.getFailureThreshold() < 1) {
+      throw new WebDriverManagerException(
+          "Circuit breaker failure threshold must be at least 1. "
+              + "Please check your configuration and try again.");
+    }
+    if (circuitBreaker.getOpenDurationInSeconds() < 0) {
+      throw new WebDriverManagerException(
+          "Circuit breaker open duration cannot be negative. "
+              + "Please check your configuration and try again.");
+    }
+  }
+
   /**
    * Performs validation on {@link RunType#SAUCE} and {@link RunType#SAUCE_MOBILE_EMULATOR}.
    *
@@ -157,7 +157,7 @@ public class BaseClickableAndTypableWebElement extends BaseClickableWebElement {
      * @param keys  the text or keyboard action to execute
      */
     public void sendKeys(CharSequence ...keys) {
-        getRawWebElement().sendKeys(keys);
+        actOnRawWebElement(element -> element.sendKeys(keys));
     }
 
     /**
@@ -166,7 +166,7 @@ public class BaseClickableAndTypableWebElement extends BaseClickableWebElement {
      * @return as {@link String}
      */
     public String getValue() {
-        return getRawWebElement().getAttribute("value");
+        return readRawWebElement(element -> element.getAttribute("value"));
     }
 
     /**
@@ -175,7 +175,7 @@ public class BaseClickableAndTypableWebElement extends BaseClickableWebElement {
      * @see WebElement#clear()
      */
     public void clear() {
-        getRawWebElement().clear();
+        actOnRawWebElement(WebElement::clear);
     }
 
     /**
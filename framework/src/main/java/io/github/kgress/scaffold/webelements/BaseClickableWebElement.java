@@ -1,8 +1,10 @@
 package io.github.kgress.scaffold.webelements;
 
+import io.github.kgress.scaffold.BasePage;
 import io.github.kgress.scaffold.BaseWebElement;
 import io.github.kgress.scaffold.WebDriverWrapper;
 import io.github.kgress.scaffold.WebElementWait;
+import io.github.kgress.scaffold.models.enums.driver.ElementLocateStrategy;
 import org.openqa.selenium.By;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebElement;
@@ -161,38 +163,45 @@ public class BaseClickableWebElement extends BaseWebElement {
     /**
      * Performs a click on the given element with the following process:
      *
-     * - Scrolling the element into current view
+     * - Getting the element ready to be clicked with {@link BaseWebElement#prepareClick()}
      * - Performing the click action on the element
-     * - Waits for the page to load prior to proceeding
+     * - Waits for the page to load prior to proceeding, if the click navigated
      *
-     * Scrolling the element into view will invoke {@link BaseWebElement#getRawWebElement()} and
-     * therefore the element will {@link WebElementWait#waitUntilDisplayed()}. Because the wait
-     * already is occurring during the scroll, we should not invoke another wait call and instead
-     * find the element directly through selenium, using the {@link WebDriverWrapper}. After
-     * the element is found and clicked on, wait until the page is loaded before proceeding.
+     * Getting the element ready is a single script that scrolls the element into view only when it
+     * isn't already in the viewport. The element is waited for and found first with
+     * {@link BaseWebElement#getRawWebElement()} and {@link WebElementWait#waitUntilDisplayed()},
+     * unless it's already cached. With {@link ElementLocateStrategy#SCRIPT}, the same script finds
+     * the element as well. The click then reuses the element instead of waiting or finding it again.
+     * A typical click is three WebDriver commands, counting the check for navigation.
+     *
+     * The page load wait is only done when the page navigated, or started to, during the click.
+     * This is checked after the click with {@link BaseWebElement#hasNavigatedSince(String)}, so
+     * links, form submits and scripts that change the location are all waited for. A navigation
+     * a script starts later, such as after a request completes, is still waited for by
+     * {@link BasePage#verifyIsOnPage(BaseWebElement...)}.
      *
      * @see WebElement#click()
      */
     public void click() {
         /*
-        Scrolls the element into view so selenium can click it. Ideally we always want to scroll
-        with the least amount of effort required to get the element into view. This is why the
-        script should always bring it into the nearest vertical and horizontal alignment.
+        Scrolls the element into view so selenium can click it, if it isn't already. Ideally we
+        always want to scroll with the least amount of effort required to get the element into
+        view. This is why the script brings it into the nearest vertical and horizontal alignment.
          */
-        scrollIntoView();
+        var clickMarker = prepareClick();
 
         /*
-        Find the element through Selenium directly instead of using our custom getRawWebElement.
-        scrollIntoView already waits for the element to be displayed, and we don't want to add
-        more waits.
+        prepareClick already waited for and found the element, so this clicks the cached element
+        without another wait or find.
          */
-        getWebDriverWrapper().findElement(this.getBy()).click();
+        actOnRawWebElement(WebElement::click);
 
         /*
-        This is a nice catch all that should happen after the element is clicked on. Sometimes
-        websites may have additional javascript or ajax calls when clicking on elements. This
-        ensures the state of the page is ready.
+        This is a nice catch all that should happen after the element is clicked on, when the click
+        loaded a new page. This ensures the state of the page is ready.
          */
-        getWebElementWait().waitUntilPageIsLoaded();
+        if (hasNavigatedSince(clickMarker)) {
+            getWebElementWait().waitUntilPageIsLoaded();
+        }
     }
 }
@@ -171,17 +171,21 @@ public class CheckBoxWebElement extends BaseClickableWebElement {
      * Checks the checkbox in {@link #check(boolean)}
      */
     private void check() {
-        if (!getRawWebElement().isSelected()) {
-            getRawWebElement().click();
-        }
+        actOnRawWebElement(element -> {
+            if (!element.isSelected()) {
+                element.click();
+            }
+        });
     }
 
     /**
      * Unchecks the checkbox in {@link #check(boolean)}
      */
     private void uncheck() {
-        if (getRawWebElement().isSelected()) {
-            getRawWebElement().click();
-        }
+        actOnRawWebElement(element -> {
+            if (element.isSelected()) {
+                element.click();
+            }
+        });
     }
 }
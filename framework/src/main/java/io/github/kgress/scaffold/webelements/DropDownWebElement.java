@@ -164,9 +164,9 @@ public class DropDownWebElement extends BaseClickableWebElement {
      * @return the list of options.
      */
     public List<String> getOptionsText() {
-        return getSelectElement().getOptions().stream()
+        return readRawWebElement(element -> getSelectElement(element).getOptions().stream()
                 .map(WebElement::getText)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     /**
@@ -176,7 +176,7 @@ public class DropDownWebElement extends BaseClickableWebElement {
      * @param index     the index to select
      */
     public void selectByIndex(int index) {
-        getSelectElement().selectByIndex(index);
+        actOnRawWebElement(element -> getSelectElement(element).selectByIndex(index));
     }
 
     /**
@@ -186,7 +186,7 @@ public class DropDownWebElement extends BaseClickableWebElement {
      * @param value     the value to select
      */
     public void selectByValue(String value) {
-        getSelectElement().selectByValue(value);
+        actOnRawWebElement(element -> getSelectElement(element).selectByValue(value));
     }
 
     /**
@@ -198,7 +198,7 @@ public class DropDownWebElement extends BaseClickableWebElement {
      */
     public void selectByVisibleText(String value) {
         if (value.isBlank()) {
-            getSelectElement().selectByVisibleText(value);
+            actOnRawWebElement(element -> getSelectElement(element).selectByVisibleText(value));
         }
     }
 
@@ -208,6 +208,18 @@ public class DropDownWebElement extends BaseClickableWebElement {
      * @return the {@link Select} object
      */
     protected Select getSelectElement() {
-        return new Select(this.getRawWebElement());
+        return getSelectElement(this.getRawWebElement());
+    }
+
+    /**
+     * Return a Selenium {@link Select} object (a combo box) based on the given {@link WebElement}. The
+     * dropdown's own reads and selections create it inside {@link #readRawWebElement} and
+     * {@link #actOnRawWebElement}, so a stale element is found again.
+     *
+     * @param element   the raw {@link WebElement} of the dropdown
+     * @return the {@link Select} object
+     */
+    protected Select getSelectElement(WebElement element) {
+        return new Select(element);
     }
 }
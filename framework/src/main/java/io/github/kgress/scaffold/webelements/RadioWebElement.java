@@ -163,6 +163,6 @@ public class RadioWebElement extends BaseClickableWebElement {
      @return the result as {@link boolean}
      */
     public boolean isSelected() {
-        return getRawWebElement().isSelected();
+        return readRawWebElement(WebElement::isSelected);
     }
 }
@@ -1,5 +1,9 @@
 package io.github.kgress.scaffold;
 
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 
 import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
@@ -16,6 +20,7 @@ import io.github.kgress.scaffold.webelements.InputWebElement;
 import io.github.kgress.scaffold.webelements.LinkWebElement;
 import io.github.kgress.scaffold.webelements.RadioWebElement;
 import io.github.kgress.scaffold.webelements.StaticTextWebElement;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.parallel.Execution;
@@ -46,6 +51,8 @@ import org.springframework.web.client.RestTemplate;
 )
 public abstract class BaseUnitTest {
 
+    private static final String CLICK_MARKER = "click-marker";
+
     @Mock
     protected WebElement mockRawWebElement;
 
@@ -99,6 +106,20 @@ public abstract class BaseUnitTest {
                 .thenReturn(mockRawWebElement);
     }
 
+    /**
+     * A helper method to set a when from {@link org.mockito.Mockito} when we're wanting to invoke the prepare click
+     * script on a click and expect it to succeed, along with the check for navigation after the click.
+     *
+     * @param navigates     whether the check after the click reports that the page navigated
+     */
+    protected void setWhenPrepareClickSucceed(boolean navigates) {
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), eq(mockRawWebElement), isNull(), isNull(), isNull(),
+                isNull(), anyBoolean()))
+                .thenReturn(Map.of("element", mockRawWebElement, "marker", CLICK_MARKER));
+        when(mockJavascriptExecutor.executeScript(anyString(), eq(CLICK_MARKER))).thenReturn(!navigates);
+    }
+
     /**
      * A helper method to set a when from {@link org.mockito.Mockito} when we're wanting to invoke the scroll into
      * view script and expect it to fail.
@@ -152,6 +173,10 @@ public abstract class BaseUnitTest {
         public WebDriverWrapper getWebDriverWrapper_fromParent() {
             return getWebDriverWrapper();
         }
+
+        public void closeDriver_fromParent() {
+            closeDriver();
+        }
     }
 
     /**
@@ -162,6 +187,10 @@ public abstract class BaseUnitTest {
         public TestWebDriverWrapper(WebDriver baseWebDriver, Long waitTimeoutInSeconds) {
             super(baseWebDriver, waitTimeoutInSeconds);
         }
+
+        public void resetSession_fromParent() {
+            resetSession();
+        }
     }
 
     /**
@@ -509,7 +538,7 @@ public abstract class BaseUnitTest {
         }
 
         @Override
-        public Select getSelectElement() {
+        public Select getSelectElement(WebElement element) {
             return mockSelect;
         }
     }
@@ -0,0 +1,23 @@
+package io.github.kgress.scaffold;
+
+import java.util.Optional;
+import lombok.Getter;
+import org.openqa.selenium.By;
+
+/**
+ * Required mock class for testing {@link BaseComponent} with a {@link ComponentRebase} generated by
+ * the Scaffold processor. The fields can't be private or final for the generated class to set them.
+ */
+@Getter
+@GenerateRebase
+public class MockRebaseComponent extends BaseComponent {
+
+  MockBaseWebElement testField = new MockBaseWebElement(By.cssSelector("#fake-field"));
+  MockBaseWebElement testField2 = new MockBaseWebElement(By.cssSelector("#fake-field-2"));
+  String testLocator = "#fake-locator";
+
+  public static Optional<ComponentRebase<MockRebaseComponent>>
+  getComponentRebase_callPackageMethod() {
+    return getComponentRebase(MockRebaseComponent.class);
+  }
+}
@@ -0,0 +1,106 @@
+package io.github.kgress.scaffold.browserprofile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.kgress.scaffold.BrowserProfileTemplate;
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties.BrowserProfile;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BrowserProfileTemplateTests {
+
+  @TempDir
+  Path tempDir;
+
+  private BrowserProfile browserProfile;
+
+  @BeforeEach
+  public void setup() throws IOException {
+    var templateDir = Files.createDirectories(tempDir.resolve("template/Default"));
+    Files.writeString(templateDir.resolve("Preferences"), "{}");
+    Files.writeString(tempDir.resolve("template/SingletonLock"), "lock");
+
+    browserProfile = new BrowserProfile();
+    browserProfile.setEnabled(true);
+    browserProfile.setTemplateDir(tempDir.resolve("template").toString());
+    browserProfile.setCloneDir(tempDir.resolve("clones").toString());
+    BrowserProfileTemplate.deleteAll();
+  }
+
+  @Test
+  public void testCloneProfile_copiesTemplateWithoutLocks() throws IOException {
+    var profileDirectory = BrowserProfileTemplate.cloneProfile(browserProfile);
+    assertEquals("{}", Files.readString(profileDirectory.resolve("Default/Preferences")));
+    assertFalse(Files.exists(profileDirectory.resolve("SingletonLock")));
+  }
+
+  @Test
+  public void testReleaseProfile_deletesClone() {
+    var profileDirectory = BrowserProfileTemplate.cloneProfile(browserProfile);
+    BrowserProfileTemplate.releaseProfile(profileDirectory);
+    assertFalse(Files.exists(profileDirectory));
+    assertTrue(Files.exists(tempDir.resolve("template/Default/Preferences")));
+  }
+
+  @Test
+  public void testDiscardProfile_deletesClone() {
+    var profileDirectory = BrowserProfileTemplate.cloneProfile(browserProfile);
+    BrowserProfileTemplate.discardProfile(profileDirectory);
+    assertFalse(Files.exists(profileDirectory));
+    assertTrue(Files.exists(tempDir.resolve("template/Default/Preferences")));
+  }
+
+  @Test
+  public void testRunTemplate_keepsOnlyCaches() throws IOException {
+    browserProfile.setTemplateDir(null);
+    var firstProfile = BrowserProfileTemplate.cloneProfile(browserProfile);
+    writeFile(firstProfile.resolve("Default/Cache/Cache_Data/index"));
+    writeFile(firstProfile.resolve("Default/Code Cache/js/index"));
+    writeFile(firstProfile.resolve("Default/Cookies"));
+    writeFile(firstProfile.resolve("Default/Login Data"));
+    writeFile(firstProfile.resolve("Default/Web Data"));
+    writeFile(firstProfile.resolve("Default/Service Worker/CacheStorage/index"));
+    writeFile(firstProfile.resolve("Local State"));
+
+    var secondProfile = BrowserProfileTemplate.cloneProfile(browserProfile);
+    assertFalse(Files.exists(secondProfile.resolve("Default")));
+
+    BrowserProfileTemplate.releaseProfile(firstProfile);
+    assertFalse(Files.exists(firstProfile));
+
+    var thirdProfile = BrowserProfileTemplate.cloneProfile(browserProfile);
+    assertTrue(Files.exists(thirdProfile.resolve("Default/Cache/Cache_Data/index")));
+    assertTrue(Files.exists(thirdProfile.resolve("Default/Code Cache/js/index")));
+    assertFalse(Files.exists(thirdProfile.resolve("Default/Cookies")));
+    assertFalse(Files.exists(thirdProfile.resolve("Default/Login Data")));
+    assertFalse(Files.exists(thirdProfile.resolve("Default/Web Data")));
+    assertFalse(Files.exists(thirdProfile.resolve("Default/Service Worker")));
+    assertFalse(Files.exists(thirdProfile.resolve("Local State")));
+  }
+
+  @Test
+  public void testRunTemplate_discardedCandidate_nextProfileBecomesTemplate() throws IOException {
+    browserProfile.setTemplateDir(null);
+    var failedProfile = BrowserProfileTemplate.cloneProfile(browserProfile);
+    BrowserProfileTemplate.discardProfile(failedProfile);
+    assertFalse(Files.exists(failedProfile));
+
+    var firstProfile = BrowserProfileTemplate.cloneProfile(browserProfile);
+    writeFile(firstProfile.resolve("Default/Cache/Cache_Data/index"));
+    BrowserProfileTemplate.releaseProfile(firstProfile);
+
+    var secondProfile = BrowserProfileTemplate.cloneProfile(browserProfile);
+    assertTrue(Files.exists(secondProfile.resolve("Default/Cache/Cache_Data/index")));
+  }
+
+  private void writeFile(Path file) throws IOException {
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, "state");
+  }
+}
@@ -0,0 +1,193 @@
+package io.github.kgress.scaffold.componentlist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.github.kgress.scaffold.AutomationWait;
+import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.ComponentList;
+import io.github.kgress.scaffold.MockComponent;
+import io.github.kgress.scaffold.exception.ComponentException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebElement;
+
+public class ComponentListTests extends BaseUnitTest {
+
+    private final By rowBy = By.cssSelector(".inventory_item");
+
+    @Test
+    public void testSize_readsRowsWithOneScript() {
+        var rawContainer = setupContainer();
+        var container = new TestBaseWebElement(".inventory_list");
+        when(container.getRawWebElement()).thenReturn(rawContainer);
+        when(mockJavascriptExecutor.executeScript(anyString(), any(), any()))
+            .thenReturn(rows(3, 2, null));
+
+        var components = new ComponentList<>(container, rowBy, MockComponent.class, false);
+
+        assertEquals(3, components.size());
+        assertEquals(By.cssSelector(".inventory_list .inventory_item:nth-child(4) #fake-field"),
+            components.get(1).getTestField().getBy());
+        assertSame(components.get(1), components.get(1));
+        verify(mockJavascriptExecutor, times(1)).executeScript(anyString(), eq(rawContainer),
+            eq(".inventory_item"));
+    }
+
+    @Test
+    public void testGet_nonsequentialRows() {
+        var rawContainer = setupContainer();
+        var container = new TestBaseWebElement(".inventory_list");
+        when(container.getRawWebElement()).thenReturn(rawContainer);
+        when(mockJavascriptExecutor.executeScript(anyString(), any(), any()))
+            .thenReturn(rows(2, 0, List.of(0L, 2L)));
+
+        var components = new ComponentList<>(container, rowBy, MockComponent.class, false);
+
+        assertEquals(By.cssSelector(".inventory_list .inventory_item:nth-child(1) #fake-field"),
+            components.get(0).getTestField().getBy());
+        assertEquals(By.cssSelector(".inventory_list .inventory_item:nth-child(3) #fake-field"),
+            components.get(1).getTestField().getBy());
+        assertThrows(IndexOutOfBoundsException.class, () -> components.get(2));
+    }
+
+    @Test
+    public void testIterator_infiniteScroll_loadsMoreRows() {
+        var rawContainer = setupContainer();
+        var container = new TestBaseWebElement(".inventory_list");
+        when(container.getRawWebElement()).thenReturn(rawContainer);
+        when(mockJavascriptExecutor.executeScript(anyString(), any(), any()))
+            .thenReturn(rows(2, 0, null));
+        when(mockJavascriptExecutor
+            .executeAsyncScript(anyString(), any(), any(), any(), any(), any()))
+            .thenReturn(rows(4, 0, null))
+            .thenReturn(rows(4, 0, null));
+
+        setupTimeout(0L);
+
+        var components = new ComponentList<>(container, rowBy, MockComponent.class, true);
+        var iterated = new ArrayList<MockComponent>();
+        components.forEach(iterated::add);
+
+        assertEquals(4, iterated.size());
+        assertEquals(By.cssSelector(".inventory_list .inventory_item:nth-child(4) #fake-field"),
+            iterated.get(3).getTestField().getBy());
+        verify(mockJavascriptExecutor, times(2))
+            .executeAsyncScript(anyString(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void testLoadMore_slowPage_waitsPastOneScript() {
+        var rawContainer = setupContainer();
+        var container = new TestBaseWebElement(".inventory_list");
+        when(container.getRawWebElement()).thenReturn(rawContainer);
+        when(mockJavascriptExecutor.executeScript(anyString(), any(), any()))
+            .thenReturn(rows(2, 0, null));
+        when(mockJavascriptExecutor
+            .executeAsyncScript(anyString(), any(), any(), any(), any(), any()))
+            .thenReturn(rows(2, 0, null))
+            .thenReturn(rows(4, 0, null));
+        setupTimeout(5L);
+
+        var components = new ComponentList<>(container, rowBy, MockComponent.class, true);
+
+        assertTrue(components.loadMore());
+        assertEquals(4, components.size());
+        verify(mockJavascriptExecutor, times(2))
+            .executeAsyncScript(anyString(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void testLoadMore_endOfList_stopsOnceSettled() {
+        var rawContainer = setupContainer();
+        var container = new TestBaseWebElement(".inventory_list");
+        when(container.getRawWebElement()).thenReturn(rawContainer);
+        when(mockJavascriptExecutor.executeScript(anyString(), any(), any()))
+            .thenReturn(rows(2, 0, null));
+        var settledRows = rows(2, 0, null);
+        settledRows.put("settled", true);
+        when(mockJavascriptExecutor
+            .executeAsyncScript(anyString(), any(), any(), any(), any(), any()))
+            .thenReturn(settledRows);
+        setupTimeout(30L);
+
+        var components = new ComponentList<>(container, rowBy, MockComponent.class, true, 250L);
+
+        assertFalse(components.loadMore());
+        assertFalse(components.loadMore());
+        verify(mockJavascriptExecutor, times(1)).executeAsyncScript(anyString(), eq(rawContainer),
+            eq(".inventory_item"), eq(2), eq(250L), any());
+    }
+
+    @Test
+    public void testLoadMore_scriptTimeout_triesAgain() {
+        var rawContainer = setupContainer();
+        var container = new TestBaseWebElement(".inventory_list");
+        when(container.getRawWebElement()).thenReturn(rawContainer);
+        when(mockJavascriptExecutor.executeScript(anyString(), any(), any()))
+            .thenReturn(rows(2, 0, null));
+        when(mockJavascriptExecutor
+            .executeAsyncScript(anyString(), any(), any(), any(), any(), any()))
+            .thenThrow(new ScriptTimeoutException("script timeout"))
+            .thenReturn(rows(4, 0, null));
+        setupTimeout(5L);
+
+        var components = new ComponentList<>(container, rowBy, MockComponent.class, true);
+
+        assertTrue(components.loadMore());
+        assertEquals(4, components.size());
+        verify(mockJavascriptExecutor, times(2))
+            .executeAsyncScript(anyString(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void testComponentList_readsNothingUntilUsed() {
+        var container = new TestBaseWebElement(".inventory_list");
+
+        new ComponentList<>(container, rowBy, MockComponent.class, false);
+
+        verify(mockJavascriptExecutor, never()).executeScript(anyString(), any(), any());
+    }
+
+    @Test
+    public void testComponentList_xpathRows() {
+        var container = new TestBaseWebElement(".inventory_list");
+
+        assertThrows(ComponentException.class, () ->
+            new ComponentList<>(container, By.xpath("//div"), MockComponent.class, false));
+    }
+
+    private WebElement setupContainer() {
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        return mock(WebElement.class);
+    }
+
+    private void setupTimeout(Long timeoutInSeconds) {
+        when(mockWebDriverWrapper.getAutomationWait())
+            .thenReturn(new AutomationWait(mockWebDriverWrapper, timeoutInSeconds));
+    }
+
+    private Map<String, Object> rows(long count, long offset, List<Long> indexes) {
+        var rows = new HashMap<String, Object>();
+        rows.put("count", count);
+        rows.put("offset", offset);
+        rows.put("indexes", indexes);
+        return rows;
+    }
+}
@@ -0,0 +1,136 @@
+package io.github.kgress.scaffold.driverservicepool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import io.github.kgress.scaffold.DriverServicePool;
+import io.github.kgress.scaffold.exception.WebDriverContextException;
+import io.github.kgress.scaffold.models.enums.desktop.BrowserType;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.remote.service.DriverService;
+
+public class DriverServicePoolTests {
+
+  @Test
+  public void testIsSupported() {
+    assertTrue(DriverServicePool.isSupported(BrowserType.CHROME));
+    assertFalse(DriverServicePool.isSupported(BrowserType.FIREFOX));
+    assertFalse(DriverServicePool.isSupported(BrowserType.SAFARI));
+  }
+
+  @Test
+  public void testGetPool_sharedPerBrowserType() {
+    var firstPool = DriverServicePool.getPool(BrowserType.CHROME, 1);
+    var secondPool = DriverServicePool.getPool(BrowserType.CHROME, 1);
+    assertSame(firstPool, secondPool);
+  }
+
+  @Test
+  public void testNewPool_unsupportedBrowserType_fails() {
+    assertThrows(WebDriverContextException.class, () ->
+        new DriverServicePool(BrowserType.SAFARI, 1));
+  }
+
+  @Test
+  public void testGetServiceUrl_startsServiceOnce() {
+    var pool = new TestDriverServicePool(1);
+
+    var firstUrl = pool.getServiceUrl();
+    var secondUrl = pool.getServiceUrl();
+
+    assertEquals(1, pool.createdServices.size());
+    assertEquals(1, pool.createdServices.get(0).starts);
+    assertEquals(firstUrl, secondUrl);
+  }
+
+  @Test
+  public void testGetServiceUrl_stoppedService_restarts() {
+    var pool = new TestDriverServicePool(1);
+    pool.getServiceUrl();
+    var firstService = pool.createdServices.get(0);
+
+    firstService.stop();
+    var url = pool.getServiceUrl();
+
+    assertEquals(2, pool.createdServices.size());
+    var secondService = pool.createdServices.get(1);
+    assertTrue(secondService.isRunning());
+    assertEquals(secondService.getUrl(), url);
+  }
+
+  @Test
+  public void testGetServiceUrl_spreadsSessionsRoundRobin() {
+    var pool = new TestDriverServicePool(2);
+
+    var firstUrl = pool.getServiceUrl();
+    var secondUrl = pool.getServiceUrl();
+    var thirdUrl = pool.getServiceUrl();
+
+    assertEquals(2, pool.createdServices.size());
+    assertNotEquals(firstUrl, secondUrl);
+    assertEquals(firstUrl, thirdUrl);
+  }
+
+  /**
+   * A pool of {@link FakeDriverService}, so that no chromedriver binary is needed.
+   */
+  private static class TestDriverServicePool extends DriverServicePool {
+
+    private final List<FakeDriverService> createdServices = new ArrayList<>();
+
+    TestDriverServicePool(int poolSize) {
+      super(BrowserType.CHROME, poolSize);
+    }
+
+    @Override
+    protected DriverService createDriverService() {
+      try {
+        var driverService = new FakeDriverService(9515 + createdServices.size());
+        createdServices.add(driverService);
+        return driverService;
+      } catch (IOException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+
+  /**
+   * A driver service that only tracks whether it's running instead of starting a process.
+   */
+  private static class FakeDriverService extends DriverService {
+
+    private boolean running;
+    private int starts;
+
+    FakeDriverService(int port) throws IOException {
+      super(new File("chromedriver"), port, ImmutableList.of(), ImmutableMap.of());
+    }
+
+    @Override
+    public boolean isRunning() {
+      return running;
+    }
+
+    @Override
+    public void start() {
+      running = true;
+      starts++;
+    }
+
+    @Override
+    public void stop() {
+      running = false;
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package io.github.kgress.scaffold.elementbatchread;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.github.kgress.scaffold.ElementBatchRead;
+import io.github.kgress.scaffold.WebDriverWrapper;
+import io.github.kgress.scaffold.webelements.DivWebElement;
+import io.github.kgress.scaffold.webelements.LinkWebElement;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Rectangle;
+
+public class ElementBatchReadTests {
+
+  private WebDriverWrapper webDriverWrapper;
+  private JavascriptExecutor javascriptExecutor;
+
+  @BeforeEach
+  public void setup() {
+    webDriverWrapper = mock(WebDriverWrapper.class);
+    javascriptExecutor = mock(JavascriptExecutor.class);
+    when(webDriverWrapper.getJavascriptExecutor()).thenReturn(javascriptExecutor);
+  }
+
+  @Test
+  public void testRead_singleScriptForEveryElement() {
+    var itemName = new DivWebElement(".item_name");
+    var itemLink = new LinkWebElement(".item_link");
+    var missing = new DivWebElement(".missing");
+    when(javascriptExecutor.executeScript(anyString(), anyList())).thenReturn(List.of(
+        Map.of("present", true, "displayed", true, "enabled", true, "selected", false,
+            "text", "Backpack", "tagName", "div",
+            "rect", Map.of("x", 1L, "y", 2L, "width", 30.5, "height", 40L),
+            "attributes", Map.of()),
+        Map.of("present", true, "displayed", true, "enabled", true, "selected", false,
+            "text", "Details", "tagName", "a",
+            "rect", Map.of("x", 0L, "y", 0L, "width", 10L, "height", 10L),
+            "attributes", Map.of("href", "https://example.com/item")),
+        Map.of("present", false)));
+
+    var snapshots = new ElementBatchRead()
+        .add(itemName)
+        .add(itemLink, "href")
+        .add(missing)
+        .read(webDriverWrapper);
+
+    verify(javascriptExecutor, times(1)).executeScript(anyString(), anyList());
+    assertEquals(List.of(itemName, itemLink, missing), List.copyOf(snapshots.keySet()));
+    assertEquals("Backpack", snapshots.get(itemName).getText());
+    assertEquals(new Rectangle(1, 2, 40, 30), snapshots.get(itemName).getRect());
+    assertEquals("https://example.com/item", snapshots.get(itemLink).getAttribute("href"));
+    assertFalse(snapshots.get(missing).isPresent());
+    assertEquals("", snapshots.get(missing).getText());
+    assertNull(snapshots.get(missing).getRect());
+    assertTrue(snapshots.get(itemName).isDisplayed());
+  }
+
+  @Test
+  public void testRead_noElements_noScript() {
+    assertTrue(new ElementBatchRead().read(webDriverWrapper).isEmpty());
+    verifyNoInteractions(javascriptExecutor);
+  }
+}
@@ -0,0 +1,75 @@
+package io.github.kgress.scaffold.elementfactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import io.github.kgress.scaffold.BaseComponent;
+import io.github.kgress.scaffold.ElementFactory;
+import io.github.kgress.scaffold.webelements.DivWebElement;
+import io.github.kgress.scaffold.webelements.LinkWebElement;
+import java.lang.reflect.InvocationTargetException;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+public class ElementFactoryTests {
+
+  @Test
+  public void testNewElement_byConstructor() throws ReflectiveOperationException {
+    var by = By.cssSelector(".item:nth-child(1)");
+
+    var first = ElementFactory.newElement(DivWebElement.class, by);
+    var second = ElementFactory.newElement(DivWebElement.class, by);
+
+    assertEquals(by, first.getBy());
+    assertNotSame(first, second);
+  }
+
+  @Test
+  public void testNewElement_byAndParentByConstructor() throws ReflectiveOperationException {
+    var by = By.xpath("//a[1]");
+    var parentBy = By.cssSelector(".header");
+
+    var element = ElementFactory.newElement(LinkWebElement.class, by, parentBy);
+
+    assertEquals(by, element.getBy());
+    assertEquals(parentBy, element.getParentBy());
+  }
+
+  @Test
+  public void testNewElement_webElementConstructor() throws ReflectiveOperationException {
+    var webElement = mock(WebElement.class);
+
+    var element = ElementFactory.newElement(DivWebElement.class, webElement);
+
+    assertSame(webElement, element.getBaseElement());
+  }
+
+  @Test
+  public void testNewComponent_missingConstructor() {
+    assertThrows(NoSuchMethodException.class,
+        () -> ElementFactory.newComponent(ComponentWithoutEmptyConstructor.class));
+  }
+
+  @Test
+  public void testNewComponent_constructorFails() {
+    assertThrows(InvocationTargetException.class,
+        () -> ElementFactory.newComponent(FailingComponent.class));
+  }
+
+  public static class ComponentWithoutEmptyConstructor extends BaseComponent {
+
+    public ComponentWithoutEmptyConstructor(String name) {
+    }
+  }
+
+  public static class FailingComponent extends BaseComponent {
+
+    public FailingComponent() {
+      throw new IllegalStateException("Could not create the component");
+    }
+  }
+}
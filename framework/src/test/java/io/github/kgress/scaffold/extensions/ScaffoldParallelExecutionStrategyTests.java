@@ -0,0 +1,141 @@
+package io.github.kgress.scaffold.extensions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
+import org.junit.platform.engine.support.hierarchical.ResourceLock;
+
+public class ScaffoldParallelExecutionStrategyTests {
+
+  private final ScaffoldParallelExecutionStrategy strategy = new ScaffoldParallelExecutionStrategy();
+
+  @Test
+  public void testCreateConfiguration_remoteRunType_usesRemoteParallelism() {
+    var configuration = strategy.createConfiguration(configurationParameters(Map.of(
+        ScaffoldParallelExecutionStrategy.RUN_TYPE, "sauce",
+        ScaffoldParallelExecutionStrategy.REMOTE_PARALLELISM, "12")));
+    assertEquals(12, configuration.getParallelism());
+    assertEquals(12 + 256, configuration.getMaxPoolSize());
+  }
+
+  @Test
+  public void testCreateConfiguration_cappedAtMaxBrowsers() {
+    var configuration = strategy.createConfiguration(configurationParameters(Map.of(
+        ScaffoldParallelExecutionStrategy.RUN_TYPE, "grid",
+        ScaffoldParallelExecutionStrategy.REMOTE_PARALLELISM, "30",
+        ScaffoldParallelExecutionStrategy.MAX_BROWSERS, "10")));
+    assertEquals(10, configuration.getParallelism());
+  }
+
+  @Test
+  public void testCreateConfiguration_localRunType_limitedByMemory() {
+    var configuration = strategy.createConfiguration(configurationParameters(Map.of(
+        ScaffoldParallelExecutionStrategy.RUN_TYPE, "headless",
+        ScaffoldParallelExecutionStrategy.BROWSER_MEMORY_IN_MB, String.valueOf(Integer.MAX_VALUE))));
+    assertEquals(1, configuration.getParallelism());
+  }
+
+  @Test
+  public void testCreateConfiguration_nestedConcurrentContainers_run() throws Exception {
+    var configuration = strategy.createConfiguration(configurationParameters(Map.of(
+        ScaffoldParallelExecutionStrategy.RUN_TYPE, "grid",
+        ScaffoldParallelExecutionStrategy.REMOTE_PARALLELISM, "2")));
+    var testsRun = new AtomicInteger();
+
+    // An engine with classes that each have nested classes of concurrent tests
+    try (var executorService = new ForkJoinPoolHierarchicalTestExecutorService(configuration)) {
+      var engine = container(executorService, 3, () -> container(executorService, 3,
+          () -> container(executorService, 3, () -> new ConcurrentTask(() -> {
+            sleep();
+            testsRun.incrementAndGet();
+          }))));
+      executorService.submit(engine).get(30, TimeUnit.SECONDS);
+    }
+    assertEquals(27, testsRun.get());
+  }
+
+  /**
+   * Creates a container that runs its children at the same time, the way JUnit runs test classes
+   * and nested classes.
+   */
+  private TestTask container(HierarchicalTestExecutorService executorService, int size,
+      Supplier<TestTask> child) {
+    var children = IntStream.range(0, size)
+        .mapToObj(index -> child.get())
+        .collect(Collectors.toList());
+    return new ConcurrentTask(() -> executorService.invokeAll(children));
+  }
+
+  private void sleep() {
+    try {
+      Thread.sleep(20);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private ConfigurationParameters configurationParameters(Map<String, String> parameters) {
+    var configurationParameters = mock(ConfigurationParameters.class);
+    when(configurationParameters.get(anyString())).thenAnswer(invocation ->
+        Optional.ofNullable(parameters.get(invocation.<String>getArgument(0))));
+    when(configurationParameters.get(anyString(), any(Function.class))).thenAnswer(invocation ->
+        Optional.ofNullable(parameters.get(invocation.<String>getArgument(0)))
+            .map(invocation.<Function<String, Object>>getArgument(1)));
+    return configurationParameters;
+  }
+
+  /**
+   * A concurrent {@link TestTask} without any resource locks.
+   */
+  private static class ConcurrentTask implements TestTask, ResourceLock {
+
+    private final Runnable action;
+
+    ConcurrentTask(Runnable action) {
+      this.action = action;
+    }
+
+    @Override
+    public ExecutionMode getExecutionMode() {
+      return ExecutionMode.CONCURRENT;
+    }
+
+    @Override
+    public ResourceLock getResourceLock() {
+      return this;
+    }
+
+    @Override
+    public void execute() {
+      action.run();
+    }
+
+    @Override
+    public ResourceLock acquire() {
+      return this;
+    }
+
+    @Override
+    public void release() {
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package io.github.kgress.scaffold.locator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.kgress.scaffold.Locator;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+
+public class LocatorTests {
+
+  @Test
+  public void testOf_interned() {
+    assertSame(Locator.of(By.cssSelector(".item")), Locator.of(By.cssSelector(".item")));
+  }
+
+  @Test
+  public void testGetCss_convertsOfCssLocators() {
+    assertEquals("#header", Locator.of(By.id("header")).getCss());
+    assertEquals(".item", Locator.of(By.className("item")).getCss());
+    assertEquals("[name=email]", Locator.of(By.name("email")).getCss());
+    assertEquals("li", Locator.of(By.tagName("li")).getCss());
+    assertEquals("item", Locator.of(By.className("item")).getValue());
+    assertEquals(Locator.Kind.CSS, Locator.of(By.className("item")).getKind());
+  }
+
+  @Test
+  public void testGetCss_xpath() {
+    var locator = Locator.of(By.xpath("//div"));
+
+    assertEquals(Locator.Kind.XPATH, locator.getKind());
+    assertThrows(RuntimeException.class, locator::getCss);
+  }
+
+  @Test
+  public void testDescendant_css() {
+    var parent = Locator.of(By.id("header"));
+    var child = Locator.of(By.className("item"));
+
+    var descendant = parent.descendant(child);
+
+    assertEquals(By.cssSelector("#header .item"), descendant.getBy());
+    assertSame(descendant, parent.descendant(child));
+  }
+
+  @Test
+  public void testDescendant_xpath() {
+    var descendant = Locator.of(By.xpath("//div")).descendant(Locator.of(By.xpath("//a")));
+
+    assertEquals(By.xpath("//div //a"), descendant.getBy());
+  }
+
+  @Test
+  public void testDescendant_mixedCssAndXpath() {
+    assertThrows(RuntimeException.class,
+        () -> Locator.css(".header").descendant(Locator.of(By.xpath("//a"))));
+  }
+
+  @Test
+  public void testNthChild() {
+    var css = Locator.css(".list .item");
+    var xpath = Locator.of(By.xpath("//li"));
+
+    assertEquals(By.cssSelector(".list .item:nth-child(2)"), css.nthChild(2).getBy());
+    assertEquals(By.xpath("//li[2]"), xpath.nthChild(2).getBy());
+    assertSame(css.nthChild(2), css.nthChild(2));
+  }
+
+  @Test
+  public void testAttribute() {
+    assertEquals("class", Locator.css(".item").getAttributeName());
+    assertEquals("item", Locator.css(".item").getAttributeValue());
+    assertEquals("id", Locator.css("#item").getAttributeName());
+    assertEquals("data-qe", Locator.css("[data-qe='item']").getAttributeName());
+    assertEquals("item", Locator.css("[data-qe='item']").getAttributeValue());
+    assertThrows(RuntimeException.class, () -> Locator.css("div").getAttributeName());
+  }
+}
@@ -0,0 +1,105 @@
+package io.github.kgress.scaffold.observedwait;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.github.kgress.scaffold.AutomationWait;
+import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.ObservedWait;
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebElement;
+
+public class ObservedWaitTests extends BaseUnitTest {
+
+    private static final String ITEM_NAME = "Sauce Labs Backpack";
+
+    @Test
+    public void testWaitFor_conditionMet_singleScript() {
+        var rawElement = setupRawElement();
+        var element = new TestBaseWebElement(".inventory_item_name");
+        when(element.getRawWebElement()).thenReturn(rawElement);
+        when(mockJavascriptExecutor.executeAsyncScript(anyString(), any(), any(), any(), any()))
+            .thenReturn(true);
+
+        assertTrue(ObservedWait.waitFor(mockWebDriverWrapper, element,
+            ObservedWait.Condition.TEXT_CONTAINS, ITEM_NAME, 5));
+        verify(mockJavascriptExecutor, times(1)).executeAsyncScript(anyString(), eq(rawElement),
+            eq("TEXT_CONTAINS"), eq(ITEM_NAME), any());
+    }
+
+    @Test
+    public void testWaitFor_elementReplaced_waitsAgain() {
+        var rawElement = setupRawElement();
+        var element = new TestBaseWebElement(".inventory_item_name");
+        when(element.getRawWebElement()).thenReturn(rawElement);
+        when(mockJavascriptExecutor.executeAsyncScript(anyString(), any(), any(), any(), any()))
+            .thenReturn("stale")
+            .thenReturn(true);
+
+        assertTrue(ObservedWait.waitFor(mockWebDriverWrapper, element,
+            ObservedWait.Condition.HAS_CLASS, "selected", 5));
+        verify(mockJavascriptExecutor, times(2))
+            .executeAsyncScript(anyString(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void testWaitFor_pageNavigated_waitsAgain() {
+        var rawElement = setupRawElement();
+        var element = new TestBaseWebElement(".inventory_item_name");
+        when(element.getRawWebElement()).thenReturn(rawElement);
+        when(mockJavascriptExecutor.executeAsyncScript(anyString(), any(), any(), any(), any()))
+            .thenThrow(new JavascriptException("document unloaded while waiting for result"))
+            .thenReturn(true);
+
+        assertTrue(ObservedWait.waitFor(mockWebDriverWrapper, element,
+            ObservedWait.Condition.TEXT_CONTAINS, ITEM_NAME, 5));
+        verify(mockJavascriptExecutor, times(2))
+            .executeAsyncScript(anyString(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void testWaitFor_conditionNotMet_throwsTimeout() {
+        var rawElement = setupRawElement();
+        var element = new TestBaseWebElement(".inventory_item_name");
+        when(element.getRawWebElement()).thenReturn(rawElement);
+        when(mockJavascriptExecutor.executeAsyncScript(anyString(), any(), any(), any(), any()))
+            .thenReturn(false);
+
+        assertThrows(TimeoutException.class, () -> ObservedWait.waitFor(mockWebDriverWrapper,
+            element, ObservedWait.Condition.NOT_HAS_CLASS, "selected", 0));
+    }
+
+    @Test
+    public void testAutomationWait_observedWaitEnabled_waitsInBrowser() {
+        var rawElement = setupRawElement();
+        var element = new TestBaseWebElement("#checkout");
+        when(element.getRawWebElement()).thenReturn(rawElement);
+        var observedWait = new DesiredCapabilitiesConfigurationProperties.ObservedWait();
+        observedWait.setEnabled(true);
+        when(mockWebDriverWrapper.getObservedWait()).thenReturn(observedWait);
+        when(mockJavascriptExecutor.executeAsyncScript(anyString(), any(), any(), any(), any()))
+            .thenReturn(true);
+
+        var automationWait = new AutomationWait(mockWebDriverWrapper, 1L);
+
+        assertTrue(automationWait.waitUntilElementIsEnabled(element));
+        verify(mockJavascriptExecutor, times(1)).executeAsyncScript(anyString(), eq(rawElement),
+            eq("ENABLED"), isNull(), any());
+    }
+
+    private WebElement setupRawElement() {
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        return mock(WebElement.class);
+    }
+}
@@ -11,6 +11,8 @@ import org.mockito.Mock;
 import org.openqa.selenium.TimeoutException;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class AutomationWaitTests extends BaseUnitTest {
@@ -60,27 +62,31 @@ public class AutomationWaitTests extends BaseUnitTest {
 
     @Test
     public void testWaitForElementToHaveClass_success() {
-        when(mockDivWebElement.getRawWebElement()).thenReturn(mockRawWebElement);
-        when(mockDivWebElement.getRawWebElement().getAttribute("class"))
-                .thenReturn(SharedTestVariables.CLASS_NAME);
+        when(mockDivWebElement.hasClass(SharedTestVariables.CLASS_NAME)).thenReturn(true);
         var elementHasClass = testAutomationWait
                 .waitForElementToHaveClass(mockDivWebElement, SharedTestVariables.CLASS_NAME);
         assertTrue(elementHasClass);
     }
 
+    @Test
+    public void testWaitForElementToHaveClass_readsElementAgain() {
+        when(mockDivWebElement.hasClass(SharedTestVariables.CLASS_NAME)).thenReturn(false, true);
+        var elementHasClass = testAutomationWait
+                .waitForElementToHaveClass(mockDivWebElement, SharedTestVariables.CLASS_NAME);
+        assertTrue(elementHasClass);
+        verify(mockDivWebElement, times(2)).hasClass(SharedTestVariables.CLASS_NAME);
+    }
+
     @Test
     public void testWaitForElementToHaveClass_fail() {
-        when(mockDivWebElement.getRawWebElement()).thenReturn(mockRawWebElement);
-        when(mockDivWebElement.getRawWebElement().getAttribute("class")).thenReturn(TEST_CLASS_NAME2);
+        when(mockDivWebElement.hasClass(SharedTestVariables.CLASS_NAME)).thenReturn(false);
         assertThrows(TimeoutException.class, () ->
                 testAutomationWait.waitForElementToHaveClass(mockDivWebElement,SharedTestVariables.CLASS_NAME));
     }
 
     @Test
     public void testWaitForElementToNotHaveClass_success() {
-        when(mockDivWebElement.getRawWebElement()).thenReturn(mockRawWebElement);
-        when(mockDivWebElement.getRawWebElement().getAttribute("class"))
-                .thenReturn(SharedTestVariables.CLASS_NAME);
+        when(mockDivWebElement.hasClass(TEST_CLASS_NAME2)).thenReturn(false);
         var elementDoesNotHaveClass = testAutomationWait
                 .waitForElementToNotHaveClass(mockDivWebElement, TEST_CLASS_NAME2);
         assertTrue(elementDoesNotHaveClass);
@@ -88,9 +94,7 @@ public class AutomationWaitTests extends BaseUnitTest {
 
     @Test
     public void testWaitForElementToNotHaveClass_fail() {
-        when(mockDivWebElement.getRawWebElement()).thenReturn(mockRawWebElement);
-        when(mockDivWebElement.getRawWebElement().getAttribute("class"))
-                .thenReturn(SharedTestVariables.CLASS_NAME);
+        when(mockDivWebElement.hasClass(SharedTestVariables.CLASS_NAME)).thenReturn(true);
         assertThrows(TimeoutException.class, () -> testAutomationWait
                 .waitForElementToNotHaveClass(mockDivWebElement, SharedTestVariables.CLASS_NAME));
     }
@@ -147,9 +151,7 @@ public class AutomationWaitTests extends BaseUnitTest {
 
     @Test
     public void testWaitForElementToHaveClass_tempTimeout_success() {
-        when(mockDivWebElement.getRawWebElement()).thenReturn(mockRawWebElement);
-        when(mockDivWebElement.getRawWebElement().getAttribute("class"))
-                .thenReturn(SharedTestVariables.CLASS_NAME);
+        when(mockDivWebElement.hasClass(SharedTestVariables.CLASS_NAME)).thenReturn(true);
         var elementHasClass = testAutomationWait
                 .waitForElementToHaveClass(mockDivWebElement, SharedTestVariables.CLASS_NAME, TEMP_TIMEOUT);
         assertTrue(elementHasClass);
@@ -158,8 +160,7 @@ public class AutomationWaitTests extends BaseUnitTest {
 
     @Test
     public void testWaitForElementToHaveClass_tempTimeout_fail() {
-        when(mockDivWebElement.getRawWebElement()).thenReturn(mockRawWebElement);
-        when(mockDivWebElement.getRawWebElement().getAttribute("class")).thenReturn(TEST_CLASS_NAME2);
+        when(mockDivWebElement.hasClass(SharedTestVariables.CLASS_NAME)).thenReturn(false);
         assertThrows(TimeoutException.class, () -> testAutomationWait
                 .waitForElementToHaveClass(mockDivWebElement,SharedTestVariables.CLASS_NAME, TEMP_TIMEOUT));
         assertEquals(BASE_TIMEOUT, testAutomationWait.getTimeoutInSeconds());
@@ -167,9 +168,7 @@ public class AutomationWaitTests extends BaseUnitTest {
 
     @Test
     public void testWaitForElementToNotHaveClass_tempTimeout_success() {
-        when(mockDivWebElement.getRawWebElement()).thenReturn(mockRawWebElement);
-        when(mockDivWebElement.getRawWebElement().getAttribute("class"))
-                .thenReturn(SharedTestVariables.CLASS_NAME);
+        when(mockDivWebElement.hasClass(TEST_CLASS_NAME2)).thenReturn(false);
         var elementDoesNotHaveClass = testAutomationWait
                 .waitForElementToNotHaveClass(mockDivWebElement, TEST_CLASS_NAME2, TEMP_TIMEOUT);
         assertTrue(elementDoesNotHaveClass);
@@ -178,9 +177,7 @@ public class AutomationWaitTests extends BaseUnitTest {
 
     @Test
     public void testWaitForElementToNotHaveClass_tempTimeout_fail() {
-        when(mockDivWebElement.getRawWebElement()).thenReturn(mockRawWebElement);
-        when(mockDivWebElement.getRawWebElement().getAttribute("class"))
-                .thenReturn(SharedTestVariables.CLASS_NAME);
+        when(mockDivWebElement.hasClass(SharedTestVariables.CLASS_NAME)).thenReturn(true);
         assertThrows(TimeoutException.class, () -> testAutomationWait
                 .waitForElementToNotHaveClass(mockDivWebElement, SharedTestVariables.CLASS_NAME, TEMP_TIMEOUT));
         assertEquals(BASE_TIMEOUT, testAutomationWait.getTimeoutInSeconds());
@@ -1,9 +1,14 @@
 package io.github.kgress.scaffold.page;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.github.kgress.scaffold.ComponentRebase;
 import io.github.kgress.scaffold.MockBaseWebElement;
 import io.github.kgress.scaffold.MockComponent;
+import io.github.kgress.scaffold.MockRebaseComponent;
 import io.github.kgress.scaffold.exception.ComponentException;
 import java.util.Arrays;
 import org.junit.jupiter.api.BeforeEach;
@@ -45,4 +50,41 @@ public class BaseComponentTests {
     assertThrows(ComponentException.class, () ->
         MockComponent.buildComponentList_callProtectedMethod(listOfElements, MockComponent.class));
   }
+
+  @Test
+  public void testBuildComponentList_nonCssBy_usesConvertedCss() {
+    final var listOfElements = Arrays.asList(
+        new MockBaseWebElement(By.className("row")),
+        new MockBaseWebElement(By.id("last-row")));
+
+    var components = MockComponent.buildComponentList_callProtectedMethod(listOfElements,
+        MockComponent.class);
+
+    assertEquals(By.cssSelector(".row #fake-field"), components.get(0).getTestField().getBy());
+    assertEquals(By.cssSelector("#last-row #fake-field"),
+        components.get(1).getTestField().getBy());
+  }
+
+  @Test
+  public void testBuildComponentList_generatedRebase() throws ClassNotFoundException {
+    var generatedRebase = Class.forName(
+        "io.github.kgress.scaffold.MockRebaseComponent" + ComponentRebase.SUFFIX);
+    var componentRebase = MockRebaseComponent.getComponentRebase_callPackageMethod();
+    assertTrue(componentRebase.isPresent());
+    assertSame(generatedRebase, componentRebase.get().getClass());
+
+    final var listOfElements = Arrays.asList(
+        new MockBaseWebElement(By.cssSelector(".item:nth-child(1)")),
+        new MockBaseWebElement(By.cssSelector(".item:nth-child(2)")));
+
+    var components = MockComponent.buildComponentList_callProtectedMethod(listOfElements,
+        MockRebaseComponent.class);
+
+    assertEquals(2, components.size());
+    assertEquals(By.cssSelector(".item:nth-child(1) #fake-field"),
+        components.get(0).getTestField().getBy());
+    assertEquals(By.cssSelector(".item:nth-child(2) #fake-field-2"),
+        components.get(1).getTestField2().getBy());
+    assertEquals("#fake-locator", components.get(1).getTestLocator());
+  }
 }
@@ -46,6 +46,7 @@ public class BasePageTests extends BaseUnitTest {
     @Test
     public void verifyIsOnPage_elementDisplayed() {
         when(mockAutomationWait.waitUntilPageIsLoaded()).thenReturn(true);
+        when(mockAutomationWait.getWebDriverWrapper()).thenReturn(mockWebDriverWrapper);
         when(mockDivWebElement.isDisplayed()).thenReturn(true);
 
         var isOnPage = testBasePage.verifyIsOnPage_callProtectedMethod(mockDivWebElement);
@@ -55,6 +56,7 @@ public class BasePageTests extends BaseUnitTest {
     @Test
     public void verifyIsOnPage_elementsDisplayed() {
         when(mockAutomationWait.waitUntilPageIsLoaded()).thenReturn(true);
+        when(mockAutomationWait.getWebDriverWrapper()).thenReturn(mockWebDriverWrapper);
         when(mockDivWebElement.isDisplayed()).thenReturn(true);
         when(mockInputWebElement.isDisplayed()).thenReturn(true);
 
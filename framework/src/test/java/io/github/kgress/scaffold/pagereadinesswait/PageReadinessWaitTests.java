@@ -0,0 +1,90 @@
+package io.github.kgress.scaffold.pagereadinesswait;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.github.kgress.scaffold.PageReadinessWait;
+import io.github.kgress.scaffold.WebDriverWrapper;
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
+
+public class PageReadinessWaitTests {
+
+  private WebDriverWrapper webDriverWrapper;
+  private JavascriptExecutor javascriptExecutor;
+  private DesiredCapabilitiesConfigurationProperties.PageReadiness pageReadiness;
+
+  @BeforeEach
+  public void setup() {
+    webDriverWrapper = mock(WebDriverWrapper.class);
+    javascriptExecutor = mock(JavascriptExecutor.class);
+    pageReadiness = new DesiredCapabilitiesConfigurationProperties.PageReadiness();
+    pageReadiness.setEnabled(true);
+    when(webDriverWrapper.getJavascriptExecutor()).thenReturn(javascriptExecutor);
+    when(webDriverWrapper.getPageReadiness()).thenReturn(pageReadiness);
+    when(webDriverWrapper.getPageLoadStrategy()).thenReturn(PageLoadStrategy.NORMAL);
+  }
+
+  @Test
+  public void testIsEnabled() {
+    assertTrue(PageReadinessWait.isEnabled(webDriverWrapper));
+
+    pageReadiness.setEnabled(false);
+    assertFalse(PageReadinessWait.isEnabled(webDriverWrapper));
+  }
+
+  @Test
+  public void testWaitUntilReady_quietPage_singleScript() {
+    when(javascriptExecutor.executeAsyncScript(anyString(), any(), any(), any(), any()))
+        .thenReturn(Map.of("ready", true));
+
+    assertTrue(PageReadinessWait.waitUntilReady(webDriverWrapper, 5));
+    verify(javascriptExecutor, times(1))
+        .executeAsyncScript(anyString(), eq(100L), eq(true), eq(true), any());
+  }
+
+  @Test
+  public void testWaitUntilReady_eager_doesNotRequireCompleteDocument() {
+    when(webDriverWrapper.getPageLoadStrategy()).thenReturn(PageLoadStrategy.EAGER);
+    when(javascriptExecutor.executeAsyncScript(anyString(), any(), any(), any(), any()))
+        .thenReturn(Map.of("ready", true));
+
+    assertTrue(PageReadinessWait.waitUntilReady(webDriverWrapper, 5));
+    verify(javascriptExecutor, times(1))
+        .executeAsyncScript(anyString(), any(), eq(false), any(), any());
+  }
+
+  @Test
+  public void testWaitUntilReady_pageChanged_retries() {
+    when(javascriptExecutor.executeAsyncScript(anyString(), any(), any(), any(), any()))
+        .thenThrow(new WebDriverException("target frame detached"))
+        .thenReturn(Map.of("ready", true));
+
+    assertTrue(PageReadinessWait.waitUntilReady(webDriverWrapper, 5));
+    verify(javascriptExecutor, times(2))
+        .executeAsyncScript(anyString(), any(), any(), any(), any());
+  }
+
+  @Test
+  public void testWaitUntilReady_neverQuiet_throwsTimeout() {
+    when(javascriptExecutor.executeAsyncScript(anyString(), any(), any(), any(), any()))
+        .thenReturn(Map.of("ready", false, "readyState", "complete", "pending", 1L));
+
+    assertThrows(TimeoutException.class,
+        () -> PageReadinessWait.waitUntilReady(webDriverWrapper, 0));
+  }
+}
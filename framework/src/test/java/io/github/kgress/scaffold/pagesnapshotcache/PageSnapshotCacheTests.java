@@ -0,0 +1,121 @@
+package io.github.kgress.scaffold.pagesnapshotcache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.github.kgress.scaffold.PageSnapshotCache;
+import io.github.kgress.scaffold.WebDriverWrapper;
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import io.github.kgress.scaffold.webelements.DivWebElement;
+import io.github.kgress.scaffold.webelements.LinkWebElement;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriverException;
+
+public class PageSnapshotCacheTests {
+
+  private WebDriverWrapper webDriverWrapper;
+  private JavascriptExecutor javascriptExecutor;
+  private final DivWebElement itemName = new DivWebElement(".item_name");
+
+  @BeforeEach
+  public void setup() {
+    webDriverWrapper = mock(WebDriverWrapper.class);
+    javascriptExecutor = mock(JavascriptExecutor.class);
+    var pageSnapshot = new DesiredCapabilitiesConfigurationProperties.PageSnapshot();
+    pageSnapshot.setEnabled(true);
+    pageSnapshot.setMaxAgeInMillis(60000L);
+    when(webDriverWrapper.getJavascriptExecutor()).thenReturn(javascriptExecutor);
+    when(webDriverWrapper.getPageSnapshot()).thenReturn(pageSnapshot);
+  }
+
+  @Test
+  public void testIsEnabled() {
+    assertTrue(PageSnapshotCache.isEnabled(webDriverWrapper));
+
+    when(webDriverWrapper.getPageSnapshot()).thenReturn(null);
+    assertFalse(PageSnapshotCache.isEnabled(webDriverWrapper));
+  }
+
+  @Test
+  public void testGet_servedWithoutAnotherScript() {
+    when(javascriptExecutor.executeScript(anyString(), anyList(), any()))
+        .thenReturn(readResult("1:0", "Backpack"));
+    var pageSnapshotCache = new PageSnapshotCache(webDriverWrapper, List.of(itemName));
+
+    pageSnapshotCache.refresh();
+    assertEquals("Backpack", pageSnapshotCache.get(itemName).orElseThrow().getText());
+    assertEquals("item", pageSnapshotCache.get(itemName).orElseThrow().getAttribute("class"));
+
+    verify(javascriptExecutor, times(1)).executeScript(anyString(), anyList(), any());
+  }
+
+  @Test
+  public void testGet_interaction_unchangedGenerationKeepsSnapshot() {
+    when(javascriptExecutor.executeScript(anyString(), anyList(), any()))
+        .thenReturn(readResult("1:0", "Backpack"));
+    when(javascriptExecutor.executeScript(anyString(), anyList(), eq("1:0")))
+        .thenReturn(Map.of("generation", "1:0"));
+    var pageSnapshotCache = new PageSnapshotCache(webDriverWrapper, List.of(itemName));
+    pageSnapshotCache.refresh();
+
+    when(webDriverWrapper.getInteractionCount()).thenReturn(1L);
+    assertEquals("Backpack", pageSnapshotCache.get(itemName).orElseThrow().getText());
+
+    verify(javascriptExecutor, times(1)).executeScript(anyString(), anyList(), eq("1:0"));
+  }
+
+  @Test
+  public void testGet_navigation_changedGenerationReadsAgain() {
+    when(javascriptExecutor.executeScript(anyString(), anyList(), any()))
+        .thenReturn(readResult("1:0", "Backpack"));
+    when(javascriptExecutor.executeScript(anyString(), anyList(), eq("1:0")))
+        .thenReturn(readResult("2:0", "Bike Light"));
+    var pageSnapshotCache = new PageSnapshotCache(webDriverWrapper, List.of(itemName));
+    pageSnapshotCache.refresh();
+
+    when(webDriverWrapper.getNavigationCount()).thenReturn(1L);
+    assertEquals("Bike Light", pageSnapshotCache.get(itemName).orElseThrow().getText());
+  }
+
+  @Test
+  public void testGet_scriptFails_empty() {
+    when(javascriptExecutor.executeScript(anyString(), anyList(), any()))
+        .thenThrow(new WebDriverException("javascript error"));
+    var pageSnapshotCache = new PageSnapshotCache(webDriverWrapper, List.of(itemName));
+
+    pageSnapshotCache.refresh();
+
+    assertTrue(pageSnapshotCache.get(itemName).isEmpty());
+  }
+
+  @Test
+  public void testContains_unsupportedLocatorNotKept() {
+    var linkText = new LinkWebElement(By.linkText("Details"));
+    var pageSnapshotCache = new PageSnapshotCache(webDriverWrapper, List.of(itemName, linkText));
+
+    assertTrue(pageSnapshotCache.contains(itemName));
+    assertFalse(pageSnapshotCache.contains(linkText));
+  }
+
+  private Map<String, Object> readResult(String generation, String text) {
+    return Map.of("generation", generation, "elements", List.of(
+        Map.of("present", true, "displayed", true, "enabled", true, "selected", false,
+            "text", text, "tagName", "div",
+            "rect", Map.of("x", 0L, "y", 0L, "width", 10L, "height", 10L),
+            "attributes", Map.of("class", "item"))));
+  }
+}
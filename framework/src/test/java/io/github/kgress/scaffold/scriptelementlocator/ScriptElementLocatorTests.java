@@ -0,0 +1,87 @@
+package io.github.kgress.scaffold.scriptelementlocator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.github.kgress.scaffold.AutomationWait;
+import io.github.kgress.scaffold.ScriptElementLocator;
+import io.github.kgress.scaffold.WebDriverWrapper;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebElement;
+
+public class ScriptElementLocatorTests {
+
+  private WebDriverWrapper webDriverWrapper;
+  private JavascriptExecutor javascriptExecutor;
+  private AutomationWait automationWait;
+
+  @BeforeEach
+  public void setup() {
+    webDriverWrapper = mock(WebDriverWrapper.class);
+    javascriptExecutor = mock(JavascriptExecutor.class);
+    automationWait = mock(AutomationWait.class);
+    when(webDriverWrapper.getJavascriptExecutor()).thenReturn(javascriptExecutor);
+    when(webDriverWrapper.getAutomationWait()).thenReturn(automationWait);
+  }
+
+  @Test
+  public void testIsSupported() {
+    assertTrue(ScriptElementLocator.isSupported(By.cssSelector(".child"), By.id("parent")));
+    assertTrue(ScriptElementLocator.isSupported(By.xpath("./span"), null));
+    assertFalse(ScriptElementLocator.isSupported(By.linkText("Home"), null));
+    assertFalse(ScriptElementLocator.isSupported(By.cssSelector(".child"), By.linkText("Home")));
+  }
+
+  @Test
+  public void testLocate_singleScript() {
+    var webElement = mock(WebElement.class);
+    when(automationWait.getTimeoutInSeconds()).thenReturn(5L);
+    when(javascriptExecutor.executeAsyncScript(anyString(), any(), any(), any(), any(), any(),
+        any())).thenReturn(webElement);
+
+    var element = ScriptElementLocator.locate(webDriverWrapper, By.cssSelector(".child"),
+        By.id("parent"), true);
+    assertEquals(webElement, element);
+    verify(javascriptExecutor, times(1)).executeAsyncScript(anyString(), eq("css"),
+        eq("[id=\"parent\"]"), eq("css"), eq(".child"), eq(true), any());
+  }
+
+  @Test
+  public void testLocate_notDisplayedBeforeTimeout_throwsTimeout() {
+    when(automationWait.getTimeoutInSeconds()).thenReturn(0L);
+    assertThrows(TimeoutException.class, () -> ScriptElementLocator.locate(webDriverWrapper,
+        By.cssSelector(".child"), null, true));
+  }
+
+  @Test
+  public void testLocate_hiddenElementNotFound_throwsNoSuchElement() {
+    assertThrows(NoSuchElementException.class, () -> ScriptElementLocator.locate(webDriverWrapper,
+        By.cssSelector(".child"), null, false));
+    verify(javascriptExecutor, times(1)).executeAsyncScript(anyString(), any(), any(), any(),
+        any(), eq(false), eq(0L));
+  }
+
+  @Test
+  public void testLocate_invalidSelector_throwsInvalidSelector() {
+    when(javascriptExecutor.executeAsyncScript(anyString(), any(), any(), any(), any(), any(),
+        any())).thenReturn(Map.of("error", "SyntaxError"));
+    assertThrows(InvalidSelectorException.class, () -> ScriptElementLocator.locate(
+        webDriverWrapper, By.cssSelector("[[["), null, false));
+  }
+}
@@ -0,0 +1,128 @@
+package io.github.kgress.scaffold.sessionadmission;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.kgress.scaffold.SessionAdmissionController;
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties.SessionAdmission;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriverException;
+
+public class SessionAdmissionControllerTests {
+
+  private SessionAdmission sessionAdmission;
+
+  @BeforeEach
+  public void setup() {
+    sessionAdmission = new SessionAdmission();
+    sessionAdmission.setEnabled(true);
+    sessionAdmission.setInitialLimit(2);
+    sessionAdmission.setMinLimit(1);
+    sessionAdmission.setMaxLimit(2);
+    sessionAdmission.setMaxAttempts(3);
+    sessionAdmission.setInitialBackoffInMillis(1L);
+    sessionAdmission.setMaxBackoffInMillis(5L);
+  }
+
+  @Test
+  public void testAdmit_neverExceedsLimit() throws Exception {
+    var sessionAdmissionController = new SessionAdmissionController(sessionAdmission);
+    var stubHub = new StubHub(2);
+    var executor = Executors.newFixedThreadPool(8);
+    var sessions = new ArrayList<Future<String>>();
+    try {
+      for (var i = 0; i < 16; i++) {
+        sessions.add(executor.submit(
+            (Callable<String>) () -> sessionAdmissionController.admit(stubHub::newSession)));
+      }
+      for (var session : sessions) {
+        assertEquals("session", session.get(5, TimeUnit.SECONDS));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertTrue(stubHub.getMaxConcurrentRequests() <= 2);
+    assertEquals(0, sessionAdmissionController.getInFlight());
+  }
+
+  @Test
+  public void testAdmit_retriesWebDriverException() {
+    var sessionAdmissionController = new SessionAdmissionController(sessionAdmission);
+    var attempts = new AtomicInteger();
+    var session = sessionAdmissionController.admit(() -> {
+      if (attempts.incrementAndGet() == 1) {
+        throw new WebDriverException("Hub is at capacity");
+      }
+      return "session";
+    });
+    assertEquals("session", session);
+    assertEquals(2, attempts.get());
+  }
+
+  @Test
+  public void testAdmit_maxAttemptsReached_throwsLastFailure() {
+    var sessionAdmissionController = new SessionAdmissionController(sessionAdmission);
+    var attempts = new AtomicInteger();
+    assertThrows(WebDriverException.class, () -> sessionAdmissionController.admit(() -> {
+      attempts.incrementAndGet();
+      throw new WebDriverException("Hub is at capacity");
+    }));
+    assertEquals(3, attempts.get());
+    assertEquals(1, sessionAdmissionController.getLimit());
+  }
+
+  @Test
+  public void testAdmit_otherException_notRetried() {
+    var sessionAdmissionController = new SessionAdmissionController(sessionAdmission);
+    var attempts = new AtomicInteger();
+    assertThrows(IllegalStateException.class, () -> sessionAdmissionController.admit(() -> {
+      attempts.incrementAndGet();
+      throw new IllegalStateException("Bad configuration");
+    }));
+    assertEquals(1, attempts.get());
+    assertEquals(2, sessionAdmissionController.getLimit());
+  }
+
+  /**
+   * Simulates a hub that rejects session requests once more than its capacity are in flight.
+   */
+  private static class StubHub {
+
+    private final int capacity;
+    private final AtomicInteger concurrentRequests = new AtomicInteger();
+    private final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+
+    StubHub(int capacity) {
+      this.capacity = capacity;
+    }
+
+    String newSession() {
+      var current = concurrentRequests.incrementAndGet();
+      maxConcurrentRequests.accumulateAndGet(current, Math::max);
+      try {
+        if (current > capacity) {
+          throw new WebDriverException("Hub is at capacity");
+        }
+        Thread.sleep(10);
+        return "session";
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new WebDriverException(e);
+      } finally {
+        concurrentRequests.decrementAndGet();
+      }
+    }
+
+    int getMaxConcurrentRequests() {
+      return maxConcurrentRequests.get();
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package io.github.kgress.scaffold.sessioncircuitbreaker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.kgress.scaffold.SessionCircuitBreaker;
+import io.github.kgress.scaffold.SessionCircuitBreaker.State;
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties.CircuitBreaker;
+import io.github.kgress.scaffold.exception.WebDriverContextException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriverException;
+
+public class SessionCircuitBreakerTests {
+
+  private CircuitBreaker circuitBreaker;
+
+  @BeforeEach
+  public void setup() {
+    circuitBreaker = new CircuitBreaker();
+    circuitBreaker.setEnabled(true);
+    circuitBreaker.setFailureThreshold(2);
+    circuitBreaker.setOpenDurationInSeconds(600L);
+  }
+
+  @Test
+  public void testCall_failureThresholdReached_failsFast() {
+    var sessionCircuitBreaker = new SessionCircuitBreaker(circuitBreaker);
+    var attempts = new AtomicInteger();
+    var outage = new WebDriverException("Connection refused");
+    for (var i = 0; i < 2; i++) {
+      assertThrows(WebDriverException.class, () -> sessionCircuitBreaker.call(() -> {
+        attempts.incrementAndGet();
+        throw outage;
+      }));
+    }
+    assertEquals(State.OPEN, sessionCircuitBreaker.getState());
+
+    var exception = assertThrows(WebDriverContextException.class,
+        () -> sessionCircuitBreaker.call(() -> attempts.incrementAndGet()));
+    assertSame(outage, exception.getCause());
+    assertEquals(2, attempts.get());
+  }
+
+  @Test
+  public void testCall_successResetsFailures() {
+    var sessionCircuitBreaker = new SessionCircuitBreaker(circuitBreaker);
+    assertThrows(WebDriverException.class, () -> sessionCircuitBreaker.call(() -> {
+      throw new WebDriverException("Connection refused");
+    }));
+    assertEquals("session", sessionCircuitBreaker.call(() -> "session"));
+    assertThrows(WebDriverException.class, () -> sessionCircuitBreaker.call(() -> {
+      throw new WebDriverException("Connection refused");
+    }));
+    assertEquals(State.CLOSED, sessionCircuitBreaker.getState());
+  }
+
+  @Test
+  public void testCall_otherException_doesNotOpen() {
+    var sessionCircuitBreaker = new SessionCircuitBreaker(circuitBreaker);
+    for (var i = 0; i < 3; i++) {
+      assertThrows(IllegalStateException.class, () -> sessionCircuitBreaker.call(() -> {
+        throw new IllegalStateException("Bad configuration");
+      }));
+    }
+    assertEquals(State.CLOSED, sessionCircuitBreaker.getState());
+  }
+
+  @Test
+  public void testCall_halfOpen_singleProbe() {
+    circuitBreaker.setOpenDurationInSeconds(0L);
+    var sessionCircuitBreaker = new SessionCircuitBreaker(circuitBreaker);
+    for (var i = 0; i < 2; i++) {
+      assertThrows(WebDriverException.class, () -> sessionCircuitBreaker.call(() -> {
+        throw new WebDriverException("Connection refused");
+      }));
+    }
+    assertEquals(State.HALF_OPEN, sessionCircuitBreaker.getState());
+
+    // A second request while the probe is in flight fails fast
+    var session = sessionCircuitBreaker.call(() -> {
+      assertThrows(WebDriverContextException.class, () -> sessionCircuitBreaker.call(() -> "other"));
+      return "probe";
+    });
+    assertEquals("probe", session);
+    assertEquals(State.CLOSED, sessionCircuitBreaker.getState());
+  }
+
+  @Test
+  public void testCall_halfOpenProbeFails_opensAgain() {
+    circuitBreaker.setFailureThreshold(1);
+    circuitBreaker.setOpenDurationInSeconds(0L);
+    var sessionCircuitBreaker = new SessionCircuitBreaker(circuitBreaker);
+    assertThrows(WebDriverException.class, () -> sessionCircuitBreaker.call(() -> {
+      throw new WebDriverException("Connection refused");
+    }));
+    var probeAttempts = new AtomicInteger();
+    assertThrows(WebDriverException.class, () -> sessionCircuitBreaker.call(() -> {
+      probeAttempts.incrementAndGet();
+      throw new WebDriverException("Still refused");
+    }));
+    assertEquals(1, probeAttempts.get());
+    assertTrue(sessionCircuitBreaker.getState() != State.CLOSED);
+  }
+}
@@ -187,4 +187,64 @@ public class WebDriverValidationUtilTests extends BaseUnitTest {
     assertDoesNotThrow(() ->
         WebDriverValidationUtil.validateRequiredSauceAuth(caps));
   }
+
+  @Test
+  public void testDriverPool_minSizeAboveMaxSize_fails() {
+    caps.getDriverPool().setMinSize(5);
+    caps.getDriverPool().setMaxSize(2);
+    assertThrows(WebDriverManagerException.class, () ->
+        WebDriverValidationUtil.validateDriverPoolConfiguration(caps));
+  }
+
+  @Test
+  public void testDriverPool_negativeMaxUses_fails() {
+    caps.getDriverPool().setMaxUses(-1);
+    assertThrows(WebDriverManagerException.class, () ->
+        WebDriverValidationUtil.validateDriverPoolConfiguration(caps));
+  }
+
+  @Test
+  public void testDriverPool_succeeds() {
+    caps.getDriverPool().setMinSize(2);
+    caps.getDriverPool().setMaxSize(4);
+    assertDoesNotThrow(() ->
+        WebDriverValidationUtil.validateDriverPoolConfiguration(caps));
+  }
+
+  @Test
+  public void testDriverTeardown_zeroConcurrentQuits_fails() {
+    caps.getDriverTeardown().setMaxConcurrentQuits(0);
+    assertThrows(WebDriverManagerException.class, () ->
+        WebDriverValidationUtil.validateDriverTeardownConfiguration(caps));
+  }
+
+  @Test
+  public void testDriverTeardown_succeeds() {
+    caps.getDriverTeardown().setAsynchronous(true);
+    assertDoesNotThrow(() ->
+        WebDriverValidationUtil.validateDriverTeardownConfiguration(caps));
+  }
+
+  @Test
+  public void testSharedDriverService_zeroPoolSize_fails() {
+    caps.getSharedDriverService().setEnabled(true);
+    caps.getSharedDriverService().setPoolSize(0);
+    assertThrows(WebDriverManagerException.class, () ->
+        WebDriverValidationUtil.validateSharedDriverServiceConfiguration(caps));
+  }
+
+  @Test
+  public void testCircuitBreaker_zeroFailureThreshold_fails() {
+    caps.getCircuitBreaker().setEnabled(true);
+    caps.getCircuitBreaker().setFailureThreshold(0);
+    assertThrows(WebDriverManagerException.class, () ->
+        WebDriverValidationUtil.validateCircuitBreakerConfiguration(caps));
+  }
+
+  @Test
+  public void testCircuitBreaker_succeeds() {
+    caps.getCircuitBreaker().setEnabled(true);
+    assertDoesNotThrow(() ->
+        WebDriverValidationUtil.validateCircuitBreakerConfiguration(caps));
+  }
 }
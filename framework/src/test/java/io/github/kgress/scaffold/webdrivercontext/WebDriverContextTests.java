@@ -1,7 +1,11 @@
 package io.github.kgress.scaffold.webdrivercontext;
 
 import io.github.kgress.scaffold.*;
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
 import io.github.kgress.scaffold.exception.WebDriverContextException;
+import io.github.kgress.scaffold.exception.WebDriverManagerException;
+import io.github.kgress.scaffold.models.enums.desktop.RunType;
+import io.github.kgress.scaffold.models.enums.driver.DriverStartupType;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,6 +13,8 @@ import org.openqa.selenium.WebDriver;
 
 import static io.github.kgress.scaffold.util.AutomationUtils.getUniqueString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class WebDriverContextTests extends BaseUnitTest {
@@ -64,6 +70,64 @@ public class WebDriverContextTests extends BaseUnitTest {
         assertEquals(newWebDriverManager, actualWebDriverContext.getWebDriverManager());
     }
 
+    @Test
+    public void testInitDriverAsynchronous() {
+        var asyncCapabilities = new DesiredCapabilitiesConfigurationProperties();
+        asyncCapabilities.setRunType(RunType.UNIT);
+        asyncCapabilities.setDriverStartupType(DriverStartupType.ASYNCHRONOUS);
+        var asyncWebDriverManager = new TestWebDriverManager(asyncCapabilities, seleniumGridRestTemplate);
+
+        asyncWebDriverManager.initDriver_fromParent("Asynchronous Startup");
+        assertThrows(WebDriverContextException.class, () ->
+                asyncWebDriverManager.initDriver_fromParent("Asynchronous Startup Twice"));
+        assertNotNull(asyncWebDriverManager.getWebDriverWrapper_fromParent());
+    }
+
+    @Test
+    public void testInitDriverLazyNeverUsed() {
+        var lazyCapabilities = new DesiredCapabilitiesConfigurationProperties();
+        lazyCapabilities.setRunType(RunType.UNIT);
+        lazyCapabilities.setDriverStartupType(DriverStartupType.LAZY);
+        var lazyWebDriverManager = new TestWebDriverManager(lazyCapabilities, seleniumGridRestTemplate);
+        var avoidedSessions = WebDriverMetrics.getLazySessionsAvoided();
+
+        lazyWebDriverManager.initDriver_fromParent("Lazy Startup Never Used");
+        lazyWebDriverManager.closeDriver_fromParent();
+        assertEquals(avoidedSessions + 1, WebDriverMetrics.getLazySessionsAvoided());
+    }
+
+    @Test
+    public void testInitDriverLazyFirstUse() {
+        var lazyCapabilities = new DesiredCapabilitiesConfigurationProperties();
+        lazyCapabilities.setRunType(RunType.UNIT);
+        lazyCapabilities.setDriverStartupType(DriverStartupType.LAZY);
+        var lazyWebDriverManager = new TestWebDriverManager(lazyCapabilities, seleniumGridRestTemplate);
+        var startedSessions = WebDriverMetrics.getLazySessionsStarted();
+
+        lazyWebDriverManager.initDriver_fromParent("Lazy Startup First Use");
+        assertNotNull(lazyWebDriverManager.getWebDriverWrapper_fromParent());
+        assertEquals(startedSessions + 1, WebDriverMetrics.getLazySessionsStarted());
+    }
+
+    @Test
+    public void testInitDriverInvalidConfigurationFailsEveryTest() {
+        // Sauce without a browser type or credentials fails validation
+        var invalidCapabilities = new DesiredCapabilitiesConfigurationProperties();
+        invalidCapabilities.setRunType(RunType.SAUCE);
+        var firstWebDriverManager = new TestWebDriverManager(invalidCapabilities, seleniumGridRestTemplate);
+        var secondWebDriverManager = new TestWebDriverManager(invalidCapabilities, seleniumGridRestTemplate);
+        var templatesBuilt = WebDriverMetrics.getCapabilityTemplatesBuilt();
+
+        var firstFailure = assertThrows(WebDriverManagerException.class, () ->
+                firstWebDriverManager.initDriver_fromParent("Invalid Configuration"));
+        var secondFailure = assertThrows(WebDriverManagerException.class, () ->
+                secondWebDriverManager.initDriver_fromParent("Invalid Configuration Again"));
+
+        // The configuration is validated once, and the same failure is thrown for every test
+        assertEquals(templatesBuilt + 1, WebDriverMetrics.getCapabilityTemplatesBuilt());
+        assertSame(firstFailure, secondFailure);
+    }
+
     @Test
     public void testExceptionGet() {
         var t = new Throwable("Exception");
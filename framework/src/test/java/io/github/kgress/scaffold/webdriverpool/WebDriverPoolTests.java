@@ -0,0 +1,86 @@
+package io.github.kgress.scaffold.webdriverpool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.github.kgress.scaffold.WebDriverPool;
+import io.github.kgress.scaffold.WebDriverWrapper;
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties.DriverPool;
+import io.github.kgress.scaffold.exception.WebDriverContextException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class WebDriverPoolTests {
+
+  private DriverPool driverPool;
+  private WebDriverPool webDriverPool;
+
+  @BeforeEach
+  public void setup() {
+    driverPool = new DriverPool();
+    driverPool.setEnabled(true);
+    driverPool.setMaxSize(1);
+    driverPool.setLeaseTimeoutInSeconds(1L);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    if (webDriverPool != null) {
+      webDriverPool.shutdown();
+    }
+  }
+
+  @Test
+  public void testLease_reusesReleasedDriver() {
+    webDriverPool = new WebDriverPool(driverPool, () -> mock(WebDriverWrapper.class));
+
+    var firstLease = webDriverPool.lease();
+    webDriverPool.release(firstLease);
+    var secondLease = webDriverPool.lease();
+
+    assertEquals(firstLease, secondLease);
+    assertEquals(1, webDriverPool.getSize());
+  }
+
+  @Test
+  public void testRelease_maxUsesReached_quitsDriver() {
+    driverPool.setMaxUses(1);
+    webDriverPool = new WebDriverPool(driverPool, () -> mock(WebDriverWrapper.class));
+
+    var firstLease = webDriverPool.lease();
+    webDriverPool.release(firstLease);
+    verify(firstLease, timeout(1000)).quit();
+
+    var secondLease = webDriverPool.lease();
+    assertNotEquals(firstLease, secondLease);
+  }
+
+  @Test
+  public void testLease_poolExhausted_timesOut() {
+    webDriverPool = new WebDriverPool(driverPool, () -> mock(WebDriverWrapper.class));
+    webDriverPool.lease();
+    assertThrows(WebDriverContextException.class, () -> webDriverPool.lease());
+  }
+
+  @Test
+  public void testLease_factoryFails_freesSlot() {
+    webDriverPool = new WebDriverPool(driverPool, () -> {
+      throw new WebDriverContextException("Could not start browser");
+    });
+    assertThrows(WebDriverContextException.class, () -> webDriverPool.lease());
+    assertEquals(0, webDriverPool.getSize());
+  }
+
+  @Test
+  public void testRelease_unknownDriver_quitsDriver() {
+    webDriverPool = new WebDriverPool(driverPool, () -> mock(WebDriverWrapper.class));
+    var unknownDriver = mock(WebDriverWrapper.class);
+    webDriverPool.release(unknownDriver);
+    verify(unknownDriver).quit();
+  }
+}
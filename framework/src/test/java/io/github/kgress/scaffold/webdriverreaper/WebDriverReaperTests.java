@@ -0,0 +1,86 @@
+package io.github.kgress.scaffold.webdriverreaper;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.github.kgress.scaffold.WebDriverReaper;
+import io.github.kgress.scaffold.WebDriverWrapper;
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties.DriverTeardown;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class WebDriverReaperTests {
+
+  private DriverTeardown driverTeardown;
+  private WebDriverReaper webDriverReaper;
+
+  @BeforeEach
+  public void setup() {
+    driverTeardown = new DriverTeardown();
+    driverTeardown.setAsynchronous(true);
+    driverTeardown.setMaxConcurrentQuits(1);
+    driverTeardown.setMaxPendingQuits(1);
+    driverTeardown.setShutdownTimeoutInSeconds(5L);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    if (webDriverReaper != null) {
+      webDriverReaper.drain();
+    }
+  }
+
+  @Test
+  public void testQuit_quitsInBackground() {
+    webDriverReaper = new WebDriverReaper(driverTeardown);
+    var webDriverWrapper = mock(WebDriverWrapper.class);
+    webDriverReaper.quit(webDriverWrapper);
+    verify(webDriverWrapper, timeout(1000)).quit();
+  }
+
+  @Test
+  public void testQuit_queueFull_quitsOnCallingThread() throws InterruptedException {
+    webDriverReaper = new WebDriverReaper(driverTeardown);
+    var quitStarted = new CountDownLatch(1);
+    var releaseQuit = new CountDownLatch(1);
+    var slowWebDriverWrapper = mock(WebDriverWrapper.class);
+    doAnswer(invocation -> {
+      quitStarted.countDown();
+      releaseQuit.await(5, TimeUnit.SECONDS);
+      return null;
+    }).when(slowWebDriverWrapper).quit();
+
+    // One browser quitting and one waiting fills the reaper, so the third is quit on this thread
+    webDriverReaper.quit(slowWebDriverWrapper);
+    assertTrue(quitStarted.await(1, TimeUnit.SECONDS));
+    webDriverReaper.quit(mock(WebDriverWrapper.class));
+    var callerWebDriverWrapper = mock(WebDriverWrapper.class);
+    webDriverReaper.quit(callerWebDriverWrapper);
+    verify(callerWebDriverWrapper).quit();
+    releaseQuit.countDown();
+  }
+
+  @Test
+  public void testDrain_waitsOnPendingQuits() {
+    webDriverReaper = new WebDriverReaper(driverTeardown);
+    var webDriverWrapper = mock(WebDriverWrapper.class);
+    webDriverReaper.quit(webDriverWrapper);
+    assertTrue(webDriverReaper.drain());
+    verify(webDriverWrapper).quit();
+  }
+
+  @Test
+  public void testQuit_afterDrain_quitsOnCallingThread() {
+    webDriverReaper = new WebDriverReaper(driverTeardown);
+    webDriverReaper.drain();
+    var webDriverWrapper = mock(WebDriverWrapper.class);
+    webDriverReaper.quit(webDriverWrapper);
+    verify(webDriverWrapper).quit();
+  }
+}
@@ -6,10 +6,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriver.Options;
+import org.openqa.selenium.WebDriver.TargetLocator;
 import org.openqa.selenium.WebElement;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -101,6 +106,30 @@ public class WebDriverWrapperTests extends BaseUnitTest {
         assertEquals(tenSeconds, automationWaitInSeconds);
     }
 
+    @Test
+    public void testResetSession() {
+        var javascriptWebDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        var mockOptions = mock(Options.class);
+        var mockTargetLocator = mock(TargetLocator.class);
+        var windowHandles = new LinkedHashSet<>(List.of("base", "popup"));
+        when(javascriptWebDriver.getWindowHandles()).thenReturn(windowHandles);
+        when(javascriptWebDriver.getWindowHandle()).thenReturn("base");
+        when(javascriptWebDriver.switchTo()).thenReturn(mockTargetLocator);
+        when(javascriptWebDriver.manage()).thenReturn(mockOptions);
+
+        var resettableWebDriverWrapper = new TestWebDriverWrapper(javascriptWebDriver, 1L);
+        resettableWebDriverWrapper.getAutomationWait().setTimeoutInSeconds(60L);
+        resettableWebDriverWrapper.resetSession_fromParent();
+
+        verify(mockTargetLocator).window("popup");
+        verify(javascriptWebDriver, times(1)).close();
+        verify(mockOptions).deleteAllCookies();
+        verify((JavascriptExecutor) javascriptWebDriver).executeScript(anyString());
+        verify(javascriptWebDriver).get("about:blank");
+        assertEquals(List.of("base"), resettableWebDriverWrapper.getRegisteredWindows());
+        assertEquals(1L, resettableWebDriverWrapper.getAutomationWait().getTimeoutInSeconds());
+    }
+
     protected TestWebDriverWrapper createTestWebDriverWrapper() {
         return new TestWebDriverWrapper(mockBaseWebDriver, 1L);
     }
@@ -4,7 +4,6 @@ import io.github.kgress.scaffold.BaseUnitTest;
 import io.github.kgress.scaffold.SharedTestVariables;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.By;
-import org.openqa.selenium.WebElement;
 
 import static org.mockito.Mockito.*;
 
@@ -22,14 +21,30 @@ public class BaseClickableTests extends BaseUnitTest {
         clickAndVerifyIsClicked(element);
     }
 
+    @Test
+    public void testBaseClickable_click_notNavigating_skipsPageLoadWait() {
+        var element = new TestBaseClickableWebElement(SharedTestVariables.CSS_SELECTOR1);
+        clickAndVerifyIsClicked(element);
+        verify(mockWebElementWait, never()).waitUntilPageIsLoaded();
+        verify(mockJavascriptExecutor, never())
+                .executeScript(SharedTestVariables.SCROLL_INTO_VIEW_SCRIPT, mockRawWebElement);
+    }
+
+    @Test
+    public void testBaseClickable_click_navigated_waitsForPageLoad() {
+        var element = new TestBaseClickableWebElement(SharedTestVariables.CSS_SELECTOR1);
+        when(mockWebElementWait.waitUntilDisplayed()).thenReturn(mockRawWebElement);
+        when(element.getRawWebElement()).thenReturn(mockRawWebElement);
+        setWhenPrepareClickSucceed(true);
+        element.click();
+        verify(mockRawWebElement, times(1)).click();
+        verify(mockWebElementWait, times(1)).waitUntilPageIsLoaded();
+    }
+
     private void clickAndVerifyIsClicked(TestBaseClickableWebElement element) {
         when(mockWebElementWait.waitUntilDisplayed()).thenReturn(mockRawWebElement);
         when(element.getRawWebElement()).thenReturn(mockRawWebElement);
-        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
-        when((WebElement) mockWebDriverWrapper
-                .getJavascriptExecutor()
-                .executeScript(SharedTestVariables.SCROLL_INTO_VIEW_SCRIPT, mockRawWebElement))
-                .thenReturn(mockRawWebElement);
+        setWhenPrepareClickSucceed(false);
         element.click();
         verify(mockRawWebElement, times(1)).click();
     }
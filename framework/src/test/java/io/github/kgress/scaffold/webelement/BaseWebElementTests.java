@@ -4,23 +4,33 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.github.kgress.scaffold.BaseUnitTest;
 import io.github.kgress.scaffold.MockBaseWebElement;
 import io.github.kgress.scaffold.SharedTestVariables;
 import io.github.kgress.scaffold.util.AutomationUtils;
+import io.github.kgress.scaffold.webelements.DivWebElement;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.By;
 import org.openqa.selenium.Dimension;
 import org.openqa.selenium.Point;
 import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebElement;
 
@@ -131,6 +141,35 @@ public class BaseWebElementTests extends BaseUnitTest {
         assertEquals(SharedTestVariables.TAG_NAME_1, elementByCssSelector.getTagName());
     }
 
+    @Test
+    public void testGetRawWebElement_reusesCachedElement() {
+        when(mockWebDriverWrapper.findElement(expectedBy)).thenReturn(mockRawWebElement);
+        when(mockRawWebElement.getText()).thenReturn(SharedTestVariables.TEXT_1);
+        when(mockRawWebElement.getTagName()).thenReturn(SharedTestVariables.TAG_NAME_1);
+        assertEquals(SharedTestVariables.TEXT_1, elementByCssSelector.getText());
+        assertEquals(SharedTestVariables.TAG_NAME_1, elementByCssSelector.getTagName());
+        verify(mockWebDriverWrapper, times(1)).findElement(expectedBy);
+    }
+
+    @Test
+    public void testGetRawWebElement_afterNavigation_findsElementAgain() {
+        when(mockWebDriverWrapper.findElement(expectedBy)).thenReturn(mockRawWebElement);
+        when(mockWebDriverWrapper.getNavigationCount()).thenReturn(0L, 1L);
+        elementByCssSelector.getText();
+        elementByCssSelector.getText();
+        verify(mockWebDriverWrapper, times(2)).findElement(expectedBy);
+    }
+
+    @Test
+    public void testGetText_staleCachedElement_findsElementAgain() {
+        when(mockWebDriverWrapper.findElement(expectedBy)).thenReturn(mockRawWebElement);
+        when(mockRawWebElement.getText())
+                .thenThrow(new StaleElementReferenceException("stale"))
+                .thenReturn(SharedTestVariables.TEXT_1);
+        assertEquals(SharedTestVariables.TEXT_1, elementByCssSelector.getText());
+        verify(mockWebDriverWrapper, times(2)).findElement(expectedBy);
+    }
+
     @Test
     public void testGetLocation_byCss() {
         setBaseWhen(elementByCssSelector);
@@ -519,4 +558,109 @@ public class BaseWebElementTests extends BaseUnitTest {
         assertThat(reservationCards).isNotNull();
         assertThat(reservationCards).isEmpty();
     }
+
+    @Test
+    public void testBaseWebElement_findElements_immediateChildren_singleScript() {
+        final By parentBySelector = By.className("reservation-container");
+        final By rootChildBySelector = By.className("reservation-card-container");
+        final WebElement webElement = mock(WebElement.class);
+        TestBaseWebElement parentElement = new TestBaseWebElement(parentBySelector);
+        when(parentElement.getRawWebElement()).thenReturn(webElement);
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        // the parent has a rogue child at the second index, so the cards are nonsequential
+        when(mockJavascriptExecutor.executeScript(anyString(), any(), any(), any(), any()))
+            .thenReturn(Map.of("matchCount", 2L, "childCount", 3L, "indexes", List.of(0L, 2L)));
+
+        List<MockBaseWebElement> reservationCards =
+            parentElement.findElements(MockBaseWebElement.class, rootChildBySelector, true);
+
+        assertThat(reservationCards).hasSize(2);
+        assertThat(AutomationUtils.getUnderlyingLocatorByString(reservationCards.get(0).getBy()))
+            .isEqualTo(".reservation-card-container:nth-child(1)");
+        assertThat(AutomationUtils.getUnderlyingLocatorByString(reservationCards.get(1).getBy()))
+            .isEqualTo(".reservation-card-container:nth-child(3)");
+        verify(mockJavascriptExecutor, times(1)).executeScript(anyString(), eq(webElement),
+            eq(".reservation-card-container"), eq("class"), eq("reservation-card-container"));
+        verify(webElement, never()).findElements(any());
+    }
+
+    @Test
+    public void testBaseWebElement_findElements_immediateChildren_allChildrenMatch() {
+        final By parentBySelector = By.cssSelector("ul.reservations");
+        final By rootChildBySelector = By.cssSelector("li");
+        final WebElement webElement = mock(WebElement.class);
+        TestBaseWebElement parentElement = new TestBaseWebElement(parentBySelector);
+        when(parentElement.getRawWebElement()).thenReturn(webElement);
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), any(), any(), any(), any()))
+            .thenReturn(Map.of("matchCount", 2L, "childCount", 2L, "indexes", List.of()));
+
+        List<MockBaseWebElement> reservations =
+            parentElement.findElements(MockBaseWebElement.class, rootChildBySelector, true);
+
+        assertThat(reservations).hasSize(2);
+        assertThat(AutomationUtils.getUnderlyingLocatorByString(reservations.get(0).getBy()))
+            .isEqualTo("ul.reservations li:nth-child(1)");
+        assertThat(AutomationUtils.getUnderlyingLocatorByString(reservations.get(1).getBy()))
+            .isEqualTo("ul.reservations li:nth-child(2)");
+        verify(webElement, never()).findElements(any());
+    }
+
+    @Test
+    public void testBaseWebElement_streamElements_readsInChunks() {
+        final By parentBySelector = By.cssSelector("div.admin-grid");
+        final By rootChildBySelector = By.cssSelector("div.row");
+        final WebElement webElement = mock(WebElement.class);
+        TestBaseWebElement parentElement = new TestBaseWebElement(parentBySelector);
+        when(parentElement.getRawWebElement()).thenReturn(webElement);
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        // the second sibling is a rogue div, so the rows are nonsequential
+        when(mockJavascriptExecutor.executeScript(anyString(), any(), any(), any(), any()))
+            .thenReturn(Map.of("indexes", List.of(0L, 2L), "nextOffset", 3L, "last", false))
+            .thenReturn(Map.of("indexes", List.of(3L), "nextOffset", 4L, "last", true));
+
+        List<String> rows = parentElement.streamElements(MockBaseWebElement.class, rootChildBySelector, 2)
+            .map(row -> AutomationUtils.getUnderlyingLocatorByString(row.getBy()))
+            .collect(Collectors.toList());
+
+        assertThat(rows).containsExactly(
+            "div.admin-grid div.row:nth-child(1)",
+            "div.admin-grid div.row:nth-child(3)",
+            "div.admin-grid div.row:nth-child(4)");
+        verify(mockJavascriptExecutor).executeScript(anyString(), eq(webElement), eq("div.row"),
+            eq(0), eq(2));
+        verify(mockJavascriptExecutor).executeScript(anyString(), eq(webElement), eq("div.row"),
+            eq(3), eq(2));
+        verify(webElement, never()).findElements(any());
+    }
+
+    @Test
+    public void testBaseWebElement_streamElements_readsOnlyWhatIsConsumed() {
+        final By parentBySelector = By.cssSelector("div.admin-grid");
+        final By rootChildBySelector = By.cssSelector("div.row");
+        final WebElement webElement = mock(WebElement.class);
+        TestBaseWebElement parentElement = new TestBaseWebElement(parentBySelector);
+        when(parentElement.getRawWebElement()).thenReturn(webElement);
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), any(), any(), any(), any()))
+            .thenReturn(Map.of("indexes", List.of(0L, 1L), "nextOffset", 2L, "last", false));
+
+        var rows = parentElement.streamElements(MockBaseWebElement.class, rootChildBySelector, 2);
+        verify(mockJavascriptExecutor, never()).executeScript(anyString(), any(), any(), any(), any());
+
+        var firstRow = rows.findFirst();
+
+        assertThat(firstRow).isPresent();
+        verify(mockJavascriptExecutor, times(1)).executeScript(anyString(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void testGetWebElementWait_createdOnFirstUse() {
+        var element = new DivWebElement(SharedTestVariables.CSS_SELECTOR1);
+
+        var webElementWait = element.getWebElementWait();
+
+        assertSame(element, webElementWait.getElement());
+        assertSame(webElementWait, element.getWebElementWait());
+    }
 }
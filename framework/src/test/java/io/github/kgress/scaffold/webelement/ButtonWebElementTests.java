@@ -19,7 +19,7 @@ public class ButtonWebElementTests extends BaseUnitTest {
     @Test
     public void testButtonWebElement_byCss_click() {
         setBaseWhen(elementByCssSelector);
-        setWhenScrollIntoViewSucceed();
+        setWhenPrepareClickSucceed(false);
         elementByCssSelector.click();
         verify(mockRawWebElement, times(1)).click();
     }
@@ -185,7 +185,7 @@ public class ButtonWebElementTests extends BaseUnitTest {
     @Test
     public void testButtonWebElement_byClass_click() {
         setBaseWhen(elementByClass);
-        setWhenScrollIntoViewSucceed();
+        setWhenPrepareClickSucceed(false);
         elementByClass.click();
         verify(mockRawWebElement, times(1)).click();
     }
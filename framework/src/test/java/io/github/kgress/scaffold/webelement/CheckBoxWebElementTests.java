@@ -34,7 +34,7 @@ public class CheckBoxWebElementTests extends BaseUnitTest {
     @Test
     public void testCheckboxWebElement_byCss_click() {
         setBaseWhen(elementByCssSelector);
-        setWhenScrollIntoViewSucceed();
+        setWhenPrepareClickSucceed(false);
         elementByCssSelector.click();
         verify(mockRawWebElement, times(1)).click();
     }
@@ -216,7 +216,7 @@ public class CheckBoxWebElementTests extends BaseUnitTest {
     @Test
     public void testCheckboxWebElement_byClass_click() {
         setBaseWhen(elementByClass);
-        setWhenScrollIntoViewSucceed();
+        setWhenPrepareClickSucceed(false);
         elementByClass.click();
         verify(mockRawWebElement, times(1)).click();
     }
@@ -18,7 +18,7 @@ public class DivWebElementTests extends BaseUnitTest {
     @Test
     public void testDivWebElement_byCss_click() {
         setBaseWhen(elementByCssSelector);
-        setWhenScrollIntoViewSucceed();
+        setWhenPrepareClickSucceed(false);
         elementByCssSelector.click();
         verify(mockRawWebElement, times(1)).click();
     }
@@ -184,7 +184,7 @@ public class DivWebElementTests extends BaseUnitTest {
     @Test
     public void testDivWebElement_byClass_click() {
         setBaseWhen(elementByClass);
-        setWhenScrollIntoViewSucceed();
+        setWhenPrepareClickSucceed(false);
         elementByClass.click();
         verify(mockRawWebElement, times(1)).click();
     }
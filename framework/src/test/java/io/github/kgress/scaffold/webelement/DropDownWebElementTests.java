@@ -54,7 +54,7 @@ public class DropDownWebElementTests extends BaseUnitTest {
     @Test
     public void testDropDownWebElement_byCss_click() {
         setBaseWhen(elementByCssSelector);
-        setWhenScrollIntoViewSucceed();
+        setWhenPrepareClickSucceed(false);
         elementByCssSelector.click();
         verify(mockRawWebElement, times(1)).click();
     }
@@ -245,7 +245,7 @@ public class DropDownWebElementTests extends BaseUnitTest {
     @Test
     public void testDropDownWebElement_byClass_click() {
         setBaseWhen(elementByClass);
-        setWhenScrollIntoViewSucceed();
+        setWhenPrepareClickSucceed(false);
         elementByClass.click();
         verify(mockRawWebElement, times(1)).click();
     }
@@ -28,7 +28,7 @@ public class ImageWebElementTests extends BaseUnitTest {
     @Test
     public void testImageWebElement_byCss_click() {
         setBaseWhen(elementByCssSelector);
-        setWhenScrollIntoViewSucceed();
+        setWhenPrepareClickSucceed(false);
         elementByCssSelector.click();
         verify(mockRawWebElement, times(1)).click();
     }
@@ -203,7 +203,7 @@ public class ImageWebElementTests extends BaseUnitTest {
     @Test
     public void testImageWebElement_byClass_click() {
         setBaseWhen(elementByClass);
-        setWhenScrollIntoViewSucceed();
+        setWhenPrepareClickSucceed(false);
         elementByClass.click();
         verify(mockRawWebElement, times(1)).click();
     }
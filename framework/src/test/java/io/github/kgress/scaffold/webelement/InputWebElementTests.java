@@ -36,7 +36,7 @@ public class InputWebElementTests extends BaseUnitTest {
     @Test
     public void testInputWebElement_byCss_click() {
         setBaseWhen(elementByCssSelector);
-        setWhenScrollIntoViewSucceed();
+        setWhenPrepareClickSucceed(false);
         elementByCssSelector.click();
         verify(mockRawWebElement, times(1)).click();
     }
@@ -219,7 +219,7 @@ public class InputWebElementTests extends BaseUnitTest {
     @Test
     public void testInputWebElement_byClass_click() {
         setBaseWhen(elementByClass);
-        setWhenScrollIntoViewSucceed();
+        setWhenPrepareClickSucceed(false);
         elementByClass.click();
         verify(mockRawWebElement, times(1)).click();
     }
@@ -35,7 +35,7 @@ public class LinkWebElementTests extends BaseUnitTest {
     @Test
     public void testLinkWebElement_byCss_click() {
         setBaseWhen(elementByCssSelector);
-        setWhenScrollIntoViewSucceed();
+        setWhenPrepareClickSucceed(false);
         elementByCssSelector.click();
         verify(mockRawWebElement, times(1)).click();
     }
@@ -218,7 +218,7 @@ public class LinkWebElementTests extends BaseUnitTest {
     @Test
     public void testLinkWebElement_byClass_click() {
         setBaseWhen(elementByClass);
-        setWhenScrollIntoViewSucceed();
+        setWhenPrepareClickSucceed(false);
         elementByClass.click();
         verify(mockRawWebElement, times(1)).click();
     }
@@ -35,7 +35,7 @@ public class RadioWebElementTests extends BaseUnitTest {
     @Test
     public void testRadioWebElement_byCss_click() {
         setBaseWhen(elementByCssSelector);
-        setWhenScrollIntoViewSucceed();
+        setWhenPrepareClickSucceed(false);
         elementByCssSelector.click();
         verify(mockRawWebElement, times(1)).click();
     }
@@ -217,7 +217,7 @@ public class RadioWebElementTests extends BaseUnitTest {
     @Test
     public void testRadioWebElement_byClass_click() {
         setBaseWhen(elementByClass);
-        setWhenScrollIntoViewSucceed();
+        setWhenPrepareClickSucceed(false);
         elementByClass.click();
         verify(mockRawWebElement, times(1)).click();
     }
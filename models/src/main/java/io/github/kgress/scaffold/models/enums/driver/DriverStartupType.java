@@ -0,0 +1,23 @@
+package io.github.kgress.scaffold.models.enums.driver;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A simple enum to differentiate when the browser for a test is started.
+ * <p>
+ * {@link #SYNCHRONOUS} starts the browser during test setup and waits for it to be ready. {@link
+ * #ASYNCHRONOUS} starts the browser on a background thread during test setup, so the rest of the
+ * setup can run while the browser boots. The test only waits for the browser when it first needs
+ * it. {@link #LAZY} doesn't start the browser until the test first needs it, so tests that never
+ * use a browser never start one.
+ */
+@Getter
+@AllArgsConstructor
+public enum DriverStartupType {
+  SYNCHRONOUS("Synchronous"),
+  ASYNCHRONOUS("Asynchronous"),
+  LAZY("Lazy");
+
+  private final String driverStartupType;
+}
@@ -0,0 +1,21 @@
+package io.github.kgress.scaffold.models.enums.driver;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A simple enum to differentiate how an element is found when it's interacted with.
+ * <p>
+ * {@link #WEBDRIVER} waits for the element to be displayed, then finds the parent element and the
+ * element with separate WebDriver commands. {@link #SCRIPT} finds the parent element and the
+ * element and waits for it to be displayed in a single script that polls inside the browser, so
+ * finding an element is usually a single round trip to the browser.
+ */
+@Getter
+@AllArgsConstructor
+public enum ElementLocateStrategy {
+  WEBDRIVER("WebDriver"),
+  SCRIPT("Script");
+
+  private final String elementLocateStrategy;
+}
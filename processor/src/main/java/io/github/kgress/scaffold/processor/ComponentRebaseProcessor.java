@@ -0,0 +1,192 @@
+package io.github.kgress.scaffold.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates a {@code ComponentRebase} for every component marked with {@code GenerateRebase}. The
+ * generated class replaces each {@code BaseWebElement} field declared on the component with a new
+ * element under a parent selector, by setting the fields directly. {@code BaseComponent} finds the
+ * generated class by name when building component lists, so the framework doesn't depend on this
+ * module.
+ * <p>
+ * Components that can't be rebased without reflection fail the compilation with an error on the
+ * offending class or field, rather than silently falling back to reflection at runtime.
+ */
+@SupportedAnnotationTypes(ComponentRebaseProcessor.GENERATE_REBASE)
+public class ComponentRebaseProcessor extends AbstractProcessor {
+
+  static final String GENERATE_REBASE = "io.github.kgress.scaffold.GenerateRebase";
+  static final String COMPONENT_REBASE = "io.github.kgress.scaffold.ComponentRebase";
+  static final String BASE_COMPONENT = "io.github.kgress.scaffold.BaseComponent";
+  static final String BASE_WEB_ELEMENT = "io.github.kgress.scaffold.BaseWebElement";
+  static final String SUFFIX = "_ScaffoldRebase";
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    var generateRebase = processingEnv.getElementUtils().getTypeElement(GENERATE_REBASE);
+    if (generateRebase == null) {
+      return false;
+    }
+    for (var element : roundEnv.getElementsAnnotatedWith(generateRebase)) {
+      if (element.getKind() != ElementKind.CLASS) {
+        error(element, "@GenerateRebase can only be used on a class extending BaseComponent");
+        continue;
+      }
+      var component = (TypeElement) element;
+      var fields = getRebaseFields(component);
+      if (fields != null) {
+        writeComponentRebase(component, fields);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks that the component can be rebased without reflection, and gets its element fields.
+   *
+   * @param component the component marked with {@code GenerateRebase}
+   * @return the {@code BaseWebElement} fields declared on the component, or null when the component
+   * can't be rebased
+   */
+  private List<VariableElement> getRebaseFields(TypeElement component) {
+    var baseComponent = getErasedType(BASE_COMPONENT);
+    var baseWebElement = getErasedType(BASE_WEB_ELEMENT);
+    if (baseComponent == null || baseWebElement == null) {
+      error(component, "@GenerateRebase requires the Scaffold framework on the classpath");
+      return null;
+    }
+
+    var valid = true;
+    if (!isAssignable(component.asType(), baseComponent)) {
+      error(component, "@GenerateRebase can only be used on a class extending BaseComponent");
+      valid = false;
+    }
+    if (component.getModifiers().contains(Modifier.ABSTRACT)) {
+      error(component, "@GenerateRebase can't be used on an abstract component");
+      valid = false;
+    }
+    for (Element type = component; type instanceof TypeElement;
+        type = type.getEnclosingElement()) {
+      if (type.getModifiers().contains(Modifier.PRIVATE)) {
+        error(type, "@GenerateRebase can't rebase a component in a private class");
+        valid = false;
+      }
+      if (type.getEnclosingElement() instanceof TypeElement
+          && !type.getModifiers().contains(Modifier.STATIC)) {
+        error(type, "@GenerateRebase can't rebase a component in an inner class. "
+            + "Make the class static");
+        valid = false;
+      }
+    }
+
+    var fields = new ArrayList<VariableElement>();
+    for (var field : ElementFilter.fieldsIn(component.getEnclosedElements())) {
+      if (field.getModifiers().contains(Modifier.STATIC)
+          || !isAssignable(field.asType(), baseWebElement)) {
+        continue;
+      }
+      if (field.getModifiers().contains(Modifier.PRIVATE)
+          || field.getModifiers().contains(Modifier.FINAL)) {
+        error(field, String.format("@GenerateRebase can't rebase private or final field [%s]. "
+            + "Make the field non-private and non-final, or remove @GenerateRebase from [%s]",
+            field.getSimpleName(), component.getSimpleName()));
+        valid = false;
+        continue;
+      }
+      fields.add(field);
+    }
+    return valid ? fields : null;
+  }
+
+  /**
+   * Writes the generated {@code ComponentRebase} for the component, in the component's package.
+   *
+   * @param component the component marked with {@code GenerateRebase}
+   * @param fields    the {@code BaseWebElement} fields to rebase
+   */
+  private void writeComponentRebase(TypeElement component, List<VariableElement> fields) {
+    var packageName = processingEnv.getElementUtils().getPackageOf(component)
+        .getQualifiedName().toString();
+    var rebaseName = getFlatName(component) + SUFFIX;
+    var qualifiedRebaseName = packageName.isEmpty() ? rebaseName : packageName + "." + rebaseName;
+    var componentName = component.getQualifiedName().toString();
+    var generated = processingEnv.getElementUtils()
+        .getTypeElement("javax.annotation.processing.Generated") != null;
+
+    try (var writer = new PrintWriter(processingEnv.getFiler()
+        .createSourceFile(qualifiedRebaseName, component).openWriter())) {
+      if (!packageName.isEmpty()) {
+        writer.printf("package %s;%n%n", packageName);
+      }
+      writer.printf("/**%n * Rebases the elements of {@link %s}. Generated by Scaffold.%n */%n",
+          componentName);
+      if (generated) {
+        writer.printf("@javax.annotation.processing.Generated(\"%s\")%n", getClass().getName());
+      }
+      writer.printf("public final class %s implements %s<%s> {%n%n", rebaseName,
+          COMPONENT_REBASE, componentName);
+      writer.printf("  @Override%n");
+      writer.printf("  public void rebase(%s component, String parentSelector) {%n",
+          componentName);
+      for (var field : fields) {
+        writer.printf("    component.%1$s = %2$s.rebase(component.%1$s, parentSelector);%n",
+            field.getSimpleName(), COMPONENT_REBASE);
+      }
+      writer.printf("  }%n}%n");
+    } catch (IOException e) {
+      error(component, String.format("Could not write [%s]: %s", qualifiedRebaseName,
+          e.getMessage()));
+    }
+  }
+
+  /**
+   * Gets the name of a class along with every class it's nested in, joined with underscores. This
+   * matches the name {@code BaseComponent} looks up at runtime.
+   *
+   * @param component the component
+   * @return as {@link String}
+   */
+  private String getFlatName(TypeElement component) {
+    var name = new StringBuilder(component.getSimpleName());
+    for (var enclosing = component.getEnclosingElement(); enclosing instanceof TypeElement;
+        enclosing = enclosing.getEnclosingElement()) {
+      name.insert(0, ((TypeElement) enclosing).getSimpleName() + "_");
+    }
+    return name.toString();
+  }
+
+  private TypeMirror getErasedType(String name) {
+    var type = processingEnv.getElementUtils().getTypeElement(name);
+    return type == null ? null : processingEnv.getTypeUtils().erasure(type.asType());
+  }
+
+  private boolean isAssignable(TypeMirror type, TypeMirror erasedSuperType) {
+    return processingEnv.getTypeUtils()
+        .isAssignable(processingEnv.getTypeUtils().erasure(type), erasedSuperType);
+  }
+
+  private void error(Element element, String message) {
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+  }
+}
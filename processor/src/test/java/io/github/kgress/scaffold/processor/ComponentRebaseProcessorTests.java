@@ -0,0 +1,169 @@
+package io.github.kgress.scaffold.processor;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ComponentRebaseProcessorTests {
+
+  /*
+   Stand-ins for the framework classes the processor looks up by name, so the processor can be
+   tested without depending on the framework module.
+   */
+  private static final List<JavaFileObject> FRAMEWORK_SOURCES = List.of(
+      source("io.github.kgress.scaffold.GenerateRebase", ""
+          + "package io.github.kgress.scaffold;"
+          + "public @interface GenerateRebase {}"),
+      source("io.github.kgress.scaffold.BaseComponent", ""
+          + "package io.github.kgress.scaffold;"
+          + "public class BaseComponent {}"),
+      source("io.github.kgress.scaffold.BaseWebElement", ""
+          + "package io.github.kgress.scaffold;"
+          + "public class BaseWebElement {}"),
+      source("io.github.kgress.scaffold.ComponentRebase", ""
+          + "package io.github.kgress.scaffold;"
+          + "public interface ComponentRebase<T extends BaseComponent> {"
+          + "  void rebase(T component, String parentSelector);"
+          + "  static <X extends BaseWebElement> X rebase(X element, String parentSelector) {"
+          + "    return element;"
+          + "  }"
+          + "}"));
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  public void testProcess_generatesComponentRebase() throws IOException {
+    var errors = compile("test.ItemComponent", ""
+        + "package test;"
+        + "import io.github.kgress.scaffold.*;"
+        + "@GenerateRebase "
+        + "public class ItemComponent extends BaseComponent {"
+        + "  BaseWebElement itemName = new BaseWebElement();"
+        + "  private String notAnElement = \"\";"
+        + "}");
+
+    assertTrue(errors.isEmpty(), errors.toString());
+    var generated = tempDir.resolve("generated/test/ItemComponent_ScaffoldRebase.java");
+    assertTrue(Files.readString(generated).contains(
+        "component.itemName = io.github.kgress.scaffold.ComponentRebase.rebase("
+            + "component.itemName, parentSelector);"));
+  }
+
+  @Test
+  public void testProcess_privateField() {
+    var errors = compile("test.ItemComponent", ""
+        + "package test;"
+        + "import io.github.kgress.scaffold.*;"
+        + "@GenerateRebase "
+        + "public class ItemComponent extends BaseComponent {"
+        + "  private BaseWebElement itemName = new BaseWebElement();"
+        + "}");
+
+    assertError(errors, "can't rebase private or final field [itemName]");
+  }
+
+  @Test
+  public void testProcess_finalField() {
+    var errors = compile("test.ItemComponent", ""
+        + "package test;"
+        + "import io.github.kgress.scaffold.*;"
+        + "@GenerateRebase "
+        + "public class ItemComponent extends BaseComponent {"
+        + "  final BaseWebElement itemName = new BaseWebElement();"
+        + "}");
+
+    assertError(errors, "can't rebase private or final field [itemName]");
+  }
+
+  @Test
+  public void testProcess_innerClass() {
+    var errors = compile("test.ItemPage", ""
+        + "package test;"
+        + "import io.github.kgress.scaffold.*;"
+        + "public class ItemPage {"
+        + "  @GenerateRebase "
+        + "  public class ItemComponent extends BaseComponent {"
+        + "    BaseWebElement itemName = new BaseWebElement();"
+        + "  }"
+        + "}");
+
+    assertError(errors, "can't rebase a component in an inner class");
+  }
+
+  @Test
+  public void testProcess_abstractComponent() {
+    var errors = compile("test.ItemComponent", ""
+        + "package test;"
+        + "import io.github.kgress.scaffold.*;"
+        + "@GenerateRebase "
+        + "public abstract class ItemComponent extends BaseComponent {"
+        + "  BaseWebElement itemName = new BaseWebElement();"
+        + "}");
+
+    assertError(errors, "can't be used on an abstract component");
+  }
+
+  /**
+   * Compiles a component with the processor.
+   *
+   * @param className the qualified name of the component's class
+   * @param code      the source of the component
+   * @return the messages of the errors raised during compilation
+   */
+  private List<String> compile(String className, String code) {
+    var compiler = ToolProvider.getSystemJavaCompiler();
+    var diagnostics = new DiagnosticCollector<JavaFileObject>();
+    try (var fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, null)) {
+      fileManager.setLocation(StandardLocation.CLASS_OUTPUT,
+          List.of(Files.createDirectories(tempDir.resolve("classes")).toFile()));
+      fileManager.setLocation(StandardLocation.SOURCE_OUTPUT,
+          List.of(Files.createDirectories(tempDir.resolve("generated")).toFile()));
+      var sources = new ArrayList<>(FRAMEWORK_SOURCES);
+      sources.add(source(className, code));
+      var task = compiler.getTask(null, fileManager, diagnostics, List.of("-proc:only"), null,
+          sources);
+      task.setProcessors(List.of(new ComponentRebaseProcessor()));
+      task.call();
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+    return diagnostics.getDiagnostics().stream()
+        .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+        .map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+        .collect(Collectors.toList());
+  }
+
+  private void assertError(List<String> errors, String expected) {
+    assertFalse(errors.isEmpty());
+    assertTrue(errors.stream().anyMatch(error -> error.contains(expected)), errors.toString());
+    assertFalse(Files.exists(tempDir.resolve("generated/test/ItemComponent_ScaffoldRebase.java")));
+  }
+
+  private static JavaFileObject source(String className, String code) {
+    return new SimpleJavaFileObject(URI.create(String.format("string:///%s%s",
+        className.replace('.', '/'), JavaFileObject.Kind.SOURCE.extension)),
+        JavaFileObject.Kind.SOURCE) {
+      @Override
+      public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+        return code;
+      }
+    };
+  }
+}